@@ -0,0 +1,98 @@
+package org.diverproject.scarlet.benchmark;
+
+import org.diverproject.scarlet.stream.buffer.BufferFactory;
+import org.diverproject.scarlet.stream.buffer.BufferInput;
+import org.diverproject.scarlet.stream.buffer.BufferOutput;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArrayBenchmark {
+
+	@Param({"16", "1024", "65536"})
+	private int length;
+
+	private byte[] bytes;
+	private int[] ints;
+	private long[] longs;
+	private BufferOutput bufferOutput;
+	private BufferInput bufferInput;
+
+	@Setup
+	public void setup() {
+		Random random = new Random(this.length);
+
+		this.bytes = new byte[this.length];
+		this.ints = random.ints(this.length).toArray();
+		this.longs = random.longs(this.length).toArray();
+		random.nextBytes(this.bytes);
+
+		this.bufferOutput = BufferFactory.outputOf(this.length * Long.BYTES);
+		this.bufferInput = BufferFactory.inputOf(new byte[this.length * Long.BYTES]);
+	}
+
+	@Benchmark
+	public BufferOutput putBytes() {
+		this.bufferOutput.reset();
+		this.bufferOutput.put(this.bytes);
+
+		return this.bufferOutput;
+	}
+
+	@Benchmark
+	public BufferOutput putInts() {
+		this.bufferOutput.reset();
+		this.bufferOutput.put(this.ints);
+
+		return this.bufferOutput;
+	}
+
+	@Benchmark
+	public BufferOutput putLongs() {
+		this.bufferOutput.reset();
+		this.bufferOutput.put(this.longs);
+
+		return this.bufferOutput;
+	}
+
+	@Benchmark
+	public byte[] getBytes() {
+		this.bufferInput.reset();
+		this.bufferInput.getBytes(this.bytes);
+
+		return this.bytes;
+	}
+
+	@Benchmark
+	public int[] getInts() {
+		this.bufferInput.reset();
+		this.bufferInput.getInts(this.ints);
+
+		return this.ints;
+	}
+
+	@Benchmark
+	public long[] getLongs() {
+		this.bufferInput.reset();
+		this.bufferInput.getLongs(this.longs);
+
+		return this.longs;
+	}
+}
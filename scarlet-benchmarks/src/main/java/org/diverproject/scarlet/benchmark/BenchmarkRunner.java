@@ -0,0 +1,25 @@
+package org.diverproject.scarlet.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+public class BenchmarkRunner {
+
+	public static final String DEFAULT_INCLUDE = "org\\.diverproject\\.scarlet\\.benchmark\\..*";
+	public static final String DEFAULT_RESULT = "target/jmh-result.json";
+
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder()
+			.include(args.length > 0 ? args[0] : DEFAULT_INCLUDE)
+			.addProfiler(GCProfiler.class)
+			.resultFormat(ResultFormatType.JSON)
+			.result(args.length > 1 ? args[1] : DEFAULT_RESULT)
+			.build();
+
+		new Runner(options).run();
+	}
+}
@@ -0,0 +1,67 @@
+package org.diverproject.scarlet.benchmark;
+
+import org.diverproject.scarlet.stream.buffer.BufferFactory;
+import org.diverproject.scarlet.stream.buffer.BufferInput;
+import org.diverproject.scarlet.stream.buffer.BufferOutput;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FileBenchmark {
+
+	@Param({"4096", "1048576"})
+	private int length;
+
+	private File file;
+	private byte[] bytes;
+	private BufferOutput bufferOutput;
+
+	@Setup
+	public void setup() throws IOException {
+		this.bytes = new byte[this.length];
+		new Random(this.length).nextBytes(this.bytes);
+
+		this.file = File.createTempFile("scarlet-benchmark", ".bin");
+		Files.write(this.file.toPath(), this.bytes);
+
+		this.bufferOutput = BufferFactory.dynamicOutputOf(this.length);
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(this.file.toPath());
+	}
+
+	@Benchmark
+	public BufferInput inputOfFile() {
+		return BufferFactory.inputOf(this.file);
+	}
+
+	@Benchmark
+	public byte[] flush() {
+		this.bufferOutput.put(this.bytes);
+
+		return this.bufferOutput.flush();
+	}
+}
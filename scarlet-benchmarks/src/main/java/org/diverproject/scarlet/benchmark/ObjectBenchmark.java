@@ -0,0 +1,101 @@
+package org.diverproject.scarlet.benchmark;
+
+import org.diverproject.scarlet.stream.ArraySize;
+import org.diverproject.scarlet.stream.StreamUtil;
+import org.diverproject.scarlet.stream.VarInt;
+import org.diverproject.scarlet.stream.buffer.BufferFactory;
+import org.diverproject.scarlet.stream.buffer.BufferInput;
+import org.diverproject.scarlet.stream.buffer.BufferOutput;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ObjectBenchmark {
+
+	private Message message;
+	private Message read;
+	private BufferOutput bufferOutput;
+	private BufferInput bufferInput;
+
+	@Setup
+	public void setup() {
+		this.message = new Message();
+		this.message.id = 42;
+		this.message.timestamp = System.currentTimeMillis();
+		this.message.sequence = 1000;
+		this.message.name = "message";
+		this.message.values = new int[] {1, 2, 3, 4, 5, 6, 7, 8};
+		this.message.position = new Position();
+		this.message.position.x = 1.5F;
+		this.message.position.y = 2.5F;
+
+		this.read = new Message();
+		this.read.values = new int[8];
+		this.bufferOutput = BufferFactory.outputOf(256);
+
+		BufferOutput messageOutput = BufferFactory.dynamicOutputOf(256);
+		messageOutput.put(this.message);
+		this.bufferInput = BufferFactory.inputOf(messageOutput.flush());
+	}
+
+	@Benchmark
+	public BufferOutput putObject() {
+		this.bufferOutput.reset();
+		this.bufferOutput.put(this.message);
+
+		return this.bufferOutput;
+	}
+
+	@Benchmark
+	public Message getObject() {
+		this.bufferInput.reset();
+
+		return this.bufferInput.getObject(Message.class);
+	}
+
+	@Benchmark
+	public Message getObjectInto() {
+		this.bufferInput.reset();
+		this.bufferInput.getObject(this.read);
+
+		return this.read;
+	}
+
+	@Benchmark
+	public int sizeOf() {
+		return StreamUtil.sizeOf(this.message);
+	}
+
+	public static class Message {
+
+		private int id;
+		private long timestamp;
+		@VarInt
+		private int sequence;
+		private String name;
+		@ArraySize(size = 8)
+		private int[] values;
+		private Position position;
+	}
+
+	public static class Position {
+
+		private float x;
+		private float y;
+	}
+}
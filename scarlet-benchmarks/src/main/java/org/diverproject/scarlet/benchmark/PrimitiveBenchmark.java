@@ -0,0 +1,120 @@
+package org.diverproject.scarlet.benchmark;
+
+import org.diverproject.scarlet.stream.buffer.BufferFactory;
+import org.diverproject.scarlet.stream.buffer.BufferInput;
+import org.diverproject.scarlet.stream.buffer.BufferOutput;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveBenchmark {
+
+	private static final int VALUES = 1024;
+
+	private BufferOutput bufferOutput;
+	private BufferInput bufferInput;
+
+	@Setup
+	public void setup() {
+		this.bufferOutput = BufferFactory.outputOf(VALUES * Long.BYTES);
+		this.bufferInput = BufferFactory.inputOf(new byte[VALUES * Long.BYTES]);
+	}
+
+	@Benchmark
+	public BufferOutput putByte() {
+		this.bufferOutput.reset();
+
+		for (int i = 0; i < VALUES; i++)
+			this.bufferOutput.put((byte) i);
+
+		return this.bufferOutput;
+	}
+
+	@Benchmark
+	public BufferOutput putShort() {
+		this.bufferOutput.reset();
+
+		for (int i = 0; i < VALUES; i++)
+			this.bufferOutput.put((short) i);
+
+		return this.bufferOutput;
+	}
+
+	@Benchmark
+	public BufferOutput putInt() {
+		this.bufferOutput.reset();
+
+		for (int i = 0; i < VALUES; i++)
+			this.bufferOutput.put(i);
+
+		return this.bufferOutput;
+	}
+
+	@Benchmark
+	public BufferOutput putLong() {
+		this.bufferOutput.reset();
+
+		for (int i = 0; i < VALUES; i++)
+			this.bufferOutput.put((long) i);
+
+		return this.bufferOutput;
+	}
+
+	@Benchmark
+	public BufferOutput putVarInt() {
+		this.bufferOutput.reset();
+
+		for (int i = 0; i < VALUES; i++)
+			this.bufferOutput.putVarInt(i * 31);
+
+		return this.bufferOutput;
+	}
+
+	@Benchmark
+	public void getByte(Blackhole blackhole) {
+		this.bufferInput.reset();
+
+		for (int i = 0; i < VALUES; i++)
+			blackhole.consume(this.bufferInput.getByte());
+	}
+
+	@Benchmark
+	public void getShort(Blackhole blackhole) {
+		this.bufferInput.reset();
+
+		for (int i = 0; i < VALUES; i++)
+			blackhole.consume(this.bufferInput.getShort());
+	}
+
+	@Benchmark
+	public void getInt(Blackhole blackhole) {
+		this.bufferInput.reset();
+
+		for (int i = 0; i < VALUES; i++)
+			blackhole.consume(this.bufferInput.getInt());
+	}
+
+	@Benchmark
+	public void getLong(Blackhole blackhole) {
+		this.bufferInput.reset();
+
+		for (int i = 0; i < VALUES; i++)
+			blackhole.consume(this.bufferInput.getLong());
+	}
+}
@@ -0,0 +1,77 @@
+package org.diverproject.scarlet.benchmark;
+
+import org.diverproject.scarlet.stream.buffer.BufferFactory;
+import org.diverproject.scarlet.stream.buffer.BufferInput;
+import org.diverproject.scarlet.stream.buffer.BufferOutput;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringBenchmark {
+
+	@Param({"scarlet", "scarlet stream library with ação and 文字"})
+	private String value;
+
+	private BufferOutput bufferOutput;
+	private BufferInput stringInput;
+	private BufferInput utf8Input;
+
+	@Setup
+	public void setup() {
+		this.bufferOutput = BufferFactory.outputOf(256);
+
+		BufferOutput stringOutput = BufferFactory.dynamicOutputOf(256);
+		stringOutput.put(this.value);
+		this.stringInput = BufferFactory.inputOf(stringOutput.flush());
+
+		BufferOutput utf8Output = BufferFactory.dynamicOutputOf(256);
+		utf8Output.putUtf8(this.value);
+		this.utf8Input = BufferFactory.inputOf(utf8Output.flush());
+	}
+
+	@Benchmark
+	public BufferOutput putString() {
+		this.bufferOutput.reset();
+		this.bufferOutput.put(this.value);
+
+		return this.bufferOutput;
+	}
+
+	@Benchmark
+	public BufferOutput putUtf8() {
+		this.bufferOutput.reset();
+		this.bufferOutput.putUtf8(this.value);
+
+		return this.bufferOutput;
+	}
+
+	@Benchmark
+	public String getString() {
+		this.stringInput.reset();
+
+		return this.stringInput.getString();
+	}
+
+	@Benchmark
+	public String getUtf8() {
+		this.utf8Input.reset();
+
+		return this.utf8Input.getUtf8();
+	}
+}
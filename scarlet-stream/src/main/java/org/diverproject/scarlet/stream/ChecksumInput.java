@@ -0,0 +1,22 @@
+package org.diverproject.scarlet.stream;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
+
+@Data
+@Accessors(chain = true)
+@EqualsAndHashCode(callSuper = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChecksumInput extends DefaultInput {
+
+	private ChecksumReader checksumReader;
+
+	@Override
+	protected Reader getReader() {
+		return this.getChecksumReader();
+	}
+}
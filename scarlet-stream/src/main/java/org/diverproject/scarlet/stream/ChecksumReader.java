@@ -0,0 +1,177 @@
+package org.diverproject.scarlet.stream;
+
+import static org.diverproject.scarlet.stream.language.StreamLanguage.GET_CHECKSUM_MISMATCH;
+import static org.diverproject.scarlet.stream.language.StreamLanguage.GET_UTF8_LENGTH;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.zip.CRC32C;
+import java.util.zip.Checksum;
+
+public class ChecksumReader implements Reader {
+
+	private final @Getter Reader reader;
+	private final @Getter Checksum checksum;
+	private final byte[] scratch = new byte[Long.BYTES];
+	private byte[] utf8 = new byte[64];
+
+	public ChecksumReader(Reader reader) {
+		this(reader, new CRC32C());
+	}
+
+	public ChecksumReader(Reader reader, Checksum checksum) {
+		this.reader = reader;
+		this.checksum = checksum;
+	}
+
+	public int value() {
+		return (int) this.checksum.getValue();
+	}
+
+	public void verifyChecksum() {
+		int expected = this.value();
+		int read = this.reader.readInt();
+		this.checksum.reset();
+
+		if (expected != read)
+			throw new StreamRuntimeException(GET_CHECKSUM_MISMATCH, expected, read);
+	}
+
+	@Override
+	public void invert() {
+		this.reader.invert();
+	}
+
+	@Override
+	public byte read() {
+		byte value = this.reader.read();
+		this.checksum.update(value);
+
+		return value;
+	}
+
+	@Override
+	public byte[] read(int count) {
+		byte[] bytes = this.reader.read(count);
+		this.update(bytes, 0, bytes.length);
+
+		return bytes;
+	}
+
+	@Override
+	public void read(byte[] bytes, int offset, int length) {
+		this.reader.read(bytes, offset, length);
+		this.update(bytes, offset, length);
+	}
+
+	@Override
+	public short readShort() {
+		short value = this.reader.readShort();
+		StreamUtil.put(this.scratch, 0, value, this.isInverted());
+		this.checksum.update(this.scratch, 0, Short.BYTES);
+
+		return value;
+	}
+
+	@Override
+	public int readInt() {
+		int value = this.reader.readInt();
+		StreamUtil.put(this.scratch, 0, value, this.isInverted());
+		this.checksum.update(this.scratch, 0, Integer.BYTES);
+
+		return value;
+	}
+
+	@Override
+	public long readLong() {
+		long value = this.reader.readLong();
+		StreamUtil.put(this.scratch, 0, value, this.isInverted());
+		this.checksum.update(this.scratch, 0, Long.BYTES);
+
+		return value;
+	}
+
+	@Override
+	public String readUtf8(StringCache stringCache) {
+		int length = this.readVarInt();
+
+		if (length < 0)
+			throw new StreamRuntimeException(GET_UTF8_LENGTH, length, this.capacity() - this.offset());
+
+		for (int read = 0; read < length; ) {
+			if (read == this.utf8.length)
+				this.utf8 = Arrays.copyOf(this.utf8, (int) Math.min(length, 2L * read));
+
+			int count = Math.min(this.utf8.length, length) - read;
+			this.reader.read(this.utf8, read, count);
+
+			if (this.isInverted())
+				reverse(this.utf8, read, count);
+
+			this.checksum.update(this.utf8, read, count);
+			read += count;
+		}
+
+		return stringCache == null ? StreamUtil.utf8Of(this.utf8, 0, length) : stringCache.get(this.utf8, 0, length);
+	}
+
+	@Override
+	public boolean isInverted() {
+		return this.reader.isInverted();
+	}
+
+	private void update(byte[] bytes, int offset, int length) {
+		if (!this.isInverted()) {
+			this.checksum.update(bytes, offset, length);
+			return;
+		}
+
+		for (int i = offset + length - 1; i >= offset; i--)
+			this.checksum.update(bytes[i]);
+	}
+
+	private static void reverse(byte[] bytes, int offset, int length) {
+		for (int i = offset, j = offset + length - 1; i < j; i++, j--) {
+			byte swap = bytes[i];
+			bytes[i] = bytes[j];
+			bytes[j] = swap;
+		}
+	}
+
+	@Override
+	public boolean isClosed() {
+		return this.reader.isClosed();
+	}
+
+	@Override
+	public boolean isFull() {
+		return this.reader.isFull();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return this.reader.isEmpty();
+	}
+
+	@Override
+	public int capacity() {
+		return this.reader.capacity();
+	}
+
+	@Override
+	public int offset() {
+		return this.reader.offset();
+	}
+
+	@Override
+	public void reset() {
+		this.reader.reset();
+		this.checksum.reset();
+	}
+
+	@Override
+	public void close() {
+		this.reader.close();
+	}
+}
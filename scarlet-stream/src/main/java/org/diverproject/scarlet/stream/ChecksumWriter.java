@@ -0,0 +1,153 @@
+package org.diverproject.scarlet.stream;
+
+import lombok.Getter;
+
+import java.util.zip.CRC32C;
+import java.util.zip.Checksum;
+
+public class ChecksumWriter implements Writer {
+
+	private final @Getter Writer writer;
+	private final @Getter Checksum checksum;
+	private final byte[] scratch = new byte[Long.BYTES];
+	private byte[] utf8 = new byte[64];
+
+	public ChecksumWriter(Writer writer) {
+		this(writer, new CRC32C());
+	}
+
+	public ChecksumWriter(Writer writer, Checksum checksum) {
+		this.writer = writer;
+		this.checksum = checksum;
+	}
+
+	public int value() {
+		return (int) this.checksum.getValue();
+	}
+
+	public void putChecksum() {
+		this.writer.writeInt(this.value());
+		this.checksum.reset();
+	}
+
+	@Override
+	public void invert() {
+		this.writer.invert();
+	}
+
+	@Override
+	public void write(byte value) {
+		this.writer.write(value);
+		this.checksum.update(value);
+	}
+
+	@Override
+	public void write(byte[] values) {
+		this.writer.write(values);
+		this.update(values, 0, values.length);
+	}
+
+	@Override
+	public void write(byte[] values, int offset, int length) {
+		this.writer.write(values, offset, length);
+		this.update(values, offset, length);
+	}
+
+	@Override
+	public void writeShort(short value) {
+		this.writer.writeShort(value);
+		StreamUtil.put(this.scratch, 0, value, this.isInverted());
+		this.checksum.update(this.scratch, 0, Short.BYTES);
+	}
+
+	@Override
+	public void writeInt(int value) {
+		this.writer.writeInt(value);
+		StreamUtil.put(this.scratch, 0, value, this.isInverted());
+		this.checksum.update(this.scratch, 0, Integer.BYTES);
+	}
+
+	@Override
+	public void writeLong(long value) {
+		this.writer.writeLong(value);
+		StreamUtil.put(this.scratch, 0, value, this.isInverted());
+		this.checksum.update(this.scratch, 0, Long.BYTES);
+	}
+
+	@Override
+	public void writeUtf8(String value) {
+		int length = StreamUtil.utf8Length(value);
+
+		int size = StreamUtil.varIntSize(length) + length;
+
+		if (this.utf8.length < size)
+			this.utf8 = new byte[Math.max(size, this.utf8.length * 2)];
+
+		int end = StreamUtil.putUtf8(this.utf8, StreamUtil.putVarInt(this.utf8, 0, length), value);
+		this.checksum.update(this.utf8, 0, end);
+
+		if (this.isInverted())
+			reverse(this.utf8, 0, end);
+
+		this.writer.write(this.utf8, 0, end);
+	}
+
+	@Override
+	public boolean isInverted() {
+		return this.writer.isInverted();
+	}
+
+	private void update(byte[] values, int offset, int length) {
+		if (!this.isInverted()) {
+			this.checksum.update(values, offset, length);
+			return;
+		}
+
+		for (int i = offset + length - 1; i >= offset; i--)
+			this.checksum.update(values[i]);
+	}
+
+	private static void reverse(byte[] bytes, int offset, int length) {
+		for (int i = offset, j = offset + length - 1; i < j; i++, j--) {
+			byte swap = bytes[i];
+			bytes[i] = bytes[j];
+			bytes[j] = swap;
+		}
+	}
+
+	@Override
+	public boolean isClosed() {
+		return this.writer.isClosed();
+	}
+
+	@Override
+	public boolean isFull() {
+		return this.writer.isFull();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return this.writer.isEmpty();
+	}
+
+	@Override
+	public int capacity() {
+		return this.writer.capacity();
+	}
+
+	@Override
+	public int offset() {
+		return this.writer.offset();
+	}
+
+	@Override
+	public void reset() {
+		this.writer.reset();
+		this.checksum.reset();
+	}
+
+	@Override
+	public void close() {
+		this.writer.close();
+	}
+}
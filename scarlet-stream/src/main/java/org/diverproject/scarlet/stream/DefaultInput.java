@@ -1,16 +1,15 @@
 package org.diverproject.scarlet.stream;
 
-import static org.diverproject.scarlet.stream.language.StreamLanguage.GET_OBJECT_CONSTRUCTOR;
-import static org.diverproject.scarlet.stream.language.StreamLanguage.GET_OBJECT_FIELD_SET;
-import static org.diverproject.scarlet.stream.language.StreamLanguage.GET_OBJECT_INSTANCE;
+import static org.diverproject.scarlet.stream.language.StreamLanguage.GET_CHECKSUM;
 
 import lombok.NoArgsConstructor;
+import org.diverproject.scarlet.util.Bitwise;
+import org.diverproject.scarlet.util.Bitwise16;
+import org.diverproject.scarlet.util.Bitwise64;
+import org.diverproject.scarlet.util.Bitwise8;
 
 import java.lang.reflect.Array;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
-import java.util.function.Supplier;
+import java.util.BitSet;
 
 @NoArgsConstructor
 public abstract class DefaultInput implements Input {
@@ -37,13 +36,12 @@ public abstract class DefaultInput implements Input {
 
 	@Override
 	public void getBytes(byte[] bytes) {
-		for (int i = 0; i < bytes.length; i++)
-			bytes[i] = this.getByte();
+		this.getReader().read(bytes, 0, bytes.length);
 	}
 
 	@Override
 	public short getShort() {
-		return StreamUtil.shortOf(this.getReader().read(Short.BYTES));
+		return this.getReader().readShort();
 	}
 
 	@Override
@@ -62,7 +60,7 @@ public abstract class DefaultInput implements Input {
 
 	@Override
 	public int getInt() {
-		return StreamUtil.intOf(this.getReader().read(Integer.BYTES));
+		return this.getReader().readInt();
 	}
 
 	@Override
@@ -81,7 +79,7 @@ public abstract class DefaultInput implements Input {
 
 	@Override
 	public long getLong() {
-		return StreamUtil.longOf(this.getReader().read(Long.BYTES));
+		return this.getReader().readLong();
 	}
 
 	@Override
@@ -98,9 +96,29 @@ public abstract class DefaultInput implements Input {
 			longs[i] = this.getLong();
 	}
 
+	@Override
+	public int getVarInt() {
+		return this.getReader().readVarInt();
+	}
+
+	@Override
+	public long getVarLong() {
+		return this.getReader().readVarLong();
+	}
+
+	@Override
+	public int getZigZagInt() {
+		return StreamUtil.unZigZag(this.getReader().readVarInt());
+	}
+
+	@Override
+	public long getZigZagLong() {
+		return StreamUtil.unZigZag(this.getReader().readVarLong());
+	}
+
 	@Override
 	public float getFloat() {
-		return StreamUtil.floatOf(this.getReader().read(Float.BYTES));
+		return this.getReader().readFloat();
 	}
 
 	@Override
@@ -119,7 +137,7 @@ public abstract class DefaultInput implements Input {
 
 	@Override
 	public double getDouble() {
-		return StreamUtil.doubleOf(this.getReader().read(Double.BYTES));
+		return this.getReader().readDouble();
 	}
 
 	@Override
@@ -155,6 +173,53 @@ public abstract class DefaultInput implements Input {
 			booleans[i] = this.getBoolean();
 	}
 
+	@Override
+	public boolean[] getBits(int length) {
+		boolean[] values = new boolean[length];
+		this.getBits(values);
+
+		return values;
+	}
+
+	@Override
+	public void getBits(boolean[] values) {
+		for (int offset = 0; offset < values.length; offset += Long.SIZE) {
+			int count = Math.min(Long.SIZE, values.length - offset);
+			StreamUtil.unpackBits(this.getWord(count), values, offset, count);
+		}
+	}
+
+	@Override
+	public BitSet getBitSet() {
+		int length = this.getVarInt();
+		long[] words = new long[(length + Long.SIZE - 1) / Long.SIZE];
+
+		for (int i = 0; i < words.length; i++)
+			words[i] = this.getWord(Math.min(Long.SIZE, length - i * Long.SIZE));
+
+		return BitSet.valueOf(words);
+	}
+
+	@Override
+	public Bitwise getBitwise() {
+		return new Bitwise(this.getInt());
+	}
+
+	@Override
+	public Bitwise8 getBitwise8() {
+		return new Bitwise8(this.getByte());
+	}
+
+	@Override
+	public Bitwise16 getBitwise16() {
+		return new Bitwise16(this.getShort());
+	}
+
+	@Override
+	public Bitwise64 getBitwise64() {
+		return new Bitwise64(this.getLong());
+	}
+
 	@Override
 	public char getChar() {
 		return (char) this.getShort();
@@ -213,25 +278,18 @@ public abstract class DefaultInput implements Input {
 	}
 
 	@Override
-	public <D> D getObject(Class<D> objectClass) {
-		try {
-
-			Constructor<D> constructor = objectClass.getConstructor();
-
-			try {
-
-				D object = constructor.newInstance();
-				this.getObject(object);
-
-				return object;
+	public String getUtf8() {
+		return this.getReader().readUtf8();
+	}
 
-			} catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
-				throw new StreamRuntimeException(e, GET_OBJECT_CONSTRUCTOR, objectClass.getName());
-			}
+	@Override
+	public String getUtf8(StringCache stringCache) {
+		return this.getReader().readUtf8(stringCache);
+	}
 
-		} catch (NoSuchMethodException e) {
-			throw new StreamRuntimeException(e, GET_OBJECT_INSTANCE, objectClass.getName());
-		}
+	@Override
+	public <D> D getObject(Class<D> objectClass) {
+		return ObjectCodec.of(objectClass).read(this);
 	}
 
 	@Override
@@ -246,47 +304,9 @@ public abstract class DefaultInput implements Input {
 	}
 
 	@Override
+	@SuppressWarnings("unchecked")
 	public <D> void getObject(D object) {
-		StreamField streamField = new StreamField().of(object);
-
-		for (Field field : object.getClass().getDeclaredFields()) {
-			try {
-				field.setAccessible(true);
-				{
-					streamField.setField(field).reset();
-
-					if (field.getType().isArray()) {
-						streamField
-							.is(Byte[].class, Byte.TYPE).thenDo((c) -> this.getBytes((byte[]) c))
-							.is(Short[].class, Short.TYPE).thenDo((c) -> this.getShorts((short[]) c))
-							.is(Integer[].class, Integer.TYPE).thenDo((c) -> this.getInts((int[]) c))
-							.is(Long[].class, Long.TYPE).thenDo((c) -> this.getLongs((long[]) c))
-							.is(Float[].class, Float.TYPE).thenDo((c) -> this.getFloats((float[]) c))
-							.is(Double[].class, Double.TYPE).thenDo((c) -> this.getDoubles((double[]) c))
-							.is(Boolean[].class, Boolean.TYPE).thenDo((c) -> this.getBooleans((boolean[]) c))
-							.is(Character[].class).thenDo((c) -> this.getChars((char[]) c))
-							.is(String[].class).thenDo((c) -> this.getStrings((String[]) c));
-					} else {
-						streamField
-							.is(Byte.class, Byte.TYPE).thenDo(this::getByte)
-							.is(Short.class, Short.TYPE).thenDo(this::getShort)
-							.is(Integer.class, Integer.TYPE).thenDo(this::getInt)
-							.is(Long.class, Long.TYPE).thenDo(this::getLong)
-							.is(Float.class, Float.TYPE).thenDo(this::getFloat)
-							.is(Double.class, Double.TYPE).thenDo(this::getDouble)
-							.is(Boolean.class, Boolean.TYPE).thenDo(this::getBoolean)
-							.is(Character.class, Character.TYPE).thenDo(this::getChar)
-							.is(String.class).thenDo((Supplier<String>) this::getString)
-							.is(Object.class).thenDo(() -> {
-							return this.getBoolean() ? this.getObject(field.getType()) : null;
-						});
-					}
-				}
-				field.setAccessible(false);
-			} catch (IllegalAccessException e) {
-				throw new StreamRuntimeException(e, GET_OBJECT_FIELD_SET, object.getClass().getName(), field.getName());
-			}
-		}
+		ObjectCodec.of((Class<D>) object.getClass()).read(this, object);
 	}
 
 	@Override
@@ -295,6 +315,28 @@ public abstract class DefaultInput implements Input {
 			this.getObject(object);
 	}
 
+	@Override
+	public void verifyChecksum() {
+		if (!(this.getReader() instanceof ChecksumReader))
+			throw new StreamRuntimeException(GET_CHECKSUM);
+
+		((ChecksumReader) this.getReader()).verifyChecksum();
+	}
+
+	private long getWord(int bits) {
+		if (bits == Long.SIZE) {
+			long word = this.getLong();
+			return this.isInverted() ? word : Long.reverseBytes(word);
+		}
+
+		long word = 0;
+
+		for (int i = 0; i < bits; i += Byte.SIZE)
+			word |= (this.getByte() & 0xFFL) << i;
+
+		return word;
+	}
+
 	@Override
 	public boolean isInverted() {
 		return this.getReader().isInverted();
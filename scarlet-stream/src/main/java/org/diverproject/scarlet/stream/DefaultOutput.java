@@ -1,15 +1,19 @@
 package org.diverproject.scarlet.stream;
 
-import static org.diverproject.scarlet.stream.language.StreamLanguage.GET_OBJECT_FIELD_SET;
+import static org.diverproject.scarlet.stream.language.StreamLanguage.PUT_CHECKSUM;
 import static org.diverproject.scarlet.stream.language.StreamLanguage.PUT_OBJECT_NULL;
 import static org.diverproject.scarlet.stream.language.StreamLanguage.PUT_STRING_LENGTH;
 
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.diverproject.scarlet.util.Bitwise;
+import org.diverproject.scarlet.util.Bitwise16;
+import org.diverproject.scarlet.util.Bitwise64;
+import org.diverproject.scarlet.util.Bitwise8;
 
-import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Optional;
-import java.util.function.Consumer;
 
 @Data
 @NoArgsConstructor
@@ -34,40 +38,57 @@ public abstract class DefaultOutput implements Output {
 
 	@Override
 	public void put(short value) {
-		this.getWriter().write(StreamUtil.bytesOf(value));
+		this.getWriter().writeShort(value);
 	}
 
 	@Override
 	public void put(short[] values) {
-		for (short value : values)
-			this.put(value);
+		this.getWriter().writeShorts(values);
 	}
 
 	@Override
 	public void put(int value) {
-		this.getWriter().write(StreamUtil.bytesOf(value));
+		this.getWriter().writeInt(value);
 	}
 
 	@Override
 	public void put(int[] values) {
-		for (int value : values)
-			this.put(value);
+		this.getWriter().writeInts(values);
 	}
 
 	@Override
 	public void put(long value) {
-		this.getWriter().write(StreamUtil.bytesOf(value));
+		this.getWriter().writeLong(value);
 	}
 
 	@Override
 	public void put(long[] values) {
-		for (long value : values)
-			this.put(value);
+		this.getWriter().writeLongs(values);
+	}
+
+	@Override
+	public void putVarInt(int value) {
+		this.getWriter().writeVarInt(value);
+	}
+
+	@Override
+	public void putVarLong(long value) {
+		this.getWriter().writeVarLong(value);
+	}
+
+	@Override
+	public void putZigZagInt(int value) {
+		this.getWriter().writeVarInt(StreamUtil.zigZag(value));
+	}
+
+	@Override
+	public void putZigZagLong(long value) {
+		this.getWriter().writeVarLong(StreamUtil.zigZag(value));
 	}
 
 	@Override
 	public void put(float value) {
-		this.getWriter().write(StreamUtil.bytesOf(value));
+		this.getWriter().writeFloat(value);
 	}
 
 	@Override
@@ -78,7 +99,7 @@ public abstract class DefaultOutput implements Output {
 
 	@Override
 	public void put(double value) {
-		this.getWriter().write(StreamUtil.bytesOf(value));
+		this.getWriter().writeDouble(value);
 	}
 
 	@Override
@@ -99,9 +120,47 @@ public abstract class DefaultOutput implements Output {
 
 	}
 
+	@Override
+	public void putBits(boolean[] values) {
+		for (int offset = 0; offset < values.length; offset += Long.SIZE) {
+			int count = Math.min(Long.SIZE, values.length - offset);
+			this.putWord(StreamUtil.packBits(values, offset, count), count);
+		}
+	}
+
+	@Override
+	public void putBits(BitSet bitSet) {
+		int length = bitSet.length();
+		long[] words = bitSet.toLongArray();
+		this.putVarInt(length);
+
+		for (int i = 0; i < words.length; i++)
+			this.putWord(words[i], Math.min(Long.SIZE, length - i * Long.SIZE));
+	}
+
+	@Override
+	public void put(Bitwise value) {
+		this.put(value == null ? 0 : value.getValue());
+	}
+
+	@Override
+	public void put(Bitwise8 value) {
+		this.put(value == null ? 0 : value.getValue());
+	}
+
+	@Override
+	public void put(Bitwise16 value) {
+		this.put(value == null ? 0 : value.getValue());
+	}
+
+	@Override
+	public void put(Bitwise64 value) {
+		this.put(value == null ? 0L : value.getValue());
+	}
+
 	@Override
 	public void put(char value) {
-		this.getWriter().write(StreamUtil.bytesOf(value));
+		this.getWriter().writeShort((short) value);
 	}
 
 	@Override
@@ -112,13 +171,18 @@ public abstract class DefaultOutput implements Output {
 
 	@Override
 	public void put(String value) {
-		value = Optional.ofNullable(value).orElse("");
+		byte[] bytes = Optional.ofNullable(value).orElse("").getBytes();
+
+		if (bytes.length > 255)
+			throw new StreamRuntimeException(PUT_STRING_LENGTH, bytes.length);
 
-		if (value.length() > 255)
-			throw new StreamRuntimeException(PUT_STRING_LENGTH, value.length());
+		this.getWriter().write((byte) bytes.length);
+		this.getWriter().write(bytes);
+	}
 
-		this.getWriter().write((byte) value.length());
-		this.getWriter().write(value.getBytes());
+	@Override
+	public void putUtf8(String value) {
+		this.getWriter().writeUtf8(Optional.ofNullable(value).orElse(""));
 	}
 
 	@Override
@@ -128,52 +192,24 @@ public abstract class DefaultOutput implements Output {
 	}
 
 	@Override
+	public void put(String value, int size) {
+		byte[] bytes = Optional.ofNullable(value).orElse("").getBytes();
+		this.getWriter().write(Arrays.copyOf(bytes, size));
+	}
+
+	@Override
+	public void put(String[] values, int size) {
+		for (String value : values)
+			this.put(value, size);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
 	public void put(Object value) {
 		if (value == null)
 			throw new StreamRuntimeException(PUT_OBJECT_NULL);
 
-		StreamField streamField = new StreamField();
-
-		for (Field field : value.getClass().getDeclaredFields()) {
-			try {
-
-				field.setAccessible(true);
-				{
-					streamField.setField(field).of(value);
-
-					if (field.getType().isArray()) {
-						streamField
-							.is(Byte[].class).thenDo((v) -> this.put((byte[]) v))
-							.is(Short[].class).thenDo((v) -> this.put((short[]) v))
-							.is(Integer[].class).thenDo((v) -> this.put((int[]) v))
-							.is(Long[].class).thenDo((v) -> this.put((long[]) v))
-							.is(Float[].class).thenDo((v) -> this.put((float[]) v))
-							.is(Double[].class).thenDo((v) -> this.put((double[]) v))
-							.is(Boolean[].class).thenDo((v) -> this.put((boolean[]) v))
-							.is(Character[].class).thenDo((v) -> this.put((char[]) v))
-							.is(String[].class).thenDo((v) -> this.put((String[]) v))
-						;
-					} else {
-						streamField
-							.is(Byte.class).thenDo((v) -> this.put((byte) v))
-							.is(Short.class).thenDo((v) -> this.put((short) v))
-							.is(Integer.class).thenDo((v) -> this.put((int) v))
-							.is(Long.class).thenDo((v) -> this.put((long) v))
-							.is(Float.class).thenDo((v) -> this.put((float) v))
-							.is(Double.class).thenDo((v) -> this.put((double) v))
-							.is(Boolean.class).thenDo((v) -> this.put((boolean) v))
-							.is(Character.class).thenDo((v) -> this.put((char) v))
-							.is(String.class).thenDo((v) -> this.put((String) v))
-							.is(Object.class).thenDo((Consumer<Object>) this::put)
-						;
-					}
-				}
-				field.setAccessible(false);
-
-			} catch (IllegalAccessException e) {
-				throw new StreamRuntimeException(e, GET_OBJECT_FIELD_SET, value.getClass().getName(), field.getName());
-			}
-		}
+		ObjectCodec.of((Class<Object>) value.getClass()).write(this, value);
 	}
 
 	@Override
@@ -182,6 +218,24 @@ public abstract class DefaultOutput implements Output {
 			this.put(value);
 	}
 
+	@Override
+	public void putChecksum() {
+		if (!(this.getWriter() instanceof ChecksumWriter))
+			throw new StreamRuntimeException(PUT_CHECKSUM);
+
+		((ChecksumWriter) this.getWriter()).putChecksum();
+	}
+
+	private void putWord(long word, int bits) {
+		if (bits == Long.SIZE) {
+			this.getWriter().writeLong(this.isInverted() ? word : Long.reverseBytes(word));
+			return;
+		}
+
+		for (int i = 0; i < bits; i += Byte.SIZE, word >>>= Byte.SIZE)
+			this.getWriter().write((byte) word);
+	}
+
 	@Override
 	public boolean isInverted() {
 		return this.getWriter().isInverted();
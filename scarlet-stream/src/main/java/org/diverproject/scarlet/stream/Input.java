@@ -1,5 +1,12 @@
 package org.diverproject.scarlet.stream;
 
+import org.diverproject.scarlet.util.Bitwise;
+import org.diverproject.scarlet.util.Bitwise16;
+import org.diverproject.scarlet.util.Bitwise64;
+import org.diverproject.scarlet.util.Bitwise8;
+
+import java.util.BitSet;
+
 public interface Input extends Stream {
 	void invert();
 
@@ -15,6 +22,10 @@ public interface Input extends Stream {
 	long getLong();
 	long[] getLongs(int length);
 	void getLongs(long[] longs);
+	int getVarInt();
+	long getVarLong();
+	int getZigZagInt();
+	long getZigZagLong();
 	float getFloat();
 	float[] getFloats(int length);
 	void getFloats(float[] floats);
@@ -24,6 +35,13 @@ public interface Input extends Stream {
 	boolean getBoolean();
 	boolean[] getBooleans(int length);
 	void getBooleans(boolean[] booleans);
+	boolean[] getBits(int length);
+	void getBits(boolean[] values);
+	BitSet getBitSet();
+	Bitwise getBitwise();
+	Bitwise8 getBitwise8();
+	Bitwise16 getBitwise16();
+	Bitwise64 getBitwise64();
 	char getChar();
 	char[] getChars(int length);
 	void getChars(char[] chars);
@@ -33,10 +51,13 @@ public interface Input extends Stream {
 	String getString(int size);
 	String[] getStrings(int length, int size);
 	void getStrings(String[] strings, int size);
+	String getUtf8();
+	String getUtf8(StringCache stringCache);
 	<D> D getObject(Class<D> objectClass);
 	<D> D[] getObjects(Class<D> objectClass, int length);
 	<D> void getObject(D object);
 	<D> void getObjects(D[] objects);
+	void verifyChecksum();
 
 	boolean isInverted();
 }
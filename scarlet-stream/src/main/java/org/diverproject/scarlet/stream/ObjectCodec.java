@@ -0,0 +1,995 @@
+package org.diverproject.scarlet.stream;
+
+import static org.diverproject.scarlet.stream.language.StreamLanguage.GET_OBJECT_CONSTRUCTOR;
+import static org.diverproject.scarlet.stream.language.StreamLanguage.GET_OBJECT_INSTANCE;
+import static org.diverproject.scarlet.stream.language.StreamLanguage.OBJECT_CODEC_ACCESS;
+import static org.diverproject.scarlet.stream.language.StreamLanguage.OBJECT_CODEC_ARRAY;
+import static org.diverproject.scarlet.stream.language.StreamLanguage.OBJECT_CODEC_ENUM;
+import static org.diverproject.scarlet.stream.language.StreamLanguage.OBJECT_CODEC_FIELD;
+import static org.diverproject.scarlet.stream.language.StreamLanguage.OBJECT_CODEC_IO;
+import static org.diverproject.scarlet.stream.language.StreamLanguage.OBJECT_CODEC_OFFSET;
+import static org.diverproject.scarlet.stream.language.StreamLanguage.OBJECT_CODEC_PACKED;
+import static org.diverproject.scarlet.stream.language.StreamLanguage.OBJECT_CODEC_VAR_INT;
+import static org.diverproject.scarlet.stream.language.StreamLanguage.PUT_OBJECT_NULL;
+import static org.diverproject.scarlet.stream.language.StreamLanguage.PUT_STRING_LENGTH;
+import static org.diverproject.scarlet.stream.language.StreamLanguage.PUT_STRING_SIZE;
+
+import org.diverproject.scarlet.util.Bitwise;
+import org.diverproject.scarlet.util.Bitwise16;
+import org.diverproject.scarlet.util.Bitwise64;
+import org.diverproject.scarlet.util.Bitwise8;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntSupplier;
+
+public class ObjectCodec<D> {
+
+	public static final int VARIABLE_SIZE = -1;
+
+	private static final ClassValue<ObjectCodec<?>> CODECS = new ClassValue<>() {
+		@Override
+		protected ObjectCodec<?> computeValue(Class<?> objectClass) {
+			return new ObjectCodec<>(objectClass);
+		}
+	};
+
+	private static final ValueCodec STRING_CODEC = new ValueCodec(value -> stringSize((String) value), Input::getString, (output, value) -> output.put((String) value));
+
+	private static final Map<Class<?>, ValueCodec> BOXED_CODECS = Map.of(
+		Byte.class, new ValueCodec(Byte.BYTES, Input::getByte, (output, value) -> output.put(value == null ? 0 : (byte) value)),
+		Short.class, new ValueCodec(Short.BYTES, Input::getShort, (output, value) -> output.put(value == null ? 0 : (short) value)),
+		Integer.class, new ValueCodec(Integer.BYTES, Input::getInt, (output, value) -> output.put(value == null ? 0 : (int) value)),
+		Long.class, new ValueCodec(Long.BYTES, Input::getLong, (output, value) -> output.put(value == null ? 0L : (long) value)),
+		Float.class, new ValueCodec(Float.BYTES, Input::getFloat, (output, value) -> output.put(value == null ? 0F : (float) value)),
+		Double.class, new ValueCodec(Double.BYTES, Input::getDouble, (output, value) -> output.put(value == null ? 0D : (double) value)),
+		Boolean.class, new ValueCodec(Byte.BYTES, Input::getBoolean, (output, value) -> output.put(value != null && (boolean) value)),
+		Character.class, new ValueCodec(Character.BYTES, Input::getChar, (output, value) -> output.put(value == null ? (char) 0 : (char) value))
+	);
+
+	private final Class<D> objectClass;
+	private final MethodHandle constructor;
+	private final Field[] fields;
+	private final FieldCodec[] fieldCodecs;
+	private volatile Integer fixedSize;
+
+	private ObjectCodec(Class<D> objectClass) {
+		this.objectClass = objectClass;
+
+		try {
+
+			MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(objectClass, MethodHandles.lookup());
+			this.constructor = constructorOf(lookup, objectClass);
+			this.fields = fieldsOf(objectClass);
+			this.fieldCodecs = fieldCodecsOf(lookup, this.fields);
+
+		} catch (IllegalAccessException e) {
+			throw new StreamRuntimeException(e, OBJECT_CODEC_ACCESS, objectClass.getName());
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	public static <D> ObjectCodec<D> of(Class<D> objectClass) {
+		return (ObjectCodec<D>) CODECS.get(objectClass);
+	}
+
+	public Class<D> getObjectClass() {
+		return this.objectClass;
+	}
+
+	public boolean isFixedSize() {
+		return this.getFixedSize() != VARIABLE_SIZE;
+	}
+
+	public int getFixedSize() {
+		if (this.fixedSize == null) {
+			int size = 0;
+
+			for (FieldCodec fieldCodec : this.fieldCodecs) {
+				int fieldSize = fieldCodec.size();
+
+				if (fieldSize == VARIABLE_SIZE) {
+					size = VARIABLE_SIZE;
+					break;
+				}
+
+				size += fieldSize;
+			}
+
+			this.fixedSize = size;
+		}
+
+		return this.fixedSize;
+	}
+
+	public int offsetOf(String name) {
+		int separator = name.indexOf('.');
+		String fieldName = separator == -1 ? name : name.substring(0, separator);
+		int offset = 0;
+
+		for (int i = 0; i < this.fields.length; i++) {
+			Field field = this.fields[i];
+
+			if (field.getName().equals(fieldName)) {
+				if (separator == -1)
+					return offset;
+
+				if (!field.isAnnotationPresent(Predefined.class))
+					throw new StreamRuntimeException(OBJECT_CODEC_OFFSET, this.objectClass.getName(), name);
+
+				return offset + ObjectCodec.of(field.getType()).offsetOf(name.substring(separator + 1));
+			}
+
+			int size = this.fieldCodecs[i].size();
+
+			if (size == VARIABLE_SIZE)
+				throw new StreamRuntimeException(OBJECT_CODEC_OFFSET, this.objectClass.getName(), name);
+
+			offset += size;
+		}
+
+		throw new StreamRuntimeException(OBJECT_CODEC_FIELD, this.objectClass.getName(), name);
+	}
+
+	public int sizeOf(D object) {
+		if (this.isFixedSize())
+			return this.getFixedSize();
+
+		int size = 0;
+
+		for (FieldCodec fieldCodec : this.fieldCodecs)
+			size += fieldCodec.sizeOf(object);
+
+		return size;
+	}
+
+	public int sizeOf(D[] objects) {
+		if (this.isFixedSize())
+			return objects.length * this.getFixedSize();
+
+		int size = 0;
+
+		for (D object : objects)
+			size += this.sizeOf(object);
+
+		return size;
+	}
+
+	public D newInstance() {
+		if (this.constructor == null)
+			throw new StreamRuntimeException(GET_OBJECT_CONSTRUCTOR, this.objectClass.getName());
+
+		try {
+			return this.objectClass.cast(this.constructor.invokeExact());
+		} catch (Throwable e) {
+			throw new StreamRuntimeException(new Exception(e), GET_OBJECT_INSTANCE, this.objectClass.getName());
+		}
+	}
+
+	public D read(Input input) {
+		D object = this.newInstance();
+		this.read(input, object);
+
+		return object;
+	}
+
+	public void read(Input input, D object) {
+		for (FieldCodec fieldCodec : this.fieldCodecs)
+			fieldCodec.read(input, object);
+	}
+
+	public void write(Output output, D object) {
+		for (FieldCodec fieldCodec : this.fieldCodecs)
+			fieldCodec.write(output, object);
+	}
+
+	private static MethodHandle constructorOf(MethodHandles.Lookup lookup, Class<?> objectClass) throws IllegalAccessException {
+		if (objectClass.isInterface() || objectClass.isArray() || objectClass.isPrimitive() || Modifier.isAbstract(objectClass.getModifiers()))
+			return null;
+
+		try {
+			return lookup.findConstructor(objectClass, MethodType.methodType(void.class)).asType(MethodType.methodType(Object.class));
+		} catch (NoSuchMethodException e) {
+			return null;
+		}
+	}
+
+	private static Field[] fieldsOf(Class<?> objectClass) {
+		List<Field> fields = new ArrayList<>();
+
+		for (Field field : objectClass.getDeclaredFields()) {
+			int modifiers = field.getModifiers();
+
+			if (!Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers) && !field.isSynthetic())
+				fields.add(field);
+		}
+
+		return fields.toArray(new Field[0]);
+	}
+
+	private static FieldCodec[] fieldCodecsOf(MethodHandles.Lookup lookup, Field[] fields) throws IllegalAccessException {
+		FieldCodec[] fieldCodecs = new FieldCodec[fields.length];
+
+		for (int i = 0; i < fields.length; i++)
+			fieldCodecs[i] = fieldCodecOf(fields[i], lookup.unreflectVarHandle(fields[i]));
+
+		return fieldCodecs;
+	}
+
+	private static FieldCodec fieldCodecOf(Field field, VarHandle handle) {
+		Class<?> type = field.getType();
+		ArraySize arraySize = field.getAnnotation(ArraySize.class);
+		int size = arraySize == null ? VARIABLE_SIZE : arraySize.size();
+
+		if (field.isAnnotationPresent(PredefinedIO.class))
+			return predefinedIOCodecOf(field, handle);
+
+		if (field.isAnnotationPresent(VarInt.class))
+			return varIntCodecOf(field, handle);
+
+		if (field.isAnnotationPresent(Packed.class) && type != boolean[].class)
+			throw new StreamRuntimeException(OBJECT_CODEC_PACKED, field.getDeclaringClass().getName(), field.getName());
+
+		if (type == byte.class)
+			return new FieldCodec(Byte.BYTES,
+				(input, object) -> handle.set(object, input.getByte()),
+				(output, object) -> output.put((byte) handle.get(object))
+			);
+
+		if (type == short.class)
+			return new FieldCodec(Short.BYTES,
+				(input, object) -> handle.set(object, input.getShort()),
+				(output, object) -> output.put((short) handle.get(object))
+			);
+
+		if (type == int.class)
+			return new FieldCodec(Integer.BYTES,
+				(input, object) -> handle.set(object, input.getInt()),
+				(output, object) -> output.put((int) handle.get(object))
+			);
+
+		if (type == long.class)
+			return new FieldCodec(Long.BYTES,
+				(input, object) -> handle.set(object, input.getLong()),
+				(output, object) -> output.put((long) handle.get(object))
+			);
+
+		if (type == float.class)
+			return new FieldCodec(Float.BYTES,
+				(input, object) -> handle.set(object, input.getFloat()),
+				(output, object) -> output.put((float) handle.get(object))
+			);
+
+		if (type == double.class)
+			return new FieldCodec(Double.BYTES,
+				(input, object) -> handle.set(object, input.getDouble()),
+				(output, object) -> output.put((double) handle.get(object))
+			);
+
+		if (type == boolean.class)
+			return new FieldCodec(Byte.BYTES,
+				(input, object) -> handle.set(object, input.getBoolean()),
+				(output, object) -> output.put((boolean) handle.get(object))
+			);
+
+		if (type == char.class)
+			return new FieldCodec(Character.BYTES,
+				(input, object) -> handle.set(object, input.getChar()),
+				(output, object) -> output.put((char) handle.get(object))
+			);
+
+		if (type == String.class)
+			return stringCodecOf(field, handle, size);
+
+		if (type.isEnum())
+			return enumCodecOf(type, handle);
+
+		if (type.isArray())
+			return arrayCodecOf(field, handle, size);
+
+		if (type == BitSet.class)
+			return new FieldCodec(
+				object -> {
+					BitSet value = (BitSet) handle.get(object);
+					int length = value == null ? 0 : value.length();
+
+					return StreamUtil.varIntSize(length) + (length + Byte.SIZE - 1) / Byte.SIZE;
+				},
+				(input, object) -> handle.set(object, input.getBitSet()),
+				(output, object) -> {
+					BitSet value = (BitSet) handle.get(object);
+					output.putBits(value == null ? new BitSet() : value);
+				}
+			);
+
+		if (type == Bitwise.class)
+			return new FieldCodec(Integer.BYTES,
+				(input, object) -> {
+					Bitwise value = (Bitwise) handle.get(object);
+
+					if (value == null)
+						handle.set(object, input.getBitwise());
+					else
+						value.setValue(input.getInt());
+				},
+				(output, object) -> output.put((Bitwise) handle.get(object))
+			);
+
+		if (type == Bitwise8.class)
+			return new FieldCodec(Byte.BYTES,
+				(input, object) -> {
+					Bitwise8 value = (Bitwise8) handle.get(object);
+
+					if (value == null)
+						handle.set(object, input.getBitwise8());
+					else
+						value.setValue(input.getByte());
+				},
+				(output, object) -> output.put((Bitwise8) handle.get(object))
+			);
+
+		if (type == Bitwise16.class)
+			return new FieldCodec(Short.BYTES,
+				(input, object) -> {
+					Bitwise16 value = (Bitwise16) handle.get(object);
+
+					if (value == null)
+						handle.set(object, input.getBitwise16());
+					else
+						value.setValue(input.getShort());
+				},
+				(output, object) -> output.put((Bitwise16) handle.get(object))
+			);
+
+		if (type == Bitwise64.class)
+			return new FieldCodec(Long.BYTES,
+				(input, object) -> {
+					Bitwise64 value = (Bitwise64) handle.get(object);
+
+					if (value == null)
+						handle.set(object, input.getBitwise64());
+					else
+						value.setValue(input.getLong());
+				},
+				(output, object) -> output.put((Bitwise64) handle.get(object))
+			);
+
+		ValueCodec valueCodec = BOXED_CODECS.get(type);
+
+		if (valueCodec != null)
+			return new FieldCodec(valueCodec.size,
+				(input, object) -> handle.set(object, valueCodec.reader.read(input)),
+				(output, object) -> valueCodec.writer.write(output, handle.get(object))
+			);
+
+		if (field.isAnnotationPresent(Predefined.class))
+			return new FieldCodec(() -> ObjectCodec.of(type).getFixedSize(),
+				object -> {
+					Object value = handle.get(object);
+
+					if (value == null)
+						throw new StreamRuntimeException(PUT_OBJECT_NULL);
+
+					return StreamUtil.sizeOf(value);
+				},
+				(input, object) -> {
+					Object value = handle.get(object);
+
+					if (value == null)
+						handle.set(object, input.getObject(type));
+					else
+						input.getObject(value);
+				},
+				(output, object) -> {
+					Object value = handle.get(object);
+
+					if (value == null)
+						throw new StreamRuntimeException(PUT_OBJECT_NULL);
+
+					output.put(value);
+				}
+			);
+
+		return new FieldCodec(
+			object -> {
+				Object value = handle.get(object);
+
+				return value == null ? Byte.BYTES : Byte.BYTES + StreamUtil.sizeOf(value);
+			},
+			(input, object) -> handle.set(object, input.getBoolean() ? input.getObject(type) : null),
+			(output, object) -> {
+				Object value = handle.get(object);
+				output.put(value != null);
+
+				if (value != null)
+					output.put(value);
+			}
+		);
+	}
+
+	private static FieldCodec varIntCodecOf(Field field, VarHandle handle) {
+		Class<?> type = field.getType();
+		boolean zigZag = field.getAnnotation(VarInt.class).zigZag();
+
+		if (type == int.class)
+			return zigZag
+				? new FieldCodec(object -> StreamUtil.varIntSize(StreamUtil.zigZag((int) handle.get(object))),
+					(input, object) -> handle.set(object, input.getZigZagInt()),
+					(output, object) -> output.putZigZagInt((int) handle.get(object))
+				)
+				: new FieldCodec(object -> StreamUtil.varIntSize((int) handle.get(object)),
+					(input, object) -> handle.set(object, input.getVarInt()),
+					(output, object) -> output.putVarInt((int) handle.get(object))
+				);
+
+		if (type == long.class)
+			return zigZag
+				? new FieldCodec(object -> StreamUtil.varLongSize(StreamUtil.zigZag((long) handle.get(object))),
+					(input, object) -> handle.set(object, input.getZigZagLong()),
+					(output, object) -> output.putZigZagLong((long) handle.get(object))
+				)
+				: new FieldCodec(object -> StreamUtil.varLongSize((long) handle.get(object)),
+					(input, object) -> handle.set(object, input.getVarLong()),
+					(output, object) -> output.putVarLong((long) handle.get(object))
+				);
+
+		if (type == Integer.class)
+			return new FieldCodec(
+				object -> {
+					Integer value = (Integer) handle.get(object);
+					int raw = value == null ? 0 : value;
+
+					return StreamUtil.varIntSize(zigZag ? StreamUtil.zigZag(raw) : raw);
+				},
+				(input, object) -> handle.set(object, (Integer) (zigZag ? input.getZigZagInt() : input.getVarInt())),
+				(output, object) -> {
+					Integer value = (Integer) handle.get(object);
+
+					if (zigZag)
+						output.putZigZagInt(value == null ? 0 : value);
+					else
+						output.putVarInt(value == null ? 0 : value);
+				}
+			);
+
+		if (type == Long.class)
+			return new FieldCodec(
+				object -> {
+					Long value = (Long) handle.get(object);
+					long raw = value == null ? 0L : value;
+
+					return StreamUtil.varLongSize(zigZag ? StreamUtil.zigZag(raw) : raw);
+				},
+				(input, object) -> handle.set(object, (Long) (zigZag ? input.getZigZagLong() : input.getVarLong())),
+				(output, object) -> {
+					Long value = (Long) handle.get(object);
+
+					if (zigZag)
+						output.putZigZagLong(value == null ? 0L : value);
+					else
+						output.putVarLong(value == null ? 0L : value);
+				}
+			);
+
+		throw new StreamRuntimeException(OBJECT_CODEC_VAR_INT, field.getDeclaringClass().getName(), field.getName());
+	}
+
+	private static FieldCodec stringCodecOf(Field field, VarHandle handle, int size) {
+		PredefinedString predefinedString = field.getAnnotation(PredefinedString.class);
+
+		if (predefinedString == null)
+			return size == VARIABLE_SIZE
+				? new FieldCodec(object -> stringSize((String) handle.get(object)),
+					(input, object) -> handle.set(object, input.getString()),
+					(output, object) -> output.put((String) handle.get(object))
+				)
+				: new FieldCodec(size,
+					(input, object) -> handle.set(object, trim(input.getString(size))),
+					(output, object) -> output.put((String) handle.get(object), size)
+				);
+
+		Charset charset = Charset.forName(predefinedString.value());
+
+		if (size == VARIABLE_SIZE && charset.equals(StandardCharsets.UTF_8))
+			return new FieldCodec(
+				object -> {
+					int length = byteLength((String) handle.get(object), StandardCharsets.UTF_8);
+
+					return StreamUtil.varIntSize(length) + length;
+				},
+				(input, object) -> handle.set(object, input.getUtf8()),
+				(output, object) -> output.putUtf8((String) handle.get(object))
+			);
+
+		return size == VARIABLE_SIZE
+			? new FieldCodec(object -> Byte.BYTES + predefinedBytes((String) handle.get(object), charset).length,
+				(input, object) -> handle.set(object, new String(input.getBytes(input.getByte() & 0xFF), charset)),
+				(output, object) -> {
+					byte[] bytes = predefinedBytes((String) handle.get(object), charset);
+					output.put((byte) bytes.length);
+					output.put(bytes);
+				}
+			)
+			: new FieldCodec(size,
+				(input, object) -> handle.set(object, trim(new String(input.getBytes(size), charset))),
+				(output, object) -> output.put(predefinedBytes((String) handle.get(object), charset, size))
+			);
+	}
+
+	private static byte[] predefinedBytes(String value, Charset charset) {
+		byte[] bytes = value == null ? new byte[0] : value.getBytes(charset);
+
+		if (bytes.length > 255)
+			throw new StreamRuntimeException(PUT_STRING_LENGTH, bytes.length);
+
+		return bytes;
+	}
+
+	private static byte[] predefinedBytes(String value, Charset charset, int size) {
+		byte[] bytes = value == null ? new byte[0] : value.getBytes(charset);
+
+		if (bytes.length > size)
+			throw new StreamRuntimeException(PUT_STRING_SIZE, bytes.length, size);
+
+		return Arrays.copyOf(bytes, size);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static FieldCodec enumCodecOf(Class<?> type, VarHandle handle) {
+		Object[] constants = type.getEnumConstants();
+
+		if (!EnumStream.class.isAssignableFrom(type))
+			return new FieldCodec(Integer.BYTES,
+				(input, object) -> {
+					int ordinal = input.getInt();
+					handle.set(object, ordinal >= 0 && ordinal < constants.length ? constants[ordinal] : null);
+				},
+				(output, object) -> {
+					Enum<?> value = (Enum<?>) handle.get(object);
+					output.put(value == null ? -1 : value.ordinal());
+				}
+			);
+
+		Map<Object, Object> constantsByValue = new HashMap<>();
+
+		for (Object constant : constants)
+			constantsByValue.put(((EnumStream<Object>) constant).value(), constant);
+
+		Class<?> valueType = constants.length == 0 ? Integer.class : ((EnumStream<Object>) constants[0]).value().getClass();
+		ValueCodec valueCodec = valueType == String.class ? STRING_CODEC : BOXED_CODECS.get(valueType);
+
+		if (valueCodec == null)
+			throw new StreamRuntimeException(OBJECT_CODEC_ENUM, type.getName(), valueType.getName());
+
+		return new FieldCodec(valueCodec.size,
+			object -> {
+				EnumStream<Object> value = (EnumStream<Object>) handle.get(object);
+
+				return valueCodec.sizer.sizeOf(value == null ? null : value.value());
+			},
+			(input, object) -> handle.set(object, constantsByValue.get(valueCodec.reader.read(input))),
+			(output, object) -> {
+				EnumStream<Object> value = (EnumStream<Object>) handle.get(object);
+				valueCodec.writer.write(output, value == null ? null : value.value());
+			}
+		);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static FieldCodec predefinedIOCodecOf(Field field, VarHandle handle) {
+		Class<?> type = field.getType();
+		Class<?> ioClass = field.getAnnotation(PredefinedIO.class).io();
+
+		if (ioClass == void.class)
+			ioClass = type;
+
+		InputOutput<Object, Object> io;
+
+		try {
+			io = (InputOutput<Object, Object>) MethodHandles.privateLookupIn(ioClass, MethodHandles.lookup())
+				.findConstructor(ioClass, MethodType.methodType(void.class))
+				.invoke();
+		} catch (Throwable e) {
+			throw new StreamRuntimeException(new Exception(e), OBJECT_CODEC_IO, field.getDeclaringClass().getName(), field.getName(), ioClass.getName());
+		}
+
+		return new FieldCodec(VARIABLE_SIZE,
+			(input, object) -> {
+				Object value = handle.get(object);
+
+				if (value == null)
+					value = ObjectCodec.of(type).newInstance();
+
+				io.read(input, object, value);
+				handle.set(object, value);
+			},
+			(output, object) -> io.write(output, object, handle.get(object))
+		);
+	}
+
+	private static FieldCodec arrayCodecOf(Field field, VarHandle handle, int size) {
+		Class<?> componentType = field.getType().getComponentType();
+		boolean packed = field.isAnnotationPresent(Packed.class);
+		int componentSize = VARIABLE_SIZE;
+		ArraySizer sizer = null;
+		ArrayReader reader;
+		ArrayWriter writer;
+
+		if (componentType == byte.class) {
+			componentSize = Byte.BYTES;
+			reader = (input, values) -> input.getBytes((byte[]) values);
+			writer = (output, values) -> output.put((byte[]) values);
+		} else if (componentType == short.class) {
+			componentSize = Short.BYTES;
+			reader = (input, values) -> input.getShorts((short[]) values);
+			writer = (output, values) -> output.put((short[]) values);
+		} else if (componentType == int.class) {
+			componentSize = Integer.BYTES;
+			reader = (input, values) -> input.getInts((int[]) values);
+			writer = (output, values) -> output.put((int[]) values);
+		} else if (componentType == long.class) {
+			componentSize = Long.BYTES;
+			reader = (input, values) -> input.getLongs((long[]) values);
+			writer = (output, values) -> output.put((long[]) values);
+		} else if (componentType == float.class) {
+			componentSize = Float.BYTES;
+			reader = (input, values) -> input.getFloats((float[]) values);
+			writer = (output, values) -> output.put((float[]) values);
+		} else if (componentType == double.class) {
+			componentSize = Double.BYTES;
+			reader = (input, values) -> input.getDoubles((double[]) values);
+			writer = (output, values) -> output.put((double[]) values);
+		} else if (componentType == boolean.class && packed) {
+			sizer = values -> (Array.getLength(values) + Byte.SIZE - 1) / Byte.SIZE;
+			reader = (input, values) -> input.getBits((boolean[]) values);
+			writer = (output, values) -> output.putBits((boolean[]) values);
+		} else if (componentType == boolean.class) {
+			componentSize = Byte.BYTES;
+			reader = (input, values) -> input.getBooleans((boolean[]) values);
+			writer = (output, values) -> output.put((boolean[]) values);
+		} else if (componentType == char.class) {
+			componentSize = Character.BYTES;
+			reader = (input, values) -> input.getChars((char[]) values);
+			writer = (output, values) -> output.put((char[]) values);
+		} else if (componentType == String.class) {
+			sizer = values -> {
+				int length = 0;
+
+				for (String value : (String[]) values)
+					length += stringSize(value);
+
+				return length;
+			};
+			reader = (input, values) -> input.getStrings((String[]) values);
+			writer = (output, values) -> output.put((String[]) values);
+		} else if (!componentType.isPrimitive() && !componentType.isArray()) {
+			sizer = values -> {
+				int length = 0;
+
+				for (Object value : (Object[]) values)
+					length += value == null ? Byte.BYTES : Byte.BYTES + StreamUtil.sizeOf(value);
+
+				return length;
+			};
+			reader = (input, values) -> {
+				Object[] objects = (Object[]) values;
+
+				for (int i = 0; i < objects.length; i++)
+					if (!input.getBoolean())
+						objects[i] = null;
+					else if (objects[i] == null)
+						objects[i] = input.getObject(componentType);
+					else
+						input.getObject(objects[i]);
+			};
+			writer = (output, values) -> {
+				for (Object value : (Object[]) values) {
+					output.put(value != null);
+
+					if (value != null)
+						output.put(value);
+				}
+			};
+		} else
+			throw new StreamRuntimeException(OBJECT_CODEC_ARRAY, field.getDeclaringClass().getName(), field.getName(), componentType.getName());
+
+		if (sizer == null) {
+			int length = componentSize;
+			sizer = values -> Array.getLength(values) * length;
+		}
+
+		ArraySizer arraySizer = sizer;
+		int fixedSize = size == VARIABLE_SIZE ? VARIABLE_SIZE : packed ? (size + Byte.SIZE - 1) / Byte.SIZE : componentSize == VARIABLE_SIZE ? VARIABLE_SIZE : size * componentSize;
+
+		return new FieldCodec(fixedSize,
+			object -> {
+				Object values = fit(handle.get(object), componentType, size);
+
+				return values == null ? 0 : arraySizer.sizeOf(values);
+			},
+			(input, object) -> {
+				Object current = handle.get(object);
+				Object values = fit(current, componentType, size);
+
+				if (values != null) {
+					reader.read(input, values);
+
+					if (values != current)
+						handle.set(object, values);
+				}
+			},
+			(output, object) -> {
+				Object values = fit(handle.get(object), componentType, size);
+
+				if (values != null)
+					writer.write(output, values);
+			}
+		);
+	}
+
+	private static Object fit(Object values, Class<?> componentType, int size) {
+		if (size == VARIABLE_SIZE || (values != null && Array.getLength(values) == size))
+			return values;
+
+		Object fitted = Array.newInstance(componentType, size);
+
+		if (values != null)
+			System.arraycopy(values, 0, fitted, 0, Math.min(size, Array.getLength(values)));
+
+		return fitted;
+	}
+
+	private static int stringSize(String value) {
+		return Byte.BYTES + byteLength(value, Charset.defaultCharset());
+	}
+
+	private static int byteLength(String value, Charset charset) {
+		if (value == null)
+			return 0;
+
+		if (charset.equals(StandardCharsets.UTF_8))
+			return StreamUtil.utf8Length(value);
+
+		if (charset.equals(StandardCharsets.ISO_8859_1) || charset.equals(StandardCharsets.US_ASCII))
+			return value.length();
+
+		return value.getBytes(charset).length;
+	}
+
+	private static String trim(String value) {
+		int length = value.indexOf('\0');
+
+		return length == -1 ? value : value.substring(0, length);
+	}
+
+	private static class FieldCodec {
+
+		private final IntSupplier size;
+		private final FieldSizer sizer;
+		private final FieldReader reader;
+		private final FieldWriter writer;
+
+		private FieldCodec(int size, FieldReader reader, FieldWriter writer) {
+			this(() -> size, null, reader, writer);
+		}
+
+		private FieldCodec(FieldSizer sizer, FieldReader reader, FieldWriter writer) {
+			this(() -> VARIABLE_SIZE, sizer, reader, writer);
+		}
+
+		private FieldCodec(int size, FieldSizer sizer, FieldReader reader, FieldWriter writer) {
+			this(() -> size, sizer, reader, writer);
+		}
+
+		private FieldCodec(IntSupplier size, FieldSizer sizer, FieldReader reader, FieldWriter writer) {
+			this.size = size;
+			this.sizer = sizer;
+			this.reader = reader;
+			this.writer = writer;
+		}
+
+		private int size() {
+			return this.size.getAsInt();
+		}
+
+		private int sizeOf(Object object) {
+			int size = this.size();
+
+			if (size != VARIABLE_SIZE)
+				return size;
+
+			if (this.sizer != null)
+				return this.sizer.sizeOf(object);
+
+			SizeOutput output = new SizeOutput();
+			this.writer.write(output, object);
+
+			return output.offset();
+		}
+
+		private void read(Input input, Object object) {
+			this.reader.read(input, object);
+		}
+
+		private void write(Output output, Object object) {
+			this.writer.write(output, object);
+		}
+	}
+
+	private static class ValueCodec {
+
+		private final int size;
+		private final ValueSizer sizer;
+		private final ValueReader reader;
+		private final ValueWriter writer;
+
+		private ValueCodec(int size, ValueReader reader, ValueWriter writer) {
+			this(size, value -> size, reader, writer);
+		}
+
+		private ValueCodec(ValueSizer sizer, ValueReader reader, ValueWriter writer) {
+			this(VARIABLE_SIZE, sizer, reader, writer);
+		}
+
+		private ValueCodec(int size, ValueSizer sizer, ValueReader reader, ValueWriter writer) {
+			this.size = size;
+			this.sizer = sizer;
+			this.reader = reader;
+			this.writer = writer;
+		}
+	}
+
+	private static class SizeOutput extends DefaultOutput {
+
+		private final SizeWriter writer = new SizeWriter();
+
+		@Override
+		protected Writer getWriter() {
+			return this.writer;
+		}
+	}
+
+	private static class SizeWriter implements Writer {
+
+		private int offset;
+		private boolean inverted;
+
+		@Override
+		public void invert() {
+			this.inverted = !this.inverted;
+		}
+
+		@Override
+		public void write(byte value) {
+			this.offset += Byte.BYTES;
+		}
+
+		@Override
+		public void write(byte[] values) {
+			this.offset += values.length;
+		}
+
+		@Override
+		public void write(byte[] values, int offset, int length) {
+			this.offset += length;
+		}
+
+		@Override
+		public void writeShort(short value) {
+			this.offset += Short.BYTES;
+		}
+
+		@Override
+		public void writeInt(int value) {
+			this.offset += Integer.BYTES;
+		}
+
+		@Override
+		public void writeLong(long value) {
+			this.offset += Long.BYTES;
+		}
+
+		@Override
+		public void writeUtf8(String value) {
+			int length = StreamUtil.utf8Length(value);
+			this.offset += StreamUtil.varIntSize(length) + length;
+		}
+
+		@Override
+		public boolean isInverted() {
+			return this.inverted;
+		}
+
+		@Override
+		public boolean isClosed() {
+			return false;
+		}
+
+		@Override
+		public boolean isFull() {
+			return false;
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return this.offset == 0;
+		}
+
+		@Override
+		public int capacity() {
+			return Integer.MAX_VALUE;
+		}
+
+		@Override
+		public int offset() {
+			return this.offset;
+		}
+
+		@Override
+		public void reset() {
+			this.offset = 0;
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+
+	@FunctionalInterface
+	private interface FieldSizer {
+		int sizeOf(Object object);
+	}
+
+	@FunctionalInterface
+	private interface FieldReader {
+		void read(Input input, Object object);
+	}
+
+	@FunctionalInterface
+	private interface FieldWriter {
+		void write(Output output, Object object);
+	}
+
+	@FunctionalInterface
+	private interface ArraySizer {
+		int sizeOf(Object values);
+	}
+
+	@FunctionalInterface
+	private interface ArrayReader {
+		void read(Input input, Object values);
+	}
+
+	@FunctionalInterface
+	private interface ArrayWriter {
+		void write(Output output, Object values);
+	}
+
+	@FunctionalInterface
+	private interface ValueSizer {
+		int sizeOf(Object value);
+	}
+
+	@FunctionalInterface
+	private interface ValueReader {
+		Object read(Input input);
+	}
+
+	@FunctionalInterface
+	private interface ValueWriter {
+		void write(Output output, Object value);
+	}
+}
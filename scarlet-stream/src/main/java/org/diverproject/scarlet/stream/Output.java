@@ -1,5 +1,12 @@
 package org.diverproject.scarlet.stream;
 
+import org.diverproject.scarlet.util.Bitwise;
+import org.diverproject.scarlet.util.Bitwise16;
+import org.diverproject.scarlet.util.Bitwise64;
+import org.diverproject.scarlet.util.Bitwise8;
+
+import java.util.BitSet;
+
 public interface Output extends Stream {
 	void invert();
 	void put(byte value);
@@ -10,18 +17,32 @@ public interface Output extends Stream {
 	void put(int[] values);
 	void put(long value);
 	void put(long[] values);
+	void putVarInt(int value);
+	void putVarLong(long value);
+	void putZigZagInt(int value);
+	void putZigZagLong(long value);
 	void put(float value);
 	void put(float[] values);
 	void put(double value);
 	void put(double[] values);
 	void put(boolean value);
 	void put(boolean[] values);
+	void putBits(boolean[] values);
+	void putBits(BitSet bitSet);
+	void put(Bitwise value);
+	void put(Bitwise8 value);
+	void put(Bitwise16 value);
+	void put(Bitwise64 value);
 	void put(char value);
 	void put(char[] values);
 	void put(String value);
 	void put(String[] values);
+	void put(String value, int size);
+	void put(String[] values, int size);
+	void putUtf8(String value);
 	void put(Object value);
 	void put(Object[] values);
+	void putChecksum();
 
 	boolean isInverted();
 }
@@ -1,9 +1,80 @@
 package org.diverproject.scarlet.stream;
 
+import static org.diverproject.scarlet.stream.language.StreamLanguage.GET_UTF8_LENGTH;
+import static org.diverproject.scarlet.stream.language.StreamLanguage.GET_VAR_INT_MALFORMED;
+
 public interface Reader extends Stream {
 	void invert();
 	byte read();
 	byte[] read(int count);
+	void read(byte[] bytes, int offset, int length);
+
+	default short readShort() {
+		return StreamUtil.shortOf(this.read(Short.BYTES));
+	}
+
+	default int readInt() {
+		return StreamUtil.intOf(this.read(Integer.BYTES));
+	}
+
+	default long readLong() {
+		return StreamUtil.longOf(this.read(Long.BYTES));
+	}
+
+	default float readFloat() {
+		return Float.intBitsToFloat(this.readInt());
+	}
+
+	default double readDouble() {
+		return Double.longBitsToDouble(this.readLong());
+	}
+
+	default int readVarInt() {
+		int value = 0;
+
+		for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+			byte read = this.read();
+			value |= (read & 0x7F) << shift;
+
+			if (read >= 0)
+				return value;
+		}
+
+		throw new StreamRuntimeException(GET_VAR_INT_MALFORMED, Integer.SIZE);
+	}
+
+	default long readVarLong() {
+		long value = 0;
+
+		for (int shift = 0; shift < Long.SIZE; shift += 7) {
+			byte read = this.read();
+			value |= (long) (read & 0x7F) << shift;
+
+			if (read >= 0)
+				return value;
+		}
+
+		throw new StreamRuntimeException(GET_VAR_INT_MALFORMED, Long.SIZE);
+	}
+
+	default String readUtf8() {
+		return this.readUtf8(null);
+	}
+
+	default String readUtf8(StringCache stringCache) {
+		int length = this.readVarInt();
+		int remaining = this.capacity() - this.offset();
+
+		if (length < 0 || length > remaining)
+			throw new StreamRuntimeException(GET_UTF8_LENGTH, length, remaining);
+
+		byte[] bytes = new byte[length];
+
+		for (int i = 0; i < bytes.length; i++)
+			bytes[i] = this.read();
+
+		return stringCache == null ? StreamUtil.utf8Of(bytes, 0, bytes.length) : stringCache.get(bytes, 0, bytes.length);
+	}
 
 	boolean isInverted();
 }
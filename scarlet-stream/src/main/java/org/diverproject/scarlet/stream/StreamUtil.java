@@ -1,9 +1,23 @@
 package org.diverproject.scarlet.stream;
 
+import static org.diverproject.scarlet.stream.language.StreamLanguage.PUT_OBJECT_NULL;
+
 import org.diverproject.scarlet.util.IntegerUtils;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
 public class StreamUtil {
 
+	private static final VarHandle SHORT_BIG_ENDIAN = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+	private static final VarHandle SHORT_LITTLE_ENDIAN = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.LITTLE_ENDIAN);
+	private static final VarHandle INT_BIG_ENDIAN = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+	private static final VarHandle INT_LITTLE_ENDIAN = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+	private static final VarHandle LONG_BIG_ENDIAN = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+	private static final VarHandle LONG_LITTLE_ENDIAN = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
 	public static char charOf(byte... bytes) {
 		char value = 0;
 		int maxIndex = IntegerUtils.capMax(bytes.length, Character.BYTES);
@@ -52,6 +66,180 @@ public class StreamUtil {
 		return Double.longBitsToDouble(longOf(bytes));
 	}
 
+	public static short shortOf(byte[] bytes, int offset, boolean inverted) {
+		return inverted ? (short) SHORT_LITTLE_ENDIAN.get(bytes, offset) : (short) SHORT_BIG_ENDIAN.get(bytes, offset);
+	}
+
+	public static int intOf(byte[] bytes, int offset, boolean inverted) {
+		return inverted ? (int) INT_LITTLE_ENDIAN.get(bytes, offset) : (int) INT_BIG_ENDIAN.get(bytes, offset);
+	}
+
+	public static long longOf(byte[] bytes, int offset, boolean inverted) {
+		return inverted ? (long) LONG_LITTLE_ENDIAN.get(bytes, offset) : (long) LONG_BIG_ENDIAN.get(bytes, offset);
+	}
+
+	public static void put(byte[] bytes, int offset, short value, boolean inverted) {
+		if (inverted)
+			SHORT_LITTLE_ENDIAN.set(bytes, offset, value);
+		else
+			SHORT_BIG_ENDIAN.set(bytes, offset, value);
+	}
+
+	public static void put(byte[] bytes, int offset, int value, boolean inverted) {
+		if (inverted)
+			INT_LITTLE_ENDIAN.set(bytes, offset, value);
+		else
+			INT_BIG_ENDIAN.set(bytes, offset, value);
+	}
+
+	public static void put(byte[] bytes, int offset, long value, boolean inverted) {
+		if (inverted)
+			LONG_LITTLE_ENDIAN.set(bytes, offset, value);
+		else
+			LONG_BIG_ENDIAN.set(bytes, offset, value);
+	}
+
+	public static int varIntSize(int value) {
+		return (31 - Integer.numberOfLeadingZeros(value | 1)) / 7 + 1;
+	}
+
+	public static int varLongSize(long value) {
+		return (63 - Long.numberOfLeadingZeros(value | 1)) / 7 + 1;
+	}
+
+	public static int putVarInt(byte[] bytes, int offset, int value) {
+		while ((value & ~0x7F) != 0) {
+			bytes[offset++] = (byte) ((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+
+		bytes[offset++] = (byte) value;
+
+		return offset;
+	}
+
+	public static int putVarLong(byte[] bytes, int offset, long value) {
+		while ((value & ~0x7FL) != 0) {
+			bytes[offset++] = (byte) ((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+
+		bytes[offset++] = (byte) value;
+
+		return offset;
+	}
+
+	public static long packBits(boolean[] values, int offset, int count) {
+		long word = 0;
+
+		for (int i = 0; i < count; i++)
+			if (values[offset + i])
+				word |= 1L << i;
+
+		return word;
+	}
+
+	public static void unpackBits(long word, boolean[] values, int offset, int count) {
+		for (int i = 0; i < count; i++)
+			values[offset + i] = (word & (1L << i)) != 0;
+	}
+
+	@SuppressWarnings("unchecked")
+	public static int sizeOf(Object value) {
+		if (value == null)
+			throw new StreamRuntimeException(PUT_OBJECT_NULL);
+
+		return ObjectCodec.of((Class<Object>) value.getClass()).sizeOf(value);
+	}
+
+	public static int sizeOf(Object[] values) {
+		int size = 0;
+
+		for (Object value : values)
+			size += sizeOf(value);
+
+		return size;
+	}
+
+	public static int zigZag(int value) {
+		return (value << 1) ^ (value >> 31);
+	}
+
+	public static long zigZag(long value) {
+		return (value << 1) ^ (value >> 63);
+	}
+
+	public static int unZigZag(int value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	public static long unZigZag(long value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	public static int utf8Length(String value) {
+		int length = value.length();
+		int bytes = length;
+
+		for (int i = 0; i < length; i++) {
+			char c = value.charAt(i);
+
+			if (c < 0x80)
+				continue;
+
+			if (c < 0x800)
+				bytes++;
+			else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+				bytes += 2;
+				i++;
+			} else if (!Character.isSurrogate(c))
+				bytes += 2;
+		}
+
+		return bytes;
+	}
+
+	public static int putUtf8(byte[] bytes, int offset, String value) {
+		int length = value.length();
+		int i = 0;
+
+		for (char c; i < length && (c = value.charAt(i)) < 0x80; i++)
+			bytes[offset++] = (byte) c;
+
+		for (; i < length; i++) {
+			char c = value.charAt(i);
+
+			if (c < 0x80)
+				bytes[offset++] = (byte) c;
+			else if (c < 0x800) {
+				bytes[offset++] = (byte) (0xC0 | (c >> 6));
+				bytes[offset++] = (byte) (0x80 | (c & 0x3F));
+			} else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+				int codePoint = Character.toCodePoint(c, value.charAt(++i));
+				bytes[offset++] = (byte) (0xF0 | (codePoint >> 18));
+				bytes[offset++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+				bytes[offset++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+				bytes[offset++] = (byte) (0x80 | (codePoint & 0x3F));
+			} else if (Character.isSurrogate(c))
+				bytes[offset++] = '?';
+			else {
+				bytes[offset++] = (byte) (0xE0 | (c >> 12));
+				bytes[offset++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+				bytes[offset++] = (byte) (0x80 | (c & 0x3F));
+			}
+		}
+
+		return offset;
+	}
+
+	public static String utf8Of(byte[] bytes, int offset, int length) {
+		for (int i = offset; i < offset + length; i++)
+			if (bytes[i] < 0)
+				return new String(bytes, offset, length, StandardCharsets.UTF_8);
+
+		return new String(bytes, offset, length, StandardCharsets.ISO_8859_1);
+	}
+
 	public static byte[] bytesOf(char value) {
 		return new byte[]{
 			(byte) ((value >> 8) & 255),
@@ -0,0 +1,72 @@
+package org.diverproject.scarlet.stream;
+
+import java.util.Arrays;
+
+public class StringCache {
+
+	public static final int DEFAULT_CAPACITY = 1024;
+	public static final int DEFAULT_MAX_LENGTH = 64;
+
+	private final Entry[] entries;
+	private final int mask;
+	private final int maxLength;
+
+	public StringCache() {
+		this(DEFAULT_CAPACITY, DEFAULT_MAX_LENGTH);
+	}
+
+	public StringCache(int capacity, int maxLength) {
+		int size = Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1;
+
+		this.entries = new Entry[size];
+		this.mask = size - 1;
+		this.maxLength = maxLength;
+	}
+
+	public int capacity() {
+		return this.entries.length;
+	}
+
+	public String get(byte[] bytes, int offset, int length) {
+		if (length > this.maxLength)
+			return StreamUtil.utf8Of(bytes, offset, length);
+
+		int hash = hash(bytes, offset, length);
+		int slot = hash & this.mask;
+		Entry entry = this.entries[slot];
+
+		if (entry != null && entry.hash == hash && Arrays.equals(entry.bytes, 0, entry.bytes.length, bytes, offset, offset + length))
+			return entry.value;
+
+		String value = StreamUtil.utf8Of(bytes, offset, length);
+		this.entries[slot] = new Entry(hash, Arrays.copyOfRange(bytes, offset, offset + length), value);
+
+		return value;
+	}
+
+	public void clear() {
+		Arrays.fill(this.entries, null);
+	}
+
+	private static int hash(byte[] bytes, int offset, int length) {
+		int hash = 1;
+
+		for (int i = offset; i < offset + length; i++)
+			hash = 31 * hash + bytes[i];
+
+		return hash ^ (hash >>> 16);
+	}
+
+	private static class Entry {
+
+		private final int hash;
+		private final byte[] bytes;
+		private final String value;
+
+		private Entry(int hash, byte[] bytes, String value) {
+			this.hash = hash;
+			this.bytes = bytes;
+			this.value = value;
+		}
+	}
+}
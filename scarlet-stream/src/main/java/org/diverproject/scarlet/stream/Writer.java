@@ -4,6 +4,69 @@ public interface Writer extends Stream {
 	void invert();
 	void write(byte value);
 	void write(byte[] values);
+	void write(byte[] values, int offset, int length);
+
+	default void writeShort(short value) {
+		this.write(StreamUtil.bytesOf(value));
+	}
+
+	default void writeShorts(short[] values) {
+		for (short value : values)
+			this.writeShort(value);
+	}
+
+	default void writeInt(int value) {
+		this.write(StreamUtil.bytesOf(value));
+	}
+
+	default void writeInts(int[] values) {
+		for (int value : values)
+			this.writeInt(value);
+	}
+
+	default void writeLong(long value) {
+		this.write(StreamUtil.bytesOf(value));
+	}
+
+	default void writeLongs(long[] values) {
+		for (long value : values)
+			this.writeLong(value);
+	}
+
+	default void writeFloat(float value) {
+		this.writeInt(Float.floatToIntBits(value));
+	}
+
+	default void writeDouble(double value) {
+		this.writeLong(Double.doubleToLongBits(value));
+	}
+
+	default void writeVarInt(int value) {
+		while ((value & ~0x7F) != 0) {
+			this.write((byte) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+
+		this.write((byte) value);
+	}
+
+	default void writeVarLong(long value) {
+		while ((value & ~0x7FL) != 0) {
+			this.write((byte) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+
+		this.write((byte) value);
+	}
+
+	default void writeUtf8(String value) {
+		byte[] bytes = new byte[StreamUtil.utf8Length(value)];
+		StreamUtil.putUtf8(bytes, 0, value);
+		this.writeVarInt(bytes.length);
+
+		for (byte b : bytes)
+			this.write(b);
+	}
 
 	boolean isInverted();
 }
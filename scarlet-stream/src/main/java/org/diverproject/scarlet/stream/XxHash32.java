@@ -0,0 +1,116 @@
+package org.diverproject.scarlet.stream;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.zip.Checksum;
+
+public class XxHash32 implements Checksum {
+
+	private static final int PRIME_1 = 0x9E3779B1;
+	private static final int PRIME_2 = 0x85EBCA77;
+	private static final int PRIME_3 = 0xC2B2AE3D;
+	private static final int PRIME_4 = 0x27D4EB2F;
+	private static final int PRIME_5 = 0x165667B1;
+	private static final int STRIPE = 16;
+	private static final VarHandle INT_LITTLE_ENDIAN = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+	private final int seed;
+	private final byte[] buffer = new byte[STRIPE];
+	private int buffered;
+	private long length;
+	private int v1;
+	private int v2;
+	private int v3;
+	private int v4;
+
+	public XxHash32() {
+		this(0);
+	}
+
+	public XxHash32(int seed) {
+		this.seed = seed;
+		this.reset();
+	}
+
+	@Override
+	public void update(int b) {
+		this.buffer[this.buffered++] = (byte) b;
+		this.length++;
+
+		if (this.buffered == STRIPE) {
+			this.stripe(this.buffer, 0);
+			this.buffered = 0;
+		}
+	}
+
+	@Override
+	public void update(byte[] b, int off, int len) {
+		this.length += len;
+
+		if (this.buffered > 0) {
+			int count = Math.min(STRIPE - this.buffered, len);
+			System.arraycopy(b, off, this.buffer, this.buffered, count);
+			this.buffered += count;
+			off += count;
+			len -= count;
+
+			if (this.buffered < STRIPE)
+				return;
+
+			this.stripe(this.buffer, 0);
+			this.buffered = 0;
+		}
+
+		for (; len >= STRIPE; off += STRIPE, len -= STRIPE)
+			this.stripe(b, off);
+
+		System.arraycopy(b, off, this.buffer, 0, len);
+		this.buffered = len;
+	}
+
+	@Override
+	public long getValue() {
+		int hash = this.length >= STRIPE
+			? Integer.rotateLeft(this.v1, 1) + Integer.rotateLeft(this.v2, 7) + Integer.rotateLeft(this.v3, 12) + Integer.rotateLeft(this.v4, 18)
+			: this.seed + PRIME_5;
+
+		hash += (int) this.length;
+		int i = 0;
+
+		for (; i + Integer.BYTES <= this.buffered; i += Integer.BYTES)
+			hash = Integer.rotateLeft(hash + (int) INT_LITTLE_ENDIAN.get(this.buffer, i) * PRIME_3, 17) * PRIME_4;
+
+		for (; i < this.buffered; i++)
+			hash = Integer.rotateLeft(hash + (this.buffer[i] & 0xFF) * PRIME_5, 11) * PRIME_1;
+
+		hash ^= hash >>> 15;
+		hash *= PRIME_2;
+		hash ^= hash >>> 13;
+		hash *= PRIME_3;
+		hash ^= hash >>> 16;
+
+		return hash & 0xFFFFFFFFL;
+	}
+
+	@Override
+	public void reset() {
+		this.v1 = this.seed + PRIME_1 + PRIME_2;
+		this.v2 = this.seed + PRIME_2;
+		this.v3 = this.seed;
+		this.v4 = this.seed - PRIME_1;
+		this.buffered = 0;
+		this.length = 0;
+	}
+
+	private void stripe(byte[] bytes, int offset) {
+		this.v1 = round(this.v1, (int) INT_LITTLE_ENDIAN.get(bytes, offset));
+		this.v2 = round(this.v2, (int) INT_LITTLE_ENDIAN.get(bytes, offset + 4));
+		this.v3 = round(this.v3, (int) INT_LITTLE_ENDIAN.get(bytes, offset + 8));
+		this.v4 = round(this.v4, (int) INT_LITTLE_ENDIAN.get(bytes, offset + 12));
+	}
+
+	private static int round(int accumulator, int input) {
+		return Integer.rotateLeft(accumulator + input * PRIME_2, 13) * PRIME_1;
+	}
+}
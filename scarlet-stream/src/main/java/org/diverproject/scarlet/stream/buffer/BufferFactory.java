@@ -5,6 +5,7 @@ import static org.diverproject.scarlet.stream.language.BufferLanguage.BUFFER_FAC
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 
 public class BufferFactory {
 
@@ -21,6 +22,20 @@ public class BufferFactory {
 		);
 	}
 
+	public static BufferInput inputOf(java.nio.ByteBuffer buffer) {
+		return new DefaultBufferInput().setBufferReader(
+			new NioBufferReader()
+				.setByteBuffer(new NioByteBuffer(buffer))
+		);
+	}
+
+	public static BufferInput directInputOf(int length) {
+		return new DefaultBufferInput().setBufferReader(
+			new NioBufferReader()
+				.setByteBuffer(NioByteBuffer.allocateDirect(length))
+		);
+	}
+
 	public static BufferInput inputOf(String filename) {
 		return inputOf(new File(filename));
 	}
@@ -38,6 +53,36 @@ public class BufferFactory {
 		}
 	}
 
+	public static BufferInput mappedInputOf(Path path) {
+		return mappedInputOf(path, MappedFileBuffer.DEFAULT_CHUNK_SIZE);
+	}
+
+	public static BufferInput mappedInputOf(Path path, int chunkSize) {
+		return new DefaultBufferInput().setBufferReader(
+			new MappedBufferReader()
+				.setByteBuffer(new MappedFileBuffer(path, chunkSize))
+		);
+	}
+
+	public static BufferInput compositeInputOf(byte[]... arrays) {
+		return compositeInputOf(new CompositeByteBuffer(arrays));
+	}
+
+	public static BufferInput compositeInputOf(CompositeByteBuffer byteBuffer) {
+		return new DefaultBufferInput().setBufferReader(
+			new CompositeBufferReader()
+				.setByteBuffer(byteBuffer)
+		);
+	}
+
+	public static BufferInput pooledInputOf(int length) {
+		return BufferPool.getDefault().inputOf(length);
+	}
+
+	public static BufferOutput pooledOutputOf(int length) {
+		return BufferPool.getDefault().outputOf(length);
+	}
+
 	public static BufferOutput outputOf(int length) {
 		return outputOf(new byte[length]);
 	}
@@ -48,4 +93,31 @@ public class BufferFactory {
 				.setByteBuffer(new DefaultByteBuffer(bytes))
 		);
 	}
+
+	public static BufferOutput directOutputOf(int length) {
+		return new DefaultBufferOutput().setBufferWriter(
+			new NioBufferWriter()
+				.setByteBuffer(NioByteBuffer.allocateDirect(length))
+		);
+	}
+
+	public static BufferOutput compositeOutputOf(int segmentSize) {
+		return new DefaultBufferOutput().setBufferWriter(
+			new CompositeBufferWriter()
+				.setByteBuffer(new CompositeByteBuffer().setSegmentSize(segmentSize))
+				.setDynamic(true)
+		);
+	}
+
+	public static BufferOutput dynamicOutputOf(int length) {
+		return dynamicOutputOf(length, DefaultByteBuffer.MAX_LENGTH);
+	}
+
+	public static BufferOutput dynamicOutputOf(int length, int maxLength) {
+		return new DefaultBufferOutput().setBufferWriter(
+			new DefaultBufferWriter()
+				.setByteBuffer(new DefaultByteBuffer(new byte[length]).setMaxLength(maxLength))
+				.setDynamic(true)
+		);
+	}
 }
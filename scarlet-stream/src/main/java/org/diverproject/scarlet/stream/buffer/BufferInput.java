@@ -4,4 +4,18 @@ import org.diverproject.scarlet.stream.Input;
 
 public interface BufferInput extends BufferStream, Input
 {
+	long position();
+	void position(long position);
+	void mark();
+	void rewind();
+
+	byte peekByte();
+	short peekShort();
+	int peekInt();
+	long peekLong();
+
+	byte getByteAt(long position);
+	short getShortAt(long position);
+	int getIntAt(long position);
+	long getLongAt(long position);
 }
@@ -4,4 +4,5 @@ import org.diverproject.scarlet.stream.Output;
 
 public interface BufferOutput extends BufferStream, Output {
 	byte[] flush();
+	java.nio.ByteBuffer flushView();
 }
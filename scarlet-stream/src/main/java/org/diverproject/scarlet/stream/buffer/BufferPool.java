@@ -0,0 +1,161 @@
+package org.diverproject.scarlet.stream.buffer;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.lang.ref.Cleaner;
+import java.lang.reflect.Array;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+@Accessors(chain = true)
+public class BufferPool {
+
+	public static final int MIN_SIZE_CLASS = 6;
+	public static final int MAX_SIZE_CLASS = 20;
+	public static final int THREAD_CACHE_SIZE = 8;
+	public static final int SHARED_CACHE_SIZE = 64;
+
+	private static final BufferPool DEFAULT = new BufferPool();
+	private static final Cleaner CLEANER = Cleaner.create();
+
+	private final Queue<byte[]>[] shared;
+	private final AtomicInteger[] sharedSizes;
+	private final ThreadLocal<ArrayDeque<byte[]>[]> local;
+	private final @Getter AtomicLong leaks;
+	private final @Getter AtomicLong outstanding;
+
+	private @Getter @Setter boolean debug;
+	private @Getter @Setter Consumer<Throwable> leakListener;
+
+	public BufferPool() {
+		int sizeClasses = MAX_SIZE_CLASS - MIN_SIZE_CLASS + 1;
+
+		this.shared = arrayOf(Queue.class, sizeClasses);
+		this.sharedSizes = new AtomicInteger[sizeClasses];
+		this.local = ThreadLocal.withInitial(() -> arrayOf(ArrayDeque.class, sizeClasses));
+		this.leaks = new AtomicLong();
+		this.outstanding = new AtomicLong();
+		this.leakListener = trace -> { };
+
+		for (int i = 0; i < sizeClasses; i++) {
+			this.shared[i] = new ConcurrentLinkedQueue<>();
+			this.sharedSizes[i] = new AtomicInteger();
+		}
+	}
+
+	public static BufferPool getDefault() {
+		return DEFAULT;
+	}
+
+	public BufferInput inputOf(int length) {
+		return new DefaultBufferInput().setBufferReader(
+			new DefaultBufferReader()
+				.setByteBuffer(this.allocate(length))
+		);
+	}
+
+	public BufferOutput outputOf(int length) {
+		return new DefaultBufferOutput().setBufferWriter(
+			new DefaultBufferWriter()
+				.setByteBuffer(this.allocate(length))
+		);
+	}
+
+	public PooledByteBuffer allocate(int length) {
+		return new PooledByteBuffer(this, length);
+	}
+
+	public byte[] acquire(int length) {
+		int sizeClass = sizeClassOf(length);
+
+		if (sizeClass > MAX_SIZE_CLASS)
+			return new byte[length];
+
+		int index = sizeClass - MIN_SIZE_CLASS;
+		ArrayDeque<byte[]> cache = this.local.get()[index];
+		byte[] bytes = cache == null ? null : cache.pollFirst();
+
+		if (bytes == null && (bytes = this.shared[index].poll()) != null)
+			this.sharedSizes[index].decrementAndGet();
+
+		if (bytes == null)
+			return new byte[1 << sizeClass];
+
+		Arrays.fill(bytes, 0, length, (byte) 0);
+
+		return bytes;
+	}
+
+	public void release(byte[] bytes) {
+		int sizeClass = sizeClassOf(bytes.length);
+
+		if (sizeClass > MAX_SIZE_CLASS || bytes.length != 1 << sizeClass)
+			return;
+
+		int index = sizeClass - MIN_SIZE_CLASS;
+		ArrayDeque<byte[]>[] caches = this.local.get();
+
+		if (caches[index] == null)
+			caches[index] = new ArrayDeque<>(THREAD_CACHE_SIZE);
+
+		if (caches[index].size() < THREAD_CACHE_SIZE)
+			caches[index].offerFirst(bytes);
+		else if (this.sharedSizes[index].incrementAndGet() <= SHARED_CACHE_SIZE)
+			this.shared[index].offer(bytes);
+		else
+			this.sharedSizes[index].decrementAndGet();
+	}
+
+	Tracker track(PooledByteBuffer pooledByteBuffer) {
+		if (!this.isDebug())
+			return null;
+
+		Tracker tracker = new Tracker(new Throwable("pooled buffer allocated here"));
+		tracker.cleanable = CLEANER.register(pooledByteBuffer, tracker);
+		this.outstanding.incrementAndGet();
+
+		return tracker;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T[] arrayOf(Class<?> componentType, int length) {
+		return (T[]) Array.newInstance(componentType, length);
+	}
+
+	static int sizeClassOf(int length) {
+		return Math.max(MIN_SIZE_CLASS, Integer.SIZE - Integer.numberOfLeadingZeros(length - 1));
+	}
+
+	class Tracker implements Runnable {
+
+		private final Throwable trace;
+		private Cleaner.Cleanable cleanable;
+		private volatile boolean released;
+
+		private Tracker(Throwable trace) {
+			this.trace = trace;
+		}
+
+		void release() {
+			this.released = true;
+			this.cleanable.clean();
+		}
+
+		@Override
+		public void run() {
+			outstanding.decrementAndGet();
+
+			if (!this.released) {
+				leaks.incrementAndGet();
+				leakListener.accept(this.trace);
+			}
+		}
+	}
+}
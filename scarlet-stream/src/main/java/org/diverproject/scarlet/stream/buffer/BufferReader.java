@@ -9,4 +9,11 @@ public interface BufferReader extends Reader {
 	ByteBuffer getByteBuffer();
 	byte[] data();
 	int offset();
+	long position();
+	void position(long position);
+
+	byte readByteAt(long position);
+	short readShortAt(long position);
+	int readIntAt(long position);
+	long readLongAt(long position);
 }
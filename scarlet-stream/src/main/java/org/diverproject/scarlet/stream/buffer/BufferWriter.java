@@ -7,7 +7,12 @@ public interface BufferWriter extends Writer {
 	void reset();
 	void close();
 
+	boolean isDynamic();
+	BufferWriter setDynamic(boolean dynamic);
+
 	ByteBuffer getByteBuffer();
+	BufferWriter setByteBuffer(ByteBuffer byteBuffer);
+	BufferWriter setOffset(int offset);
 	byte[] data();
 	int offset();
 }
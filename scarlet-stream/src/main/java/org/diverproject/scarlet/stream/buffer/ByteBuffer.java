@@ -6,7 +6,11 @@ public interface ByteBuffer {
 	void close();
 	void clear();
 	void reset(int length);
+	void grow(int length);
+	ByteBuffer newBuffer(int length);
 
 	int length();
+	java.nio.ByteBuffer view(int offset, int length);
+	boolean hasArray();
 	byte[] data();
 }
@@ -0,0 +1,152 @@
+package org.diverproject.scarlet.stream.buffer;
+
+import static org.diverproject.scarlet.stream.language.BufferLanguage.WRITE_BYTE_ARRAY;
+import static org.diverproject.scarlet.stream.language.BufferLanguage.WRITE_CLOSED_BUFFER;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
+
+import java.util.Objects;
+
+@Data
+@Accessors(chain = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompositeBufferWriter implements BufferWriter {
+
+	private CompositeByteBuffer byteBuffer;
+	private int offset;
+	private boolean inverted;
+	private boolean dynamic;
+
+	@Override
+	public CompositeBufferWriter setByteBuffer(ByteBuffer byteBuffer) {
+		this.byteBuffer = byteBuffer instanceof CompositeByteBuffer ? (CompositeByteBuffer) byteBuffer : new CompositeByteBuffer().add(byteBuffer);
+		return this;
+	}
+
+	public CompositeBufferWriter add(byte[] bytes) {
+		return this.add(new CompositeByteBuffer(bytes));
+	}
+
+	public CompositeBufferWriter add(ByteBuffer byteBuffer) {
+		if (this.isClosed())
+			throw new BufferRuntimeException(WRITE_CLOSED_BUFFER);
+
+		int length = byteBuffer.length();
+
+		this.getByteBuffer().truncate(this.offset()).add(byteBuffer);
+		this.setOffset(this.offset() + length);
+
+		return this;
+	}
+
+	@Override
+	public void close() {
+		this.getByteBuffer().close();
+	}
+
+	@Override
+	public void reset() {
+		if (this.isDynamic())
+			this.getByteBuffer().truncate(0);
+		else
+			this.getByteBuffer().reset(this.capacity());
+
+		this.setOffset(0);
+	}
+
+	@Override
+	public boolean isClosed() {
+		return this.getByteBuffer().isClosed();
+	}
+
+	@Override
+	public boolean isFull() {
+		return this.offset() == this.capacity();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return this.offset() == 0;
+	}
+
+	@Override
+	public int capacity() {
+		return this.getByteBuffer().length();
+	}
+
+	@Override
+	public int offset() {
+		return this.getOffset();
+	}
+
+	@Override
+	public byte[] data() {
+		return this.getByteBuffer().data();
+	}
+
+	@Override
+	public void invert() {
+		this.setInverted(!this.isInverted());
+	}
+
+	@Override
+	public void write(byte value) {
+		this.getByteBuffer().put(this.claim(Byte.BYTES), value);
+	}
+
+	@Override
+	public void write(byte[] values) {
+		this.write(values, 0, values.length);
+	}
+
+	@Override
+	public void write(byte[] values, int offset, int length) {
+		Objects.checkFromIndexSize(offset, length, values.length);
+
+		int position = this.claim(length);
+
+		if (this.isInverted())
+			for (int i = offset + length - 1, j = position; i >= offset; i--, j++)
+				this.getByteBuffer().put(j, values[i]);
+		else
+			this.getByteBuffer().put(position, values, offset, length);
+	}
+
+	@Override
+	public void writeShort(short value) {
+		int position = this.claim(Short.BYTES);
+		this.getByteBuffer().putShort(position, value, this.isInverted());
+	}
+
+	@Override
+	public void writeInt(int value) {
+		int position = this.claim(Integer.BYTES);
+		this.getByteBuffer().putInt(position, value, this.isInverted());
+	}
+
+	@Override
+	public void writeLong(long value) {
+		int position = this.claim(Long.BYTES);
+		this.getByteBuffer().putLong(position, value, this.isInverted());
+	}
+
+	private int claim(int bytes) {
+		if (this.isClosed())
+			throw new BufferRuntimeException(WRITE_CLOSED_BUFFER);
+
+		if (this.isDynamic() && this.offset() + bytes > this.capacity())
+			this.getByteBuffer().grow(this.offset() + bytes);
+
+		if (this.offset() + bytes > this.capacity())
+			throw new BufferRuntimeException(WRITE_BYTE_ARRAY, this.offset(), bytes, this.capacity());
+
+		int position = this.offset();
+		this.setOffset(position + bytes);
+
+		return position;
+	}
+}
@@ -0,0 +1,386 @@
+package org.diverproject.scarlet.stream.buffer;
+
+import static org.diverproject.scarlet.stream.language.BufferLanguage.BUFFER_CHANNEL_IO_EXCEPTION;
+import static org.diverproject.scarlet.stream.language.BufferLanguage.BUFFER_GROW_LIMIT;
+import static org.diverproject.scarlet.stream.language.BufferLanguage.BUFFER_NO_ARRAY;
+import static org.diverproject.scarlet.stream.language.BufferLanguage.WRITE_CLOSED_BUFFER;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.channels.GatheringByteChannel;
+import java.util.Arrays;
+import java.util.Objects;
+
+@Accessors(chain = true)
+public class CompositeByteBuffer implements ByteBuffer {
+
+	public static final int DEFAULT_SEGMENT_SIZE = 4096;
+
+	private java.nio.ByteBuffer[] segments = new java.nio.ByteBuffer[4];
+	private int[] offsets = new int[4];
+	private int count;
+	private int length;
+	private int last;
+	private boolean closed;
+	private @Getter @Setter int segmentSize = DEFAULT_SEGMENT_SIZE;
+	private @Getter @Setter int maxLength = DefaultByteBuffer.MAX_LENGTH;
+
+	public CompositeByteBuffer() {
+	}
+
+	public CompositeByteBuffer(byte[]... arrays) {
+		for (byte[] array : arrays)
+			this.add(array);
+	}
+
+	public CompositeByteBuffer add(byte[] bytes) {
+		return this.add(bytes, 0, bytes.length);
+	}
+
+	public CompositeByteBuffer add(byte[] bytes, int offset, int length) {
+		return this.add(java.nio.ByteBuffer.wrap(bytes, offset, length));
+	}
+
+	public CompositeByteBuffer add(ByteBuffer byteBuffer) {
+		if (byteBuffer instanceof CompositeByteBuffer) {
+			CompositeByteBuffer composite = (CompositeByteBuffer) byteBuffer;
+
+			for (int i = 0; i < composite.count; i++)
+				this.add(composite.segments[i]);
+
+			return this;
+		}
+
+		if (byteBuffer.hasArray())
+			return this.add(byteBuffer.data(), 0, byteBuffer.length());
+
+		if (byteBuffer instanceof NioByteBuffer)
+			return this.add(((NioByteBuffer) byteBuffer).getBuffer());
+
+		return this.add(byteBuffer.view(0, byteBuffer.length()));
+	}
+
+	public CompositeByteBuffer add(java.nio.ByteBuffer buffer) {
+		if (this.isClosed())
+			throw new BufferRuntimeException(WRITE_CLOSED_BUFFER);
+
+		if (!buffer.hasRemaining())
+			return this;
+
+		if ((long) this.length + buffer.remaining() > this.getMaxLength())
+			throw new BufferRuntimeException(BUFFER_GROW_LIMIT, this.length + buffer.remaining(), this.getMaxLength());
+
+		if (this.count == this.segments.length) {
+			this.segments = Arrays.copyOf(this.segments, this.count * 2);
+			this.offsets = Arrays.copyOf(this.offsets, this.count * 2);
+		}
+
+		this.segments[this.count] = buffer.slice().order(ByteOrder.BIG_ENDIAN);
+		this.offsets[this.count] = this.length;
+		this.length += buffer.remaining();
+		this.count++;
+
+		return this;
+	}
+
+	public CompositeByteBuffer truncate(int length) {
+		if (length >= this.length)
+			return this;
+
+		Objects.checkIndex(length, this.length);
+
+		int count = 0;
+
+		if (length > 0) {
+			int segment = this.segmentOf(length - 1);
+			this.segments[segment] = this.segments[segment].duplicate().limit(length - this.offsets[segment]).slice().order(ByteOrder.BIG_ENDIAN);
+			count = segment + 1;
+		}
+
+		Arrays.fill(this.segments, count, this.count, null);
+		this.count = count;
+		this.length = length;
+		this.last = 0;
+
+		return this;
+	}
+
+	public int segments() {
+		return this.count;
+	}
+
+	public java.nio.ByteBuffer[] nioBuffers() {
+		return this.nioBuffers(0, this.length);
+	}
+
+	public java.nio.ByteBuffer[] nioBuffers(int offset, int length) {
+		Objects.checkFromIndexSize(offset, length, this.length);
+
+		if (length == 0)
+			return new java.nio.ByteBuffer[0];
+
+		int first = this.segmentOf(offset);
+		int last = this.segmentOf(offset + length - 1);
+		java.nio.ByteBuffer[] buffers = new java.nio.ByteBuffer[last - first + 1];
+
+		for (int i = first; i <= last; i++) {
+			int start = Math.max(offset, this.offsets[i]) - this.offsets[i];
+			int end = Math.min(offset + length, this.offsets[i] + this.segments[i].limit()) - this.offsets[i];
+			buffers[i - first] = this.segments[i].duplicate().limit(end).position(start);
+		}
+
+		return buffers;
+	}
+
+	public long writeTo(GatheringByteChannel channel) {
+		return this.writeTo(channel, 0, this.length);
+	}
+
+	public long writeTo(GatheringByteChannel channel, int offset, int length) {
+		java.nio.ByteBuffer[] buffers = this.nioBuffers(offset, length);
+		long written = 0;
+
+		try {
+			while (written < length)
+				written += channel.write(buffers);
+		} catch (IOException e) {
+			throw new BufferRuntimeException(e, BUFFER_CHANNEL_IO_EXCEPTION, offset + written, length - written);
+		}
+
+		return written;
+	}
+
+	public byte get(int index) {
+		int segment = this.segmentOf(index);
+		return this.segments[segment].get(index - this.offsets[segment]);
+	}
+
+	public void get(int index, byte[] bytes, int offset, int length) {
+		while (length > 0) {
+			int segment = this.segmentOf(index);
+			java.nio.ByteBuffer buffer = this.segments[segment];
+			int local = index - this.offsets[segment];
+			int count = Math.min(length, buffer.limit() - local);
+
+			if (buffer.hasArray())
+				System.arraycopy(buffer.array(), buffer.arrayOffset() + local, bytes, offset, count);
+			else
+				for (int i = 0; i < count; i++)
+					bytes[offset + i] = buffer.get(local + i);
+
+			index += count;
+			offset += count;
+			length -= count;
+		}
+	}
+
+	public void put(int index, byte value) {
+		int segment = this.segmentOf(index);
+		this.segments[segment].put(index - this.offsets[segment], value);
+	}
+
+	public void put(int index, byte[] bytes, int offset, int length) {
+		while (length > 0) {
+			int segment = this.segmentOf(index);
+			java.nio.ByteBuffer buffer = this.segments[segment];
+			int local = index - this.offsets[segment];
+			int count = Math.min(length, buffer.limit() - local);
+
+			if (buffer.hasArray())
+				System.arraycopy(bytes, offset, buffer.array(), buffer.arrayOffset() + local, count);
+			else
+				for (int i = 0; i < count; i++)
+					buffer.put(local + i, bytes[offset + i]);
+
+			index += count;
+			offset += count;
+			length -= count;
+		}
+	}
+
+	public short getShort(int index, boolean inverted) {
+		int segment = this.segmentOf(index);
+		int local = index - this.offsets[segment];
+		short value = local + Short.BYTES <= this.segments[segment].limit()
+			? this.segments[segment].getShort(local)
+			: (short) this.getBytes(index, Short.BYTES);
+
+		return inverted ? Short.reverseBytes(value) : value;
+	}
+
+	public int getInt(int index, boolean inverted) {
+		int segment = this.segmentOf(index);
+		int local = index - this.offsets[segment];
+		int value = local + Integer.BYTES <= this.segments[segment].limit()
+			? this.segments[segment].getInt(local)
+			: (int) this.getBytes(index, Integer.BYTES);
+
+		return inverted ? Integer.reverseBytes(value) : value;
+	}
+
+	public long getLong(int index, boolean inverted) {
+		int segment = this.segmentOf(index);
+		int local = index - this.offsets[segment];
+		long value = local + Long.BYTES <= this.segments[segment].limit()
+			? this.segments[segment].getLong(local)
+			: this.getBytes(index, Long.BYTES);
+
+		return inverted ? Long.reverseBytes(value) : value;
+	}
+
+	public void putShort(int index, short value, boolean inverted) {
+		int segment = this.segmentOf(index);
+		int local = index - this.offsets[segment];
+		value = inverted ? Short.reverseBytes(value) : value;
+
+		if (local + Short.BYTES <= this.segments[segment].limit())
+			this.segments[segment].putShort(local, value);
+		else
+			this.putBytes(index, value, Short.BYTES);
+	}
+
+	public void putInt(int index, int value, boolean inverted) {
+		int segment = this.segmentOf(index);
+		int local = index - this.offsets[segment];
+		value = inverted ? Integer.reverseBytes(value) : value;
+
+		if (local + Integer.BYTES <= this.segments[segment].limit())
+			this.segments[segment].putInt(local, value);
+		else
+			this.putBytes(index, value, Integer.BYTES);
+	}
+
+	public void putLong(int index, long value, boolean inverted) {
+		int segment = this.segmentOf(index);
+		int local = index - this.offsets[segment];
+		value = inverted ? Long.reverseBytes(value) : value;
+
+		if (local + Long.BYTES <= this.segments[segment].limit())
+			this.segments[segment].putLong(local, value);
+		else
+			this.putBytes(index, value, Long.BYTES);
+	}
+
+	@Override
+	public boolean isClosed() {
+		return this.closed;
+	}
+
+	@Override
+	public void close() {
+		Arrays.fill(this.segments, null);
+		this.count = 0;
+		this.length = 0;
+		this.last = 0;
+		this.closed = true;
+	}
+
+	@Override
+	public void clear() {
+		for (int i = 0; i < this.count; i++) {
+			java.nio.ByteBuffer buffer = this.segments[i];
+
+			if (buffer.hasArray())
+				Arrays.fill(buffer.array(), buffer.arrayOffset(), buffer.arrayOffset() + buffer.limit(), (byte) 0);
+			else
+				for (int j = 0; j < buffer.limit(); j++)
+					buffer.put(j, (byte) 0);
+		}
+	}
+
+	@Override
+	public void reset(int length) {
+		Arrays.fill(this.segments, null);
+		this.count = 0;
+		this.length = 0;
+		this.last = 0;
+		this.closed = false;
+		this.add(java.nio.ByteBuffer.allocate(length));
+	}
+
+	@Override
+	public void grow(int length) {
+		if (length <= this.length)
+			return;
+
+		if (length > this.getMaxLength())
+			throw new BufferRuntimeException(BUFFER_GROW_LIMIT, length, this.getMaxLength());
+
+		int segmentLength = Math.min(Math.max(this.getSegmentSize(), length - this.length), this.getMaxLength() - this.length);
+		this.add(java.nio.ByteBuffer.allocate(segmentLength));
+	}
+
+	@Override
+	public ByteBuffer newBuffer(int length) {
+		return new CompositeByteBuffer()
+			.setSegmentSize(this.getSegmentSize())
+			.setMaxLength(this.getMaxLength())
+			.add(java.nio.ByteBuffer.allocate(length));
+	}
+
+	@Override
+	public int length() {
+		return this.length;
+	}
+
+	@Override
+	public java.nio.ByteBuffer view(int offset, int length) {
+		Objects.checkFromIndexSize(offset, length, this.length);
+
+		if (length > 0) {
+			int segment = this.segmentOf(offset);
+			int local = offset - this.offsets[segment];
+
+			if (local + length <= this.segments[segment].limit())
+				return this.segments[segment].duplicate().limit(local + length).position(local).slice().asReadOnlyBuffer();
+		}
+
+		byte[] bytes = new byte[length];
+		this.get(offset, bytes, 0, length);
+
+		return java.nio.ByteBuffer.wrap(bytes).asReadOnlyBuffer();
+	}
+
+	@Override
+	public boolean hasArray() {
+		return false;
+	}
+
+	@Override
+	public byte[] data() {
+		throw new BufferRuntimeException(BUFFER_NO_ARRAY);
+	}
+
+	private int segmentOf(int index) {
+		Objects.checkIndex(index, this.length);
+
+		int last = this.last;
+
+		if (index >= this.offsets[last] && index < this.offsets[last] + this.segments[last].limit())
+			return last;
+
+		int segment = Arrays.binarySearch(this.offsets, 0, this.count, index);
+		segment = segment < 0 ? -segment - 2 : segment;
+		this.last = segment;
+
+		return segment;
+	}
+
+	private long getBytes(int index, int bytes) {
+		long value = 0;
+
+		for (int i = 0; i < bytes; i++)
+			value = (value << 8) | (this.get(index + i) & 0xFF);
+
+		return value;
+	}
+
+	private void putBytes(int index, long value, int bytes) {
+		for (int i = 0; i < bytes; i++)
+			this.put(index + i, (byte) (value >>> (8 * (bytes - 1 - i))));
+	}
+}
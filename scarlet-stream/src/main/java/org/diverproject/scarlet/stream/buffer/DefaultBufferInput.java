@@ -16,7 +16,7 @@ import org.diverproject.scarlet.stream.Reader;
 public class DefaultBufferInput extends DefaultInput implements BufferInput {
 
 	private BufferReader bufferReader;
-	private boolean inverted;
+	private long mark;
 
 	@Override
 	protected Reader getReader() {
@@ -51,11 +51,73 @@ public class DefaultBufferInput extends DefaultInput implements BufferInput {
 	@Override
 	public void reset() {
 		this.getBufferReader().reset();
+		this.setMark(0);
 	}
 
 	@Override
 	public void close() {
 		this.getBufferReader().close();
+		this.setMark(0);
+	}
+
+	@Override
+	public long position() {
+		return this.getBufferReader().position();
+	}
+
+	@Override
+	public void position(long position) {
+		this.getBufferReader().position(position);
+	}
+
+	@Override
+	public void mark() {
+		this.setMark(this.position());
+	}
+
+	@Override
+	public void rewind() {
+		this.position(this.getMark());
+	}
+
+	@Override
+	public byte peekByte() {
+		return this.getByteAt(this.position());
+	}
+
+	@Override
+	public short peekShort() {
+		return this.getShortAt(this.position());
+	}
+
+	@Override
+	public int peekInt() {
+		return this.getIntAt(this.position());
+	}
+
+	@Override
+	public long peekLong() {
+		return this.getLongAt(this.position());
+	}
+
+	@Override
+	public byte getByteAt(long position) {
+		return this.getBufferReader().readByteAt(position);
+	}
+
+	@Override
+	public short getShortAt(long position) {
+		return this.getBufferReader().readShortAt(position);
+	}
+
+	@Override
+	public int getIntAt(long position) {
+		return this.getBufferReader().readIntAt(position);
+	}
+
+	@Override
+	public long getLongAt(long position) {
+		return this.getBufferReader().readLongAt(position);
 	}
 
 	@Override
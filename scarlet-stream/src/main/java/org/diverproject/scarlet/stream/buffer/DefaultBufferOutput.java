@@ -17,25 +17,63 @@ import org.diverproject.scarlet.util.ArrayUtils;
 public class DefaultBufferOutput extends DefaultOutput implements BufferOutput {
 
 	private BufferWriter bufferWriter;
-	private boolean inverted;
-	private boolean dynamic;
+	private ByteBuffer spareBuffer;
+
+	public boolean isDynamic() {
+		return this.getBufferWriter().isDynamic();
+	}
+
+	public DefaultBufferOutput setDynamic(boolean dynamic) {
+		this.getBufferWriter().setDynamic(dynamic);
+		return this;
+	}
 
 	@Override
 	public byte[] flush() {
 		if (this.offset() == 0)
 			return new byte[0];
 
-		byte[] data = this.getByteBuffer().data();
+		ByteBuffer byteBuffer = this.getByteBuffer();
+
+		if (this.isDynamic() || !byteBuffer.hasArray()) {
+			byte[] flushed = new byte[this.offset()];
+			byteBuffer.view(0, this.offset()).get(flushed);
+			this.reset();
+
+			return flushed;
+		}
+
+		byte[] data = byteBuffer.data();
 		byte[] flushed = ArrayUtils.subArray(data, 0, this.offset());
-		int length = this.isDynamic() ? this.capacity() : this.capacity() - this.offset();
-		byte[] newData = new byte[length];
+		int length = this.capacity() - this.offset();
+		ByteBuffer newBuffer = byteBuffer.newBuffer(length);
 
-		System.arraycopy(data, this.offset(), newData, 0, length);
-		this.setBufferWriter(new DefaultBufferWriter().setByteBuffer(new DefaultByteBuffer(newData)));
+		System.arraycopy(data, this.offset(), newBuffer.data(), 0, length);
+		this.getBufferWriter().setByteBuffer(newBuffer).setOffset(0);
+		byteBuffer.close();
 
 		return flushed;
 	}
 
+	@Override
+	public java.nio.ByteBuffer flushView() {
+		ByteBuffer byteBuffer = this.getByteBuffer();
+		java.nio.ByteBuffer view = byteBuffer.view(0, this.offset());
+
+		if (this.offset() == 0)
+			return view;
+
+		if (this.getSpareBuffer() == null || this.getSpareBuffer().isClosed())
+			this.setSpareBuffer(byteBuffer.newBuffer(byteBuffer.length()));
+		else if (this.getSpareBuffer() instanceof CompositeByteBuffer || this.getSpareBuffer().length() < byteBuffer.length())
+			this.getSpareBuffer().reset(byteBuffer.length());
+
+		this.getBufferWriter().setByteBuffer(this.getSpareBuffer()).setOffset(0);
+		this.setSpareBuffer(byteBuffer);
+
+		return view;
+	}
+
 	@Override
 	protected Writer getWriter() {
 		return this.getBufferWriter();
@@ -74,6 +112,11 @@ public class DefaultBufferOutput extends DefaultOutput implements BufferOutput {
 	@Override
 	public void close() {
 		this.getBufferWriter().close();
+
+		if (this.getSpareBuffer() != null)
+			this.getSpareBuffer().close();
+
+		this.setSpareBuffer(null);
 	}
 
 	@Override
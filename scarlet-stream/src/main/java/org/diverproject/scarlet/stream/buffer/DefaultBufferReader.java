@@ -1,13 +1,22 @@
 package org.diverproject.scarlet.stream.buffer;
 
+import static org.diverproject.scarlet.stream.language.BufferLanguage.READ_AT;
 import static org.diverproject.scarlet.stream.language.BufferLanguage.READ_BYTE_ARRAY;
 import static org.diverproject.scarlet.stream.language.BufferLanguage.READ_CLOSED;
+import static org.diverproject.scarlet.stream.language.BufferLanguage.READ_POSITION;
 import static org.diverproject.scarlet.stream.language.BufferLanguage.READ_SINGLE_BYTE;
+import static org.diverproject.scarlet.stream.language.BufferLanguage.READ_UTF8_LENGTH;
+import static org.diverproject.scarlet.stream.language.StreamLanguage.GET_VAR_INT_MALFORMED;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.experimental.Accessors;
+import org.diverproject.scarlet.stream.StreamRuntimeException;
+import org.diverproject.scarlet.stream.StringCache;
+import org.diverproject.scarlet.stream.StreamUtil;
+
+import java.util.Objects;
 
 @Data
 @Accessors(chain = true)
@@ -42,27 +51,93 @@ public class DefaultBufferReader implements BufferReader {
 
 	@Override
 	public byte[] read(int count) {
-		if (!this.hasBytes(count))
-			throw new BufferRuntimeException(READ_BYTE_ARRAY, this.offset(), count, this.capacity());
+		byte[] data = new byte[count];
+		this.read(data, 0, count);
 
-		try {
+		return data;
+	}
 
-			byte[] data = new byte[count];
+	@Override
+	public void read(byte[] bytes, int offset, int length) {
+		Objects.checkFromIndexSize(offset, length, bytes.length);
 
-			if (this.isInverted())
-				for (int i = 0; i < count; i++)
-					data[count - i - 1] = this.read();
-			else
-				for (int i = 0; i < count; i++)
-					data[i] = this.read();
+		int position = this.claim(length);
+		byte[] data = this.data();
 
-			return data;
+		if (this.isInverted())
+			for (int i = offset + length - 1, j = position; i >= offset; i--, j++)
+				bytes[i] = data[j];
+		else
+			System.arraycopy(data, position, bytes, offset, length);
+	}
 
-		} catch (IndexOutOfBoundsException e) {
-			throw new BufferRuntimeException(READ_SINGLE_BYTE, this.offset(), this.capacity());
-		} catch (NullPointerException e) {
-			throw new BufferRuntimeException(READ_CLOSED);
+	@Override
+	public short readShort() {
+		return StreamUtil.shortOf(this.data(), this.claim(Short.BYTES), this.isInverted());
+	}
+
+	@Override
+	public int readInt() {
+		return StreamUtil.intOf(this.data(), this.claim(Integer.BYTES), this.isInverted());
+	}
+
+	@Override
+	public long readLong() {
+		return StreamUtil.longOf(this.data(), this.claim(Long.BYTES), this.isInverted());
+	}
+
+	@Override
+	public int readVarInt() {
+		byte[] data = this.openData();
+		int value = 0;
+
+		for (int position = this.offset(), shift = 0; shift < Integer.SIZE; shift += 7) {
+			if (position == this.capacity())
+				throw new BufferRuntimeException(READ_SINGLE_BYTE, position, this.capacity());
+
+			byte read = data[position++];
+			value |= (read & 0x7F) << shift;
+
+			if (read >= 0) {
+				this.setOffset(position);
+				return value;
+			}
+		}
+
+		throw new StreamRuntimeException(GET_VAR_INT_MALFORMED, Integer.SIZE);
+	}
+
+	@Override
+	public long readVarLong() {
+		byte[] data = this.openData();
+		long value = 0;
+
+		for (int position = this.offset(), shift = 0; shift < Long.SIZE; shift += 7) {
+			if (position == this.capacity())
+				throw new BufferRuntimeException(READ_SINGLE_BYTE, position, this.capacity());
+
+			byte read = data[position++];
+			value |= (long) (read & 0x7F) << shift;
+
+			if (read >= 0) {
+				this.setOffset(position);
+				return value;
+			}
 		}
+
+		throw new StreamRuntimeException(GET_VAR_INT_MALFORMED, Long.SIZE);
+	}
+
+	@Override
+	public String readUtf8(StringCache stringCache) {
+		int length = this.readVarInt();
+
+		if (length < 0 || length > this.capacity() - this.offset())
+			throw new BufferRuntimeException(READ_UTF8_LENGTH, length, this.offset(), this.capacity());
+
+		int position = this.claim(length);
+
+		return stringCache == null ? StreamUtil.utf8Of(this.data(), position, length) : stringCache.get(this.data(), position, length);
 	}
 
 	@Override
@@ -101,12 +176,75 @@ public class DefaultBufferReader implements BufferReader {
 		return this.getOffset();
 	}
 
+	@Override
+	public long position() {
+		return this.offset();
+	}
+
+	@Override
+	public void position(long position) {
+		if (position < 0 || position > this.capacity())
+			throw new BufferRuntimeException(READ_POSITION, position, this.capacity());
+
+		this.setOffset((int) position);
+	}
+
+	@Override
+	public byte readByteAt(long position) {
+		return this.data()[this.index(position, Byte.BYTES)];
+	}
+
+	@Override
+	public short readShortAt(long position) {
+		return StreamUtil.shortOf(this.data(), this.index(position, Short.BYTES), this.isInverted());
+	}
+
+	@Override
+	public int readIntAt(long position) {
+		return StreamUtil.intOf(this.data(), this.index(position, Integer.BYTES), this.isInverted());
+	}
+
+	@Override
+	public long readLongAt(long position) {
+		return StreamUtil.longOf(this.data(), this.index(position, Long.BYTES), this.isInverted());
+	}
+
 	@Override
 	public byte[] data() {
 		return this.getByteBuffer().data();
 	}
 
+	private byte[] openData() {
+		if (this.isClosed())
+			throw new BufferRuntimeException(READ_CLOSED);
+
+		return this.data();
+	}
+
+	private int claim(int bytes) {
+		if (this.isClosed())
+			throw new BufferRuntimeException(READ_CLOSED);
+
+		if (!this.hasBytes(bytes))
+			throw new BufferRuntimeException(READ_BYTE_ARRAY, this.offset(), bytes, this.capacity());
+
+		int position = this.offset();
+		this.setOffset(position + bytes);
+
+		return position;
+	}
+
 	private boolean hasBytes(int bytes) {
 		return this.offset() + bytes <= this.capacity();
 	}
+
+	private int index(long position, int bytes) {
+		if (this.isClosed())
+			throw new BufferRuntimeException(READ_CLOSED);
+
+		if (position < 0 || position > this.capacity() - bytes)
+			throw new BufferRuntimeException(READ_AT, position, bytes, this.capacity());
+
+		return (int) position;
+	}
 }
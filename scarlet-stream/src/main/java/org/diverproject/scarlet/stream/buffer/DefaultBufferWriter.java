@@ -1,5 +1,6 @@
 package org.diverproject.scarlet.stream.buffer;
 
+import static org.diverproject.scarlet.stream.language.BufferLanguage.WRITE_BYTE_ARRAY;
 import static org.diverproject.scarlet.stream.language.BufferLanguage.WRITE_CLOSED_BUFFER;
 import static org.diverproject.scarlet.stream.language.BufferLanguage.WRITE_END_OF_BUFFER;
 
@@ -7,6 +8,9 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.experimental.Accessors;
+import org.diverproject.scarlet.stream.StreamUtil;
+
+import java.util.Objects;
 
 @Data
 @Accessors(chain = true)
@@ -17,6 +21,7 @@ public class DefaultBufferWriter implements BufferWriter {
 	private ByteBuffer byteBuffer;
 	private int offset;
 	private boolean inverted;
+	private boolean dynamic;
 
 	@Override
 	public void close() {
@@ -66,6 +71,8 @@ public class DefaultBufferWriter implements BufferWriter {
 
 	@Override
 	public void write(byte value) {
+		this.expand(Byte.BYTES);
+
 		try {
 
 			this.data()[this.offset()] = value;
@@ -80,12 +87,116 @@ public class DefaultBufferWriter implements BufferWriter {
 
 	@Override
 	public void write(byte[] values) {
-		if (this.isInverted()) {
-			for (int i = values.length - 1; i >= 0; i--)
-				this.write(values[i]);
-		} else {
-			for (byte value : values)
-				this.write(value);
+		this.write(values, 0, values.length);
+	}
+
+	@Override
+	public void write(byte[] values, int offset, int length) {
+		Objects.checkFromIndexSize(offset, length, values.length);
+
+		int position = this.claim(length);
+		byte[] data = this.data();
+
+		if (this.isInverted())
+			for (int i = offset + length - 1, j = position; i >= offset; i--, j++)
+				data[j] = values[i];
+		else
+			System.arraycopy(values, offset, data, position, length);
+	}
+
+	@Override
+	public void writeShort(short value) {
+		int position = this.claim(Short.BYTES);
+		StreamUtil.put(this.data(), position, value, this.isInverted());
+	}
+
+	@Override
+	public void writeShorts(short[] values) {
+		int position = this.claim(values.length * Short.BYTES);
+		byte[] data = this.data();
+
+		for (short value : values) {
+			StreamUtil.put(data, position, value, this.isInverted());
+			position += Short.BYTES;
 		}
 	}
+
+	@Override
+	public void writeInt(int value) {
+		int position = this.claim(Integer.BYTES);
+		StreamUtil.put(this.data(), position, value, this.isInverted());
+	}
+
+	@Override
+	public void writeInts(int[] values) {
+		int position = this.claim(values.length * Integer.BYTES);
+		byte[] data = this.data();
+
+		for (int value : values) {
+			StreamUtil.put(data, position, value, this.isInverted());
+			position += Integer.BYTES;
+		}
+	}
+
+	@Override
+	public void writeLong(long value) {
+		int position = this.claim(Long.BYTES);
+		StreamUtil.put(this.data(), position, value, this.isInverted());
+	}
+
+	@Override
+	public void writeLongs(long[] values) {
+		int position = this.claim(values.length * Long.BYTES);
+		byte[] data = this.data();
+
+		for (long value : values) {
+			StreamUtil.put(data, position, value, this.isInverted());
+			position += Long.BYTES;
+		}
+	}
+
+	@Override
+	public void writeVarInt(int value) {
+		int position = this.claim(StreamUtil.varIntSize(value));
+		StreamUtil.putVarInt(this.data(), position, value);
+	}
+
+	@Override
+	public void writeVarLong(long value) {
+		int position = this.claim(StreamUtil.varLongSize(value));
+		StreamUtil.putVarLong(this.data(), position, value);
+	}
+
+	@Override
+	public void writeUtf8(String value) {
+		int length = StreamUtil.utf8Length(value);
+		int position = this.claim(StreamUtil.varIntSize(length) + length);
+		byte[] data = this.data();
+
+		StreamUtil.putUtf8(data, StreamUtil.putVarInt(data, position, length), value);
+	}
+
+	private int claim(int bytes) {
+		if (this.isClosed())
+			throw new BufferRuntimeException(WRITE_CLOSED_BUFFER);
+
+		this.expand(bytes);
+
+		if (!this.hasSpace(bytes))
+			throw new BufferRuntimeException(WRITE_BYTE_ARRAY, this.offset(), bytes, this.capacity());
+
+		int position = this.offset();
+		this.setOffset(position + bytes);
+
+		return position;
+	}
+
+	private void expand(int bytes) {
+		if (this.isDynamic() && !this.isClosed() && !this.hasSpace(bytes))
+			this.getByteBuffer().grow(this.offset() + bytes);
+	}
+
+	private boolean hasSpace(int bytes) {
+		return this.offset() + bytes <= this.capacity();
+	}
 }
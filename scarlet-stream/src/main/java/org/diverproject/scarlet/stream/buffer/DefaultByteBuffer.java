@@ -1,19 +1,28 @@
 package org.diverproject.scarlet.stream.buffer;
 
-import lombok.AllArgsConstructor;
+import static org.diverproject.scarlet.stream.language.BufferLanguage.BUFFER_GROW_LIMIT;
+
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.experimental.Accessors;
 
+import java.util.Arrays;
+
 @Data
 @Accessors(chain = true)
 @NoArgsConstructor
-@AllArgsConstructor
 public class DefaultByteBuffer implements ByteBuffer {
 
 	public static final int EMPTY = -1;
+	public static final int MAX_LENGTH = Integer.MAX_VALUE - 8;
 
 	private byte[] bytes;
+	private GrowthPolicy growthPolicy = GrowthPolicy.DOUBLE;
+	private int maxLength = MAX_LENGTH;
+
+	public DefaultByteBuffer(byte[] bytes) {
+		this.setBytes(bytes);
+	}
 
 	@Override
 	public boolean isClosed() {
@@ -27,7 +36,7 @@ public class DefaultByteBuffer implements ByteBuffer {
 
 	@Override
 	public void clear() {
-		this.reset(this.getBytes().length);
+		Arrays.fill(this.getBytes(), (byte) 0);
 	}
 
 	@Override
@@ -35,11 +44,40 @@ public class DefaultByteBuffer implements ByteBuffer {
 		this.setBytes(new byte[length]);
 	}
 
+	@Override
+	public void grow(int length) {
+		if (length <= this.length())
+			return;
+
+		if (length > this.getMaxLength())
+			throw new BufferRuntimeException(BUFFER_GROW_LIMIT, length, this.getMaxLength());
+
+		int newLength = Math.min(Math.max(this.getGrowthPolicy().grow(this.length(), length), length), this.getMaxLength());
+		this.setBytes(Arrays.copyOf(this.getBytes(), newLength));
+	}
+
+	@Override
+	public ByteBuffer newBuffer(int length) {
+		return new DefaultByteBuffer(new byte[length])
+			.setGrowthPolicy(this.getGrowthPolicy())
+			.setMaxLength(this.getMaxLength());
+	}
+
 	@Override
 	public int length() {
 		return this.getBytes() != null ? this.getBytes().length : -1;
 	}
 
+	@Override
+	public java.nio.ByteBuffer view(int offset, int length) {
+		return java.nio.ByteBuffer.wrap(this.getBytes(), offset, length).slice().asReadOnlyBuffer();
+	}
+
+	@Override
+	public boolean hasArray() {
+		return true;
+	}
+
 	@Override
 	public byte[] data() {
 		return this.getBytes();
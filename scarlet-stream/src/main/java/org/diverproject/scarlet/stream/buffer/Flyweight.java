@@ -0,0 +1,242 @@
+package org.diverproject.scarlet.stream.buffer;
+
+import static org.diverproject.scarlet.stream.language.BufferLanguage.READ_BYTE_ARRAY;
+import static org.diverproject.scarlet.stream.language.StreamLanguage.OBJECT_CODEC_VARIABLE;
+
+import org.diverproject.scarlet.stream.ObjectCodec;
+import org.diverproject.scarlet.stream.StreamRuntimeException;
+import org.diverproject.scarlet.stream.StreamUtil;
+
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class Flyweight<D> {
+
+	private final ObjectCodec<D> objectCodec;
+	private final int size;
+	private final Map<String, Integer> offsets;
+	private byte[] data;
+	private java.nio.ByteBuffer buffer;
+	private int limit;
+	private int offset;
+	private boolean inverted;
+	private boolean swap;
+
+	private Flyweight(ObjectCodec<D> objectCodec) {
+		if (!objectCodec.isFixedSize())
+			throw new StreamRuntimeException(OBJECT_CODEC_VARIABLE, objectCodec.getObjectClass().getName());
+
+		this.objectCodec = objectCodec;
+		this.size = objectCodec.getFixedSize();
+		this.offsets = new ConcurrentHashMap<>();
+	}
+
+	public static <D> Flyweight<D> of(Class<D> objectClass) {
+		return new Flyweight<>(ObjectCodec.of(objectClass));
+	}
+
+	public Flyweight<D> wrap(byte[] data, int offset) {
+		return this.wrap(data, data.length, offset);
+	}
+
+	public Flyweight<D> wrap(java.nio.ByteBuffer buffer, int offset) {
+		this.data = null;
+		this.buffer = buffer;
+		this.limit = buffer.limit();
+		this.swap = this.swapOf(buffer);
+
+		return this.moveTo(offset);
+	}
+
+	public Flyweight<D> wrap(ByteBuffer byteBuffer, int offset) {
+		if (byteBuffer.hasArray())
+			return this.wrap(byteBuffer.data(), byteBuffer.length(), offset);
+
+		if (byteBuffer instanceof NioByteBuffer)
+			return this.wrap(((NioByteBuffer) byteBuffer).getBuffer(), offset);
+
+		return this.wrap(byteBuffer.view(0, byteBuffer.length()), offset);
+	}
+
+	public Flyweight<D> wrap(BufferInput bufferInput) {
+		return this.setInverted(bufferInput.isInverted()).wrap(bufferInput.getByteBuffer(), bufferInput.offset());
+	}
+
+	public Flyweight<D> moveTo(int offset) {
+		if (offset < 0 || offset + this.size > this.limit)
+			throw new BufferRuntimeException(READ_BYTE_ARRAY, offset, this.size, this.limit);
+
+		this.offset = offset;
+
+		return this;
+	}
+
+	public boolean next() {
+		if (this.offset + 2 * this.size > this.limit)
+			return false;
+
+		this.offset += this.size;
+
+		return true;
+	}
+
+	public boolean isInverted() {
+		return this.inverted;
+	}
+
+	public Flyweight<D> setInverted(boolean inverted) {
+		this.inverted = inverted;
+
+		if (this.buffer != null)
+			this.swap = this.swapOf(this.buffer);
+
+		return this;
+	}
+
+	public int size() {
+		return this.size;
+	}
+
+	public int offset() {
+		return this.offset;
+	}
+
+	public int offsetOf(String name) {
+		return this.offsets.computeIfAbsent(name, this.objectCodec::offsetOf);
+	}
+
+	public byte getByte(int fieldOffset) {
+		int index = this.offset + fieldOffset;
+
+		return this.data != null ? this.data[index] : this.buffer.get(index);
+	}
+
+	public short getShort(int fieldOffset) {
+		int index = this.offset + fieldOffset;
+
+		if (this.data != null)
+			return StreamUtil.shortOf(this.data, index, this.inverted);
+
+		short value = this.buffer.getShort(index);
+
+		return this.swap ? Short.reverseBytes(value) : value;
+	}
+
+	public int getInt(int fieldOffset) {
+		int index = this.offset + fieldOffset;
+
+		if (this.data != null)
+			return StreamUtil.intOf(this.data, index, this.inverted);
+
+		int value = this.buffer.getInt(index);
+
+		return this.swap ? Integer.reverseBytes(value) : value;
+	}
+
+	public long getLong(int fieldOffset) {
+		int index = this.offset + fieldOffset;
+
+		if (this.data != null)
+			return StreamUtil.longOf(this.data, index, this.inverted);
+
+		long value = this.buffer.getLong(index);
+
+		return this.swap ? Long.reverseBytes(value) : value;
+	}
+
+	public float getFloat(int fieldOffset) {
+		return Float.intBitsToFloat(this.getInt(fieldOffset));
+	}
+
+	public double getDouble(int fieldOffset) {
+		return Double.longBitsToDouble(this.getLong(fieldOffset));
+	}
+
+	public boolean getBoolean(int fieldOffset) {
+		return this.getByte(fieldOffset) == 1;
+	}
+
+	public char getChar(int fieldOffset) {
+		return (char) this.getShort(fieldOffset);
+	}
+
+	public String getString(int fieldOffset, int size) {
+		return this.getString(fieldOffset, size, Charset.defaultCharset());
+	}
+
+	public String getString(int fieldOffset, int size, Charset charset) {
+		byte[] bytes = new byte[size];
+		this.copy(this.offset + fieldOffset, bytes);
+
+		String value = new String(bytes, charset);
+		int length = value.indexOf('\0');
+
+		return length == -1 ? value : value.substring(0, length);
+	}
+
+	public byte getByte(String name) {
+		return this.getByte(this.offsetOf(name));
+	}
+
+	public short getShort(String name) {
+		return this.getShort(this.offsetOf(name));
+	}
+
+	public int getInt(String name) {
+		return this.getInt(this.offsetOf(name));
+	}
+
+	public long getLong(String name) {
+		return this.getLong(this.offsetOf(name));
+	}
+
+	public float getFloat(String name) {
+		return this.getFloat(this.offsetOf(name));
+	}
+
+	public double getDouble(String name) {
+		return this.getDouble(this.offsetOf(name));
+	}
+
+	public boolean getBoolean(String name) {
+		return this.getBoolean(this.offsetOf(name));
+	}
+
+	public char getChar(String name) {
+		return this.getChar(this.offsetOf(name));
+	}
+
+	public D get() {
+		byte[] bytes = new byte[this.size];
+		this.copy(this.offset, bytes);
+
+		BufferInput bufferInput = BufferFactory.inputOf(bytes);
+
+		if (this.inverted)
+			bufferInput.invert();
+
+		return this.objectCodec.read(bufferInput);
+	}
+
+	private Flyweight<D> wrap(byte[] data, int limit, int offset) {
+		this.data = data;
+		this.buffer = null;
+		this.limit = limit;
+
+		return this.moveTo(offset);
+	}
+
+	private void copy(int index, byte[] bytes) {
+		if (this.data != null)
+			System.arraycopy(this.data, index, bytes, 0, bytes.length);
+		else
+			for (int i = 0; i < bytes.length; i++)
+				bytes[i] = this.buffer.get(index + i);
+	}
+
+	private boolean swapOf(java.nio.ByteBuffer buffer) {
+		return buffer.order() != (this.inverted ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+	}
+}
@@ -0,0 +1,234 @@
+package org.diverproject.scarlet.stream.buffer;
+
+import static org.diverproject.scarlet.stream.language.BufferLanguage.FRAME_DELIMITER_EMPTY;
+import static org.diverproject.scarlet.stream.language.BufferLanguage.FRAME_LENGTH_LIMIT;
+import static org.diverproject.scarlet.stream.language.BufferLanguage.FRAME_VAR_INT_MALFORMED;
+import static org.diverproject.scarlet.stream.language.BufferLanguage.FRAME_WIDTH;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+import org.diverproject.scarlet.stream.StreamUtil;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+@Accessors(chain = true)
+public class FrameDecoder {
+
+	public static final int DEFAULT_CAPACITY = 4096;
+	public static final int DEFAULT_MAX_FRAME_LENGTH = 1 << 24;
+
+	private enum Framing { FIXED, VAR_INT, DELIMITER }
+
+	private final Framing framing;
+	private final int width;
+	private final byte[] delimiter;
+	private byte[] accumulator;
+	private int readIndex;
+	private int writeIndex;
+	private int scanIndex;
+	private @Getter @Setter boolean inverted;
+	private @Getter @Setter int maxFrameLength = DEFAULT_MAX_FRAME_LENGTH;
+
+	private FrameDecoder(Framing framing, int width, byte[] delimiter) {
+		this.framing = framing;
+		this.width = width;
+		this.delimiter = delimiter;
+		this.accumulator = new byte[DEFAULT_CAPACITY];
+	}
+
+	public static FrameDecoder fixed(int width) {
+		if (width != Byte.BYTES && width != Short.BYTES && width != Integer.BYTES)
+			throw new BufferRuntimeException(FRAME_WIDTH, width);
+
+		return new FrameDecoder(Framing.FIXED, width, null);
+	}
+
+	public static FrameDecoder varInt() {
+		return new FrameDecoder(Framing.VAR_INT, 0, null);
+	}
+
+	public static FrameDecoder delimited(byte... delimiter) {
+		if (delimiter.length == 0)
+			throw new BufferRuntimeException(FRAME_DELIMITER_EMPTY);
+
+		return new FrameDecoder(Framing.DELIMITER, 0, delimiter.clone());
+	}
+
+	public FrameDecoder feed(byte[] bytes) {
+		return this.feed(bytes, 0, bytes.length);
+	}
+
+	public FrameDecoder feed(byte[] bytes, int offset, int length) {
+		Objects.checkFromIndexSize(offset, length, bytes.length);
+
+		int position = this.claim(length);
+		System.arraycopy(bytes, offset, this.accumulator, position, length);
+
+		return this;
+	}
+
+	public FrameDecoder feed(java.nio.ByteBuffer buffer) {
+		int length = buffer.remaining();
+		int position = this.claim(length);
+		buffer.get(this.accumulator, position, length);
+
+		return this;
+	}
+
+	public FrameDecoder feed(BufferReader bufferReader) {
+		int length = bufferReader.capacity() - bufferReader.offset();
+		int position = this.claim(length);
+		boolean inverted = bufferReader.isInverted();
+
+		if (inverted)
+			bufferReader.invert();
+
+		try {
+			bufferReader.read(this.accumulator, position, length);
+		} finally {
+			if (inverted)
+				bufferReader.invert();
+		}
+
+		return this;
+	}
+
+	public BufferInput next() {
+		int pending = this.pending();
+		int start;
+		long length;
+
+		switch (this.framing) {
+			case FIXED:
+				if (pending < this.width)
+					return null;
+
+				length = this.lengthOf(this.readIndex);
+				start = this.readIndex + this.width;
+				break;
+
+			case VAR_INT:
+				length = 0;
+				start = this.readIndex;
+
+				for (int shift = 0; ; shift += 7) {
+					if (start == this.writeIndex)
+						return null;
+
+					if (shift >= Integer.SIZE)
+						throw new BufferRuntimeException(FRAME_VAR_INT_MALFORMED, this.readIndex);
+
+					byte read = this.accumulator[start++];
+					length |= (long) (read & 0x7F) << shift;
+
+					if (read >= 0)
+						break;
+				}
+				break;
+
+			default:
+				int found = this.indexOfDelimiter();
+
+				if (found == -1) {
+					if (pending > this.getMaxFrameLength() + this.delimiter.length)
+						throw new BufferRuntimeException(FRAME_LENGTH_LIMIT, pending, this.getMaxFrameLength());
+
+					return null;
+				}
+
+				start = this.readIndex;
+				length = found - start;
+		}
+
+		if (length > this.getMaxFrameLength())
+			throw new BufferRuntimeException(FRAME_LENGTH_LIMIT, length, this.getMaxFrameLength());
+
+		int end = start + (int) length + (this.framing == Framing.DELIMITER ? this.delimiter.length : 0);
+
+		if (end > this.writeIndex)
+			return null;
+
+		this.readIndex = end;
+		this.scanIndex = end;
+
+		return BufferFactory.inputOf(java.nio.ByteBuffer.wrap(this.accumulator, start, (int) length));
+	}
+
+	public int decode(Consumer<BufferInput> consumer) {
+		int frames = 0;
+		BufferInput frame;
+
+		while ((frame = this.next()) != null) {
+			consumer.accept(frame);
+			frames++;
+		}
+
+		return frames;
+	}
+
+	public int pending() {
+		return this.writeIndex - this.readIndex;
+	}
+
+	public int capacity() {
+		return this.accumulator.length;
+	}
+
+	public void reset() {
+		this.readIndex = 0;
+		this.writeIndex = 0;
+		this.scanIndex = 0;
+	}
+
+	private int claim(int length) {
+		int pending = this.pending();
+
+		if (pending == 0)
+			this.reset();
+
+		if (this.writeIndex + length > this.accumulator.length) {
+			byte[] accumulator = pending + length > this.accumulator.length
+				? new byte[Math.max(this.accumulator.length * 2, pending + length)]
+				: this.accumulator;
+
+			System.arraycopy(this.accumulator, this.readIndex, accumulator, 0, pending);
+			this.accumulator = accumulator;
+			this.scanIndex -= this.readIndex;
+			this.readIndex = 0;
+			this.writeIndex = pending;
+		}
+
+		int position = this.writeIndex;
+		this.writeIndex += length;
+
+		return position;
+	}
+
+	private long lengthOf(int index) {
+		switch (this.width) {
+			case Byte.BYTES:
+				return this.accumulator[index] & 0xFFL;
+
+			case Short.BYTES:
+				return StreamUtil.shortOf(this.accumulator, index, this.isInverted()) & 0xFFFFL;
+
+			default:
+				return StreamUtil.intOf(this.accumulator, index, this.isInverted()) & 0xFFFFFFFFL;
+		}
+	}
+
+	private int indexOfDelimiter() {
+		int last = this.writeIndex - this.delimiter.length;
+
+		for (int i = Math.max(this.scanIndex, this.readIndex); i <= last; i++)
+			if (this.accumulator[i] == this.delimiter[0] && Arrays.equals(this.accumulator, i, i + this.delimiter.length, this.delimiter, 0, this.delimiter.length))
+				return i;
+
+		this.scanIndex = Math.max(this.readIndex, last + 1);
+
+		return -1;
+	}
+}
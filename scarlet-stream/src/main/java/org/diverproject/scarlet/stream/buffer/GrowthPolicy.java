@@ -0,0 +1,13 @@
+package org.diverproject.scarlet.stream.buffer;
+
+@FunctionalInterface
+public interface GrowthPolicy {
+
+	GrowthPolicy DOUBLE = (length, required) -> Math.max(required, length > Integer.MAX_VALUE / 2 ? Integer.MAX_VALUE : length * 2);
+
+	int grow(int length, int required);
+
+	static GrowthPolicy linear(int step) {
+		return (length, required) -> Math.max(required, length > Integer.MAX_VALUE - step ? Integer.MAX_VALUE : length + step);
+	}
+}
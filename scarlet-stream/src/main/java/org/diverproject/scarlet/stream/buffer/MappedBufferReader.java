@@ -0,0 +1,193 @@
+package org.diverproject.scarlet.stream.buffer;
+
+import static org.diverproject.scarlet.stream.language.BufferLanguage.READ_AT;
+import static org.diverproject.scarlet.stream.language.BufferLanguage.READ_BYTE_ARRAY;
+import static org.diverproject.scarlet.stream.language.BufferLanguage.READ_CLOSED;
+import static org.diverproject.scarlet.stream.language.BufferLanguage.READ_OFFSET_RANGE;
+import static org.diverproject.scarlet.stream.language.BufferLanguage.READ_POSITION;
+import static org.diverproject.scarlet.stream.language.BufferLanguage.READ_UTF8_LENGTH;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
+import org.diverproject.scarlet.stream.StreamUtil;
+import org.diverproject.scarlet.stream.StringCache;
+
+import java.util.Objects;
+
+@Data
+@Accessors(chain = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class MappedBufferReader implements BufferReader {
+
+	private MappedFileBuffer byteBuffer;
+	private long position;
+	private boolean inverted;
+
+	@Override
+	public void invert() {
+		this.setInverted(!this.isInverted());
+	}
+
+	@Override
+	public byte read() {
+		return this.getByteBuffer().get(this.claim(Byte.BYTES));
+	}
+
+	@Override
+	public byte[] read(int count) {
+		byte[] data = new byte[count];
+		this.read(data, 0, count);
+
+		return data;
+	}
+
+	@Override
+	public void read(byte[] bytes, int offset, int length) {
+		Objects.checkFromIndexSize(offset, length, bytes.length);
+
+		long position = this.claim(length);
+		this.getByteBuffer().get(position, bytes, offset, length);
+
+		if (this.isInverted())
+			for (int i = offset, j = offset + length - 1; i < j; i++, j--) {
+				byte swap = bytes[i];
+				bytes[i] = bytes[j];
+				bytes[j] = swap;
+			}
+	}
+
+	@Override
+	public short readShort() {
+		return this.getByteBuffer().getShort(this.claim(Short.BYTES), this.isInverted());
+	}
+
+	@Override
+	public int readInt() {
+		return this.getByteBuffer().getInt(this.claim(Integer.BYTES), this.isInverted());
+	}
+
+	@Override
+	public long readLong() {
+		return this.getByteBuffer().getLong(this.claim(Long.BYTES), this.isInverted());
+	}
+
+	@Override
+	public String readUtf8(StringCache stringCache) {
+		int length = this.readVarInt();
+
+		if (length < 0 || length > this.size() - this.getPosition())
+			throw new BufferRuntimeException(READ_UTF8_LENGTH, length, this.getPosition(), this.size());
+
+		byte[] bytes = new byte[length];
+		this.getByteBuffer().get(this.claim(length), bytes, 0, length);
+
+		return stringCache == null ? StreamUtil.utf8Of(bytes, 0, length) : stringCache.get(bytes, 0, length);
+	}
+
+	@Override
+	public void close() {
+		this.setPosition(0);
+		this.getByteBuffer().close();
+	}
+
+	@Override
+	public void reset() {
+		this.setPosition(0);
+	}
+
+	@Override
+	public boolean isClosed() {
+		return this.getByteBuffer().isClosed();
+	}
+
+	@Override
+	public boolean isFull() {
+		return this.getPosition() == 0;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return this.getPosition() == this.size();
+	}
+
+	@Override
+	public int capacity() {
+		return this.getByteBuffer().length();
+	}
+
+	@Override
+	public int offset() {
+		if (this.getPosition() > Integer.MAX_VALUE)
+			throw new BufferRuntimeException(READ_OFFSET_RANGE, this.getPosition());
+
+		return (int) this.getPosition();
+	}
+
+	@Override
+	public long position() {
+		return this.getPosition();
+	}
+
+	@Override
+	public void position(long position) {
+		if (position < 0 || position > this.size())
+			throw new BufferRuntimeException(READ_POSITION, position, this.size());
+
+		this.setPosition(position);
+	}
+
+	@Override
+	public byte readByteAt(long position) {
+		return this.getByteBuffer().get(this.index(position, Byte.BYTES));
+	}
+
+	@Override
+	public short readShortAt(long position) {
+		return this.getByteBuffer().getShort(this.index(position, Short.BYTES), this.isInverted());
+	}
+
+	@Override
+	public int readIntAt(long position) {
+		return this.getByteBuffer().getInt(this.index(position, Integer.BYTES), this.isInverted());
+	}
+
+	@Override
+	public long readLongAt(long position) {
+		return this.getByteBuffer().getLong(this.index(position, Long.BYTES), this.isInverted());
+	}
+
+	public long size() {
+		return this.getByteBuffer().getSize();
+	}
+
+	@Override
+	public byte[] data() {
+		return this.getByteBuffer().data();
+	}
+
+	private long claim(int bytes) {
+		if (this.isClosed())
+			throw new BufferRuntimeException(READ_CLOSED);
+
+		if (this.getPosition() + bytes > this.size())
+			throw new BufferRuntimeException(READ_BYTE_ARRAY, this.getPosition(), bytes, this.size());
+
+		long position = this.getPosition();
+		this.setPosition(position + bytes);
+
+		return position;
+	}
+
+	private long index(long position, int bytes) {
+		if (this.isClosed())
+			throw new BufferRuntimeException(READ_CLOSED);
+
+		if (position < 0 || position > this.size() - bytes)
+			throw new BufferRuntimeException(READ_AT, position, bytes, this.size());
+
+		return position;
+	}
+}
@@ -0,0 +1,154 @@
+package org.diverproject.scarlet.stream.buffer;
+
+import static org.diverproject.scarlet.stream.language.BufferLanguage.BUFFER_CHUNK_SIZE;
+import static org.diverproject.scarlet.stream.language.BufferLanguage.BUFFER_FACTORY_IO_EXCEPTION;
+import static org.diverproject.scarlet.stream.language.BufferLanguage.BUFFER_NO_ARRAY;
+import static org.diverproject.scarlet.stream.language.BufferLanguage.BUFFER_READ_ONLY;
+import static org.diverproject.scarlet.stream.language.BufferLanguage.BUFFER_VIEW_SPAN;
+
+import lombok.Getter;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class MappedFileBuffer implements ByteBuffer {
+
+	public static final int DEFAULT_CHUNK_SIZE = 1 << 30;
+
+	private MappedByteBuffer[] chunks;
+	private final @Getter int chunkSize;
+	private final @Getter long size;
+
+	public MappedFileBuffer(Path path) {
+		this(path, DEFAULT_CHUNK_SIZE);
+	}
+
+	public MappedFileBuffer(Path path, int chunkSize) {
+		if (chunkSize <= 0)
+			throw new BufferRuntimeException(BUFFER_CHUNK_SIZE, chunkSize);
+
+		try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+
+			this.chunkSize = chunkSize;
+			this.size = fileChannel.size();
+			this.chunks = new MappedByteBuffer[(int) ((this.size + chunkSize - 1) / chunkSize)];
+
+			for (int i = 0; i < this.chunks.length; i++) {
+				long position = (long) i * chunkSize;
+				this.chunks[i] = fileChannel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(chunkSize, this.size - position));
+			}
+
+		} catch (IOException e) {
+			throw new BufferRuntimeException(e, BUFFER_FACTORY_IO_EXCEPTION, path.toAbsolutePath());
+		}
+	}
+
+	public byte get(long position) {
+		return this.chunks[(int) (position / this.chunkSize)].get((int) (position % this.chunkSize));
+	}
+
+	public void get(long position, byte[] bytes, int offset, int length) {
+		while (length > 0) {
+			MappedByteBuffer chunk = this.chunks[(int) (position / this.chunkSize)];
+			int index = (int) (position % this.chunkSize);
+			int count = Math.min(length, chunk.limit() - index);
+
+			chunk.duplicate().position(index).get(bytes, offset, count);
+			position += count;
+			offset += count;
+			length -= count;
+		}
+	}
+
+	public short getShort(long position, boolean inverted) {
+		int index = (int) (position % this.chunkSize);
+		MappedByteBuffer chunk = this.chunks[(int) (position / this.chunkSize)];
+		short value = index + Short.BYTES <= chunk.limit() ? chunk.getShort(index) : (short) this.getBytes(position, Short.BYTES);
+
+		return inverted ? Short.reverseBytes(value) : value;
+	}
+
+	public int getInt(long position, boolean inverted) {
+		int index = (int) (position % this.chunkSize);
+		MappedByteBuffer chunk = this.chunks[(int) (position / this.chunkSize)];
+		int value = index + Integer.BYTES <= chunk.limit() ? chunk.getInt(index) : (int) this.getBytes(position, Integer.BYTES);
+
+		return inverted ? Integer.reverseBytes(value) : value;
+	}
+
+	public long getLong(long position, boolean inverted) {
+		int index = (int) (position % this.chunkSize);
+		MappedByteBuffer chunk = this.chunks[(int) (position / this.chunkSize)];
+		long value = index + Long.BYTES <= chunk.limit() ? chunk.getLong(index) : this.getBytes(position, Long.BYTES);
+
+		return inverted ? Long.reverseBytes(value) : value;
+	}
+
+	private long getBytes(long position, int count) {
+		long value = 0;
+
+		for (int i = 0; i < count; i++)
+			value = (value << 8) | (this.get(position + i) & 255L);
+
+		return value;
+	}
+
+	@Override
+	public boolean isClosed() {
+		return this.chunks == null;
+	}
+
+	@Override
+	public void close() {
+		this.chunks = null;
+	}
+
+	@Override
+	public void clear() {
+		throw new BufferRuntimeException(BUFFER_READ_ONLY);
+	}
+
+	@Override
+	public void reset(int length) {
+		throw new BufferRuntimeException(BUFFER_READ_ONLY);
+	}
+
+	@Override
+	public void grow(int length) {
+		throw new BufferRuntimeException(BUFFER_READ_ONLY);
+	}
+
+	@Override
+	public ByteBuffer newBuffer(int length) {
+		throw new BufferRuntimeException(BUFFER_READ_ONLY);
+	}
+
+	@Override
+	public int length() {
+		return this.isClosed() ? DefaultByteBuffer.EMPTY : (int) Math.min(this.getSize(), Integer.MAX_VALUE);
+	}
+
+	@Override
+	public java.nio.ByteBuffer view(int offset, int length) {
+		MappedByteBuffer chunk = this.chunks[offset / this.chunkSize];
+		int index = offset % this.chunkSize;
+
+		if (index + length > chunk.limit())
+			throw new BufferRuntimeException(BUFFER_VIEW_SPAN, offset, length);
+
+		return chunk.duplicate().limit(index + length).position(index).slice().asReadOnlyBuffer();
+	}
+
+	@Override
+	public boolean hasArray() {
+		return false;
+	}
+
+	@Override
+	public byte[] data() {
+		throw new BufferRuntimeException(BUFFER_NO_ARRAY);
+	}
+}
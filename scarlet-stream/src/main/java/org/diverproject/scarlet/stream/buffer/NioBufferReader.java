@@ -0,0 +1,174 @@
+package org.diverproject.scarlet.stream.buffer;
+
+import static org.diverproject.scarlet.stream.language.BufferLanguage.READ_AT;
+import static org.diverproject.scarlet.stream.language.BufferLanguage.READ_BYTE_ARRAY;
+import static org.diverproject.scarlet.stream.language.BufferLanguage.READ_CLOSED;
+import static org.diverproject.scarlet.stream.language.BufferLanguage.READ_POSITION;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
+
+import java.util.Objects;
+
+@Data
+@Accessors(chain = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class NioBufferReader implements BufferReader {
+
+	private NioByteBuffer byteBuffer;
+	private int offset;
+	private boolean inverted;
+
+	@Override
+	public void invert() {
+		this.setInverted(!this.isInverted());
+	}
+
+	@Override
+	public byte read() {
+		return this.getByteBuffer().getBuffer().get(this.claim(Byte.BYTES));
+	}
+
+	@Override
+	public byte[] read(int count) {
+		byte[] data = new byte[count];
+		this.read(data, 0, count);
+
+		return data;
+	}
+
+	@Override
+	public void read(byte[] bytes, int offset, int length) {
+		Objects.checkFromIndexSize(offset, length, bytes.length);
+
+		this.getByteBuffer().get(this.claim(length), bytes, offset, length);
+
+		if (this.isInverted())
+			for (int i = offset, j = offset + length - 1; i < j; i++, j--) {
+				byte swap = bytes[i];
+				bytes[i] = bytes[j];
+				bytes[j] = swap;
+			}
+	}
+
+	@Override
+	public short readShort() {
+		short value = this.getByteBuffer().getBuffer().getShort(this.claim(Short.BYTES));
+		return this.isInverted() ? Short.reverseBytes(value) : value;
+	}
+
+	@Override
+	public int readInt() {
+		int value = this.getByteBuffer().getBuffer().getInt(this.claim(Integer.BYTES));
+		return this.isInverted() ? Integer.reverseBytes(value) : value;
+	}
+
+	@Override
+	public long readLong() {
+		long value = this.getByteBuffer().getBuffer().getLong(this.claim(Long.BYTES));
+		return this.isInverted() ? Long.reverseBytes(value) : value;
+	}
+
+	@Override
+	public void close() {
+		this.setOffset(0);
+		this.getByteBuffer().close();
+	}
+
+	@Override
+	public void reset() {
+		this.setOffset(0);
+	}
+
+	@Override
+	public boolean isClosed() {
+		return this.getByteBuffer().isClosed();
+	}
+
+	@Override
+	public boolean isFull() {
+		return this.offset() == 0;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return this.offset() == this.capacity();
+	}
+
+	@Override
+	public int capacity() {
+		return this.getByteBuffer().length();
+	}
+
+	@Override
+	public int offset() {
+		return this.getOffset();
+	}
+
+	@Override
+	public long position() {
+		return this.offset();
+	}
+
+	@Override
+	public void position(long position) {
+		if (position < 0 || position > this.capacity())
+			throw new BufferRuntimeException(READ_POSITION, position, this.capacity());
+
+		this.setOffset((int) position);
+	}
+
+	@Override
+	public byte readByteAt(long position) {
+		return this.getByteBuffer().getBuffer().get(this.index(position, Byte.BYTES));
+	}
+
+	@Override
+	public short readShortAt(long position) {
+		short value = this.getByteBuffer().getBuffer().getShort(this.index(position, Short.BYTES));
+		return this.isInverted() ? Short.reverseBytes(value) : value;
+	}
+
+	@Override
+	public int readIntAt(long position) {
+		int value = this.getByteBuffer().getBuffer().getInt(this.index(position, Integer.BYTES));
+		return this.isInverted() ? Integer.reverseBytes(value) : value;
+	}
+
+	@Override
+	public long readLongAt(long position) {
+		long value = this.getByteBuffer().getBuffer().getLong(this.index(position, Long.BYTES));
+		return this.isInverted() ? Long.reverseBytes(value) : value;
+	}
+
+	@Override
+	public byte[] data() {
+		return this.getByteBuffer().data();
+	}
+
+	private int claim(int bytes) {
+		if (this.isClosed())
+			throw new BufferRuntimeException(READ_CLOSED);
+
+		if (this.offset() + bytes > this.capacity())
+			throw new BufferRuntimeException(READ_BYTE_ARRAY, this.offset(), bytes, this.capacity());
+
+		int position = this.offset();
+		this.setOffset(position + bytes);
+
+		return position;
+	}
+
+	private int index(long position, int bytes) {
+		if (this.isClosed())
+			throw new BufferRuntimeException(READ_CLOSED);
+
+		if (position < 0 || position > this.capacity() - bytes)
+			throw new BufferRuntimeException(READ_AT, position, bytes, this.capacity());
+
+		return (int) position;
+	}
+}
@@ -0,0 +1,133 @@
+package org.diverproject.scarlet.stream.buffer;
+
+import static org.diverproject.scarlet.stream.language.BufferLanguage.WRITE_BYTE_ARRAY;
+import static org.diverproject.scarlet.stream.language.BufferLanguage.WRITE_CLOSED_BUFFER;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
+
+import java.util.Objects;
+
+@Data
+@Accessors(chain = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class NioBufferWriter implements BufferWriter {
+
+	private NioByteBuffer byteBuffer;
+	private int offset;
+	private boolean inverted;
+	private boolean dynamic;
+
+	@Override
+	public NioBufferWriter setByteBuffer(ByteBuffer byteBuffer) {
+		this.byteBuffer = (NioByteBuffer) byteBuffer;
+		return this;
+	}
+
+	@Override
+	public void close() {
+		this.getByteBuffer().close();
+	}
+
+	@Override
+	public void reset() {
+		this.setOffset(0);
+		this.getByteBuffer().clear();
+	}
+
+	@Override
+	public boolean isClosed() {
+		return this.getByteBuffer().isClosed();
+	}
+
+	@Override
+	public boolean isFull() {
+		return this.offset() == this.capacity();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return this.offset() == 0;
+	}
+
+	@Override
+	public int capacity() {
+		return this.getByteBuffer().length();
+	}
+
+	@Override
+	public int offset() {
+		return this.getOffset();
+	}
+
+	@Override
+	public byte[] data() {
+		return this.getByteBuffer().data();
+	}
+
+	@Override
+	public void invert() {
+		this.setInverted(!this.isInverted());
+	}
+
+	@Override
+	public void write(byte value) {
+		int position = this.claim(Byte.BYTES);
+		this.getByteBuffer().getBuffer().put(position, value);
+	}
+
+	@Override
+	public void write(byte[] values) {
+		this.write(values, 0, values.length);
+	}
+
+	@Override
+	public void write(byte[] values, int offset, int length) {
+		Objects.checkFromIndexSize(offset, length, values.length);
+
+		int position = this.claim(length);
+
+		if (this.isInverted())
+			for (int i = offset + length - 1, j = position; i >= offset; i--, j++)
+				this.getByteBuffer().getBuffer().put(j, values[i]);
+		else
+			this.getByteBuffer().put(position, values, offset, length);
+	}
+
+	@Override
+	public void writeShort(short value) {
+		int position = this.claim(Short.BYTES);
+		this.getByteBuffer().getBuffer().putShort(position, this.isInverted() ? Short.reverseBytes(value) : value);
+	}
+
+	@Override
+	public void writeInt(int value) {
+		int position = this.claim(Integer.BYTES);
+		this.getByteBuffer().getBuffer().putInt(position, this.isInverted() ? Integer.reverseBytes(value) : value);
+	}
+
+	@Override
+	public void writeLong(long value) {
+		int position = this.claim(Long.BYTES);
+		this.getByteBuffer().getBuffer().putLong(position, this.isInverted() ? Long.reverseBytes(value) : value);
+	}
+
+	private int claim(int bytes) {
+		if (this.isClosed())
+			throw new BufferRuntimeException(WRITE_CLOSED_BUFFER);
+
+		if (this.isDynamic() && this.offset() + bytes > this.capacity())
+			this.getByteBuffer().grow(this.offset() + bytes);
+
+		if (this.offset() + bytes > this.capacity())
+			throw new BufferRuntimeException(WRITE_BYTE_ARRAY, this.offset(), bytes, this.capacity());
+
+		int position = this.offset();
+		this.setOffset(position + bytes);
+
+		return position;
+	}
+}
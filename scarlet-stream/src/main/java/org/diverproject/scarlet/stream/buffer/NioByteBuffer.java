@@ -0,0 +1,122 @@
+package org.diverproject.scarlet.stream.buffer;
+
+import static org.diverproject.scarlet.stream.language.BufferLanguage.BUFFER_GROW_LIMIT;
+import static org.diverproject.scarlet.stream.language.BufferLanguage.BUFFER_NO_ARRAY;
+
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.nio.ByteOrder;
+
+@Data
+@Accessors(chain = true)
+@NoArgsConstructor
+public class NioByteBuffer implements ByteBuffer {
+
+	private java.nio.ByteBuffer buffer;
+	@Getter(AccessLevel.PRIVATE)
+	@Setter(AccessLevel.NONE)
+	private java.nio.ByteBuffer cursor;
+	private GrowthPolicy growthPolicy = GrowthPolicy.DOUBLE;
+	private int maxLength = DefaultByteBuffer.MAX_LENGTH;
+
+	public NioByteBuffer(java.nio.ByteBuffer buffer) {
+		this.setBuffer(buffer);
+	}
+
+	public static NioByteBuffer allocateDirect(int length) {
+		return new NioByteBuffer(java.nio.ByteBuffer.allocateDirect(length));
+	}
+
+	public NioByteBuffer setBuffer(java.nio.ByteBuffer buffer) {
+		this.buffer = buffer == null ? null : buffer.slice().order(ByteOrder.BIG_ENDIAN);
+		this.cursor = this.buffer == null ? null : this.buffer.duplicate();
+
+		return this;
+	}
+
+	public void get(int index, byte[] bytes, int offset, int length) {
+		this.getCursor().limit(index + length).position(index);
+		this.getCursor().get(bytes, offset, length);
+	}
+
+	public void put(int index, byte[] bytes, int offset, int length) {
+		this.getCursor().limit(index + length).position(index);
+		this.getCursor().put(bytes, offset, length);
+	}
+
+	@Override
+	public boolean isClosed() {
+		return this.getBuffer() == null;
+	}
+
+	@Override
+	public void close() {
+		this.setBuffer(null);
+	}
+
+	@Override
+	public void clear() {
+		java.nio.ByteBuffer cursor = this.getCursor().clear();
+
+		while (cursor.remaining() >= Long.BYTES)
+			cursor.putLong(0L);
+
+		while (cursor.hasRemaining())
+			cursor.put((byte) 0);
+	}
+
+	@Override
+	public void reset(int length) {
+		this.setBuffer(this.allocate(length));
+	}
+
+	@Override
+	public void grow(int length) {
+		if (length <= this.length())
+			return;
+
+		if (length > this.getMaxLength())
+			throw new BufferRuntimeException(BUFFER_GROW_LIMIT, length, this.getMaxLength());
+
+		int newLength = Math.min(Math.max(this.getGrowthPolicy().grow(this.length(), length), length), this.getMaxLength());
+		java.nio.ByteBuffer buffer = this.allocate(newLength);
+		buffer.put(this.getCursor().clear()).clear();
+		this.setBuffer(buffer);
+	}
+
+	@Override
+	public ByteBuffer newBuffer(int length) {
+		return new NioByteBuffer(this.allocate(length))
+			.setGrowthPolicy(this.getGrowthPolicy())
+			.setMaxLength(this.getMaxLength());
+	}
+
+	@Override
+	public int length() {
+		return this.getBuffer() != null ? this.getBuffer().capacity() : DefaultByteBuffer.EMPTY;
+	}
+
+	@Override
+	public java.nio.ByteBuffer view(int offset, int length) {
+		return this.getBuffer().duplicate().limit(offset + length).position(offset).slice().asReadOnlyBuffer();
+	}
+
+	@Override
+	public boolean hasArray() {
+		return false;
+	}
+
+	@Override
+	public byte[] data() {
+		throw new BufferRuntimeException(BUFFER_NO_ARRAY);
+	}
+
+	private java.nio.ByteBuffer allocate(int length) {
+		return this.getBuffer() == null || this.getBuffer().isDirect() ? java.nio.ByteBuffer.allocateDirect(length) : java.nio.ByteBuffer.allocate(length);
+	}
+}
@@ -0,0 +1,170 @@
+package org.diverproject.scarlet.stream.buffer;
+
+import static org.diverproject.scarlet.stream.language.BufferLanguage.SEGMENT_CHUNK_SIZE;
+import static org.diverproject.scarlet.stream.language.BufferLanguage.SEGMENT_INDEX_LENGTH;
+
+import lombok.Getter;
+import org.diverproject.scarlet.stream.StreamUtil;
+
+import java.lang.reflect.Array;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Getter
+public class ParallelCodec {
+
+	public static final int DEFAULT_CHUNK_SIZE = 1024;
+
+	private final ForkJoinPool forkJoinPool;
+	private final BufferPool bufferPool;
+	private final int chunkSize;
+
+	public ParallelCodec() {
+		this(ForkJoinPool.commonPool(), BufferPool.getDefault(), DEFAULT_CHUNK_SIZE);
+	}
+
+	public ParallelCodec(ForkJoinPool forkJoinPool, BufferPool bufferPool, int chunkSize) {
+		if (chunkSize <= 0)
+			throw new BufferRuntimeException(SEGMENT_CHUNK_SIZE, chunkSize);
+
+		this.forkJoinPool = forkJoinPool;
+		this.bufferPool = bufferPool;
+		this.chunkSize = chunkSize;
+	}
+
+	public SegmentedBuffer encode(Object[] values) {
+		int segments = (values.length + this.chunkSize - 1) / this.chunkSize;
+		ByteBuffer[] buffers = new ByteBuffer[segments];
+		int[] lengths = new int[segments];
+
+		try {
+			this.invoke(segments, segment -> {
+				int from = segment * this.chunkSize;
+				int to = Math.min(values.length, from + this.chunkSize);
+				int length = 0;
+
+				for (int i = from; i < to; i++)
+					length += StreamUtil.sizeOf(values[i]);
+
+				buffers[segment] = this.bufferPool.allocate(length);
+				lengths[segment] = length;
+
+				BufferOutput bufferOutput = new DefaultBufferOutput().setBufferWriter(
+					new DefaultBufferWriter()
+						.setByteBuffer(buffers[segment])
+				);
+
+				for (int i = from; i < to; i++)
+					bufferOutput.put(values[i]);
+			});
+		} catch (RuntimeException e) {
+			for (ByteBuffer buffer : buffers)
+				if (buffer != null)
+					buffer.close();
+
+			throw e;
+		}
+
+		int[] offsets = new int[segments + 1];
+		int[] indexes = new int[segments + 1];
+
+		for (int segment = 0; segment < segments; segment++) {
+			offsets[segment + 1] = offsets[segment] + lengths[segment];
+			indexes[segment + 1] = Math.min(values.length, indexes[segment] + this.chunkSize);
+		}
+
+		return new SegmentedBuffer(buffers, new SegmentIndex(offsets, indexes));
+	}
+
+	public <D> D[] decode(SegmentedBuffer segmentedBuffer, Class<D> objectClass) {
+		SegmentIndex segmentIndex = segmentedBuffer.getSegmentIndex();
+
+		return this.decode(segmentIndex, objectClass, segment -> BufferFactory.inputOf(segmentedBuffer.view(segment)));
+	}
+
+	public <D> D[] decode(byte[] data, SegmentIndex segmentIndex, Class<D> objectClass) {
+		if (segmentIndex.length() > data.length)
+			throw new BufferRuntimeException(SEGMENT_INDEX_LENGTH, segmentIndex.length(), data.length);
+
+		return this.decode(segmentIndex, objectClass, segment ->
+			BufferFactory.inputOf(java.nio.ByteBuffer.wrap(data, segmentIndex.offsetOf(segment), segmentIndex.lengthOf(segment)).slice())
+		);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <D> D[] decode(SegmentIndex segmentIndex, Class<D> objectClass, SegmentInput segmentInput) {
+		D[] objects = (D[]) Array.newInstance(objectClass, segmentIndex.count());
+
+		this.invoke(segmentIndex.segments(), segment -> {
+			BufferInput bufferInput = segmentInput.inputOf(segment);
+			int from = segmentIndex.indexOf(segment);
+			int to = from + segmentIndex.countOf(segment);
+
+			for (int i = from; i < to; i++)
+				objects[i] = bufferInput.getObject(objectClass);
+		});
+
+		return objects;
+	}
+
+	private void invoke(int segments, SegmentAction segmentAction) {
+		AtomicReference<RuntimeException> failure = new AtomicReference<>();
+		this.forkJoinPool.invoke(new SegmentTask(0, segments, segmentAction, failure));
+
+		if (failure.get() != null)
+			throw failure.get();
+	}
+
+	private static class SegmentTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 5806321894471062311L;
+
+		private final int from;
+		private final int to;
+		private final SegmentAction segmentAction;
+		private final AtomicReference<RuntimeException> failure;
+
+		private SegmentTask(int from, int to, SegmentAction segmentAction, AtomicReference<RuntimeException> failure) {
+			this.from = from;
+			this.to = to;
+			this.segmentAction = segmentAction;
+			this.failure = failure;
+		}
+
+		@Override
+		protected void compute() {
+			if (this.to - this.from <= 1) {
+				if (this.to > this.from && this.failure.get() == null)
+					this.run(this.from);
+
+				return;
+			}
+
+			int middle = (this.from + this.to) >>> 1;
+			SegmentTask right = new SegmentTask(middle, this.to, this.segmentAction, this.failure);
+			right.fork();
+			new SegmentTask(this.from, middle, this.segmentAction, this.failure).compute();
+			right.quietlyJoin();
+		}
+
+		private void run(int segment) {
+			try {
+				this.segmentAction.run(segment);
+			} catch (RuntimeException e) {
+				if (!this.failure.compareAndSet(null, e))
+					this.failure.get().addSuppressed(e);
+			}
+		}
+	}
+
+	@FunctionalInterface
+	private interface SegmentAction {
+		void run(int segment);
+	}
+
+	@FunctionalInterface
+	private interface SegmentInput {
+		BufferInput inputOf(int segment);
+	}
+}
@@ -0,0 +1,83 @@
+package org.diverproject.scarlet.stream.buffer;
+
+import static org.diverproject.scarlet.stream.language.BufferLanguage.BUFFER_GROW_LIMIT;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+
+public class PooledByteBuffer extends DefaultByteBuffer {
+
+	private final @Getter BufferPool bufferPool;
+	private final BufferPool.Tracker tracker;
+	private int length;
+
+	PooledByteBuffer(BufferPool bufferPool, int length) {
+		super(bufferPool.acquire(length));
+
+		this.bufferPool = bufferPool;
+		this.tracker = bufferPool.track(this);
+		this.length = length;
+	}
+
+	@Override
+	public void close() {
+		if (this.isClosed())
+			return;
+
+		byte[] bytes = this.getBytes();
+		super.close();
+		this.getBufferPool().release(bytes);
+
+		if (this.tracker != null)
+			this.tracker.release();
+	}
+
+	@Override
+	public void clear() {
+		Arrays.fill(this.getBytes(), 0, this.length, (byte) 0);
+	}
+
+	@Override
+	public void reset(int length) {
+		byte[] bytes = this.getBytes();
+		this.setBytes(this.getBufferPool().acquire(length));
+		this.length = length;
+
+		if (bytes != null)
+			this.getBufferPool().release(bytes);
+	}
+
+	@Override
+	public void grow(int length) {
+		if (length <= this.length())
+			return;
+
+		if (length > this.getMaxLength())
+			throw new BufferRuntimeException(BUFFER_GROW_LIMIT, length, this.getMaxLength());
+
+		int newLength = Math.min(Math.max(this.getGrowthPolicy().grow(this.length(), length), length), this.getMaxLength());
+		byte[] bytes = this.getBytes();
+
+		if (newLength > bytes.length) {
+			this.setBytes(this.getBufferPool().acquire(newLength));
+			System.arraycopy(bytes, 0, this.getBytes(), 0, this.length);
+			this.getBufferPool().release(bytes);
+		} else
+			Arrays.fill(bytes, this.length, newLength, (byte) 0);
+
+		this.length = newLength;
+	}
+
+	@Override
+	public ByteBuffer newBuffer(int length) {
+		return this.getBufferPool().allocate(length)
+			.setGrowthPolicy(this.getGrowthPolicy())
+			.setMaxLength(this.getMaxLength());
+	}
+
+	@Override
+	public int length() {
+		return this.isClosed() ? EMPTY : this.length;
+	}
+}
@@ -0,0 +1,65 @@
+package org.diverproject.scarlet.stream.buffer;
+
+import org.diverproject.scarlet.stream.Input;
+import org.diverproject.scarlet.stream.Output;
+
+public class SegmentIndex {
+
+	private final int[] offsets;
+	private final int[] indexes;
+
+	SegmentIndex(int[] offsets, int[] indexes) {
+		this.offsets = offsets;
+		this.indexes = indexes;
+	}
+
+	public int segments() {
+		return this.offsets.length - 1;
+	}
+
+	public int length() {
+		return this.offsets[this.segments()];
+	}
+
+	public int count() {
+		return this.indexes[this.segments()];
+	}
+
+	public int offsetOf(int segment) {
+		return this.offsets[segment];
+	}
+
+	public int lengthOf(int segment) {
+		return this.offsets[segment + 1] - this.offsets[segment];
+	}
+
+	public int indexOf(int segment) {
+		return this.indexes[segment];
+	}
+
+	public int countOf(int segment) {
+		return this.indexes[segment + 1] - this.indexes[segment];
+	}
+
+	public void writeTo(Output output) {
+		output.putVarInt(this.segments());
+
+		for (int segment = 0; segment < this.segments(); segment++) {
+			output.putVarInt(this.lengthOf(segment));
+			output.putVarInt(this.countOf(segment));
+		}
+	}
+
+	public static SegmentIndex readFrom(Input input) {
+		int segments = input.getVarInt();
+		int[] offsets = new int[segments + 1];
+		int[] indexes = new int[segments + 1];
+
+		for (int segment = 0; segment < segments; segment++) {
+			offsets[segment + 1] = offsets[segment] + input.getVarInt();
+			indexes[segment + 1] = indexes[segment] + input.getVarInt();
+		}
+
+		return new SegmentIndex(offsets, indexes);
+	}
+}
@@ -0,0 +1,49 @@
+package org.diverproject.scarlet.stream.buffer;
+
+import lombok.Getter;
+
+public class SegmentedBuffer {
+
+	private final ByteBuffer[] segments;
+	private final @Getter SegmentIndex segmentIndex;
+
+	SegmentedBuffer(ByteBuffer[] segments, SegmentIndex segmentIndex) {
+		this.segments = segments;
+		this.segmentIndex = segmentIndex;
+	}
+
+	public int segments() {
+		return this.segments.length;
+	}
+
+	public int length() {
+		return this.segmentIndex.length();
+	}
+
+	public java.nio.ByteBuffer view(int segment) {
+		return this.segments[segment].view(0, this.segmentIndex.lengthOf(segment));
+	}
+
+	public CompositeByteBuffer toComposite() {
+		CompositeByteBuffer compositeByteBuffer = new CompositeByteBuffer();
+
+		for (int segment = 0; segment < this.segments(); segment++)
+			compositeByteBuffer.add(this.view(segment));
+
+		return compositeByteBuffer;
+	}
+
+	public byte[] toByteArray() {
+		byte[] bytes = new byte[this.length()];
+
+		for (int segment = 0; segment < this.segments(); segment++)
+			this.view(segment).get(bytes, this.segmentIndex.offsetOf(segment), this.segmentIndex.lengthOf(segment));
+
+		return bytes;
+	}
+
+	public void close() {
+		for (ByteBuffer segment : this.segments)
+			segment.close();
+	}
+}
@@ -0,0 +1,44 @@
+package org.diverproject.scarlet.stream.channel;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+public class ChannelFactory {
+
+	private ChannelFactory() { }
+
+	public static ChannelInput inputOf(ReadableByteChannel channel) {
+		return inputOf(channel, ChannelReader.DEFAULT_WINDOW_SIZE);
+	}
+
+	public static ChannelInput inputOf(ReadableByteChannel channel, int windowSize) {
+		return new ChannelInput().setChannelReader(new ChannelReader(channel, windowSize));
+	}
+
+	public static ChannelInput inputOf(InputStream inputStream) {
+		return inputOf(Channels.newChannel(inputStream));
+	}
+
+	public static ChannelInput inputOf(InputStream inputStream, int windowSize) {
+		return inputOf(Channels.newChannel(inputStream), windowSize);
+	}
+
+	public static ChannelOutput outputOf(WritableByteChannel channel) {
+		return outputOf(channel, ChannelWriter.DEFAULT_WINDOW_SIZE);
+	}
+
+	public static ChannelOutput outputOf(WritableByteChannel channel, int windowSize) {
+		return new ChannelOutput().setChannelWriter(new ChannelWriter(channel, windowSize));
+	}
+
+	public static ChannelOutput outputOf(OutputStream outputStream) {
+		return outputOf(Channels.newChannel(outputStream));
+	}
+
+	public static ChannelOutput outputOf(OutputStream outputStream, int windowSize) {
+		return outputOf(Channels.newChannel(outputStream), windowSize);
+	}
+}
@@ -0,0 +1,24 @@
+package org.diverproject.scarlet.stream.channel;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
+import org.diverproject.scarlet.stream.DefaultInput;
+import org.diverproject.scarlet.stream.Reader;
+
+@Data
+@Accessors(chain = true)
+@EqualsAndHashCode(callSuper = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChannelInput extends DefaultInput {
+
+	private ChannelReader channelReader;
+
+	@Override
+	protected Reader getReader() {
+		return this.getChannelReader();
+	}
+}
@@ -0,0 +1,28 @@
+package org.diverproject.scarlet.stream.channel;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
+import org.diverproject.scarlet.stream.DefaultOutput;
+import org.diverproject.scarlet.stream.Writer;
+
+@Data
+@Accessors(chain = true)
+@EqualsAndHashCode(callSuper = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChannelOutput extends DefaultOutput {
+
+	private ChannelWriter channelWriter;
+
+	@Override
+	protected Writer getWriter() {
+		return this.getChannelWriter();
+	}
+
+	public void flush() {
+		this.getChannelWriter().flush();
+	}
+}
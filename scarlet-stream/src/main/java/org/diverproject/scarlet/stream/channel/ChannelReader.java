@@ -0,0 +1,220 @@
+package org.diverproject.scarlet.stream.channel;
+
+import static org.diverproject.scarlet.stream.language.ChannelLanguage.CLOSE_IO_EXCEPTION;
+import static org.diverproject.scarlet.stream.language.ChannelLanguage.READ_CLOSED_CHANNEL;
+import static org.diverproject.scarlet.stream.language.ChannelLanguage.READ_END_OF_STREAM;
+import static org.diverproject.scarlet.stream.language.ChannelLanguage.READ_IO_EXCEPTION;
+import static org.diverproject.scarlet.stream.language.ChannelLanguage.READ_UTF8_LENGTH;
+import static org.diverproject.scarlet.stream.language.ChannelLanguage.RESET_UNSUPPORTED;
+
+import lombok.Getter;
+import org.diverproject.scarlet.stream.Reader;
+import org.diverproject.scarlet.stream.StreamUtil;
+import org.diverproject.scarlet.stream.StringCache;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Objects;
+
+public class ChannelReader implements Reader {
+
+	public static final int DEFAULT_WINDOW_SIZE = 8192;
+	public static final int MIN_WINDOW_SIZE = Long.BYTES;
+
+	private final @Getter ReadableByteChannel channel;
+	private final byte[] window;
+	private final ByteBuffer windowBuffer;
+	private int position;
+	private int limit;
+	private long consumed;
+	private boolean endOfStream;
+	private @Getter boolean inverted;
+
+	public ChannelReader(ReadableByteChannel channel) {
+		this(channel, DEFAULT_WINDOW_SIZE);
+	}
+
+	public ChannelReader(ReadableByteChannel channel, int windowSize) {
+		this.channel = channel;
+		this.window = new byte[Math.max(windowSize, MIN_WINDOW_SIZE)];
+		this.windowBuffer = ByteBuffer.wrap(this.window);
+	}
+
+	@Override
+	public void invert() {
+		this.inverted = !this.inverted;
+	}
+
+	@Override
+	public byte read() {
+		this.require(Byte.BYTES);
+		this.consumed++;
+
+		return this.window[this.position++];
+	}
+
+	@Override
+	public byte[] read(int count) {
+		byte[] data = new byte[count];
+		this.read(data, 0, count);
+
+		return data;
+	}
+
+	@Override
+	public void read(byte[] bytes, int offset, int length) {
+		Objects.checkFromIndexSize(offset, length, bytes.length);
+
+		this.copy(bytes, offset, length);
+
+		if (this.isInverted())
+			for (int i = offset, j = offset + length - 1; i < j; i++, j--) {
+				byte swap = bytes[i];
+				bytes[i] = bytes[j];
+				bytes[j] = swap;
+			}
+	}
+
+	@Override
+	public short readShort() {
+		return StreamUtil.shortOf(this.window, this.claim(Short.BYTES), this.isInverted());
+	}
+
+	@Override
+	public int readInt() {
+		return StreamUtil.intOf(this.window, this.claim(Integer.BYTES), this.isInverted());
+	}
+
+	@Override
+	public long readLong() {
+		return StreamUtil.longOf(this.window, this.claim(Long.BYTES), this.isInverted());
+	}
+
+	@Override
+	public String readUtf8(StringCache stringCache) {
+		int length = this.readVarInt();
+
+		if (length < 0)
+			throw new ChannelRuntimeException(READ_UTF8_LENGTH, length);
+
+		if (length > this.window.length)
+			return this.readUtf8(stringCache, length);
+
+		int position = this.claim(length);
+
+		return stringCache == null ? StreamUtil.utf8Of(this.window, position, length) : stringCache.get(this.window, position, length);
+	}
+
+	@Override
+	public boolean isClosed() {
+		return !this.getChannel().isOpen();
+	}
+
+	@Override
+	public boolean isFull() {
+		return this.consumed == 0;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return this.position == this.limit && !this.fill(Byte.BYTES);
+	}
+
+	@Override
+	public int capacity() {
+		return this.window.length;
+	}
+
+	@Override
+	public int offset() {
+		return (int) Math.min(this.consumed, Integer.MAX_VALUE);
+	}
+
+	public long consumed() {
+		return this.consumed;
+	}
+
+	public int available() {
+		return this.limit - this.position;
+	}
+
+	@Override
+	public void reset() {
+		throw new ChannelRuntimeException(RESET_UNSUPPORTED);
+	}
+
+	@Override
+	public void close() {
+		try {
+			this.getChannel().close();
+		} catch (IOException e) {
+			throw new ChannelRuntimeException(e, CLOSE_IO_EXCEPTION);
+		}
+	}
+
+	private String readUtf8(StringCache stringCache, int length) {
+		byte[] bytes = new byte[length];
+		this.copy(bytes, 0, length);
+
+		return stringCache == null ? StreamUtil.utf8Of(bytes, 0, length) : stringCache.get(bytes, 0, length);
+	}
+
+	private void copy(byte[] bytes, int offset, int length) {
+		for (int i = offset, remaining = length; remaining > 0; ) {
+			if (this.position == this.limit)
+				this.require(Byte.BYTES);
+
+			int count = Math.min(remaining, this.limit - this.position);
+			System.arraycopy(this.window, this.position, bytes, i, count);
+			this.position += count;
+			this.consumed += count;
+			remaining -= count;
+			i += count;
+		}
+	}
+
+	private int claim(int bytes) {
+		this.require(bytes);
+
+		int position = this.position;
+		this.position += bytes;
+		this.consumed += bytes;
+
+		return position;
+	}
+
+	private void require(int bytes) {
+		if (this.limit - this.position < bytes && !this.fill(bytes))
+			throw new ChannelRuntimeException(READ_END_OF_STREAM, this.consumed, bytes);
+	}
+
+	private boolean fill(int bytes) {
+		if (this.isClosed())
+			throw new ChannelRuntimeException(READ_CLOSED_CHANNEL);
+
+		if (this.position > 0) {
+			System.arraycopy(this.window, this.position, this.window, 0, this.limit - this.position);
+			this.limit -= this.position;
+			this.position = 0;
+		}
+
+		try {
+
+			while (this.limit < bytes && !this.endOfStream) {
+				this.windowBuffer.limit(this.window.length).position(this.limit);
+				int read = this.getChannel().read(this.windowBuffer);
+
+				if (read < 0)
+					this.endOfStream = true;
+				else
+					this.limit += read;
+			}
+
+		} catch (IOException e) {
+			throw new ChannelRuntimeException(e, READ_IO_EXCEPTION, this.consumed);
+		}
+
+		return this.limit >= bytes;
+	}
+}
@@ -0,0 +1,29 @@
+package org.diverproject.scarlet.stream.channel;
+
+import org.diverproject.scarlet.language.Language;
+import org.diverproject.scarlet.stream.StreamRuntimeException;
+
+public class ChannelRuntimeException extends StreamRuntimeException {
+
+	private static final long serialVersionUID = 6120943181947365872L;
+
+	public ChannelRuntimeException(Language language) {
+		super(language);
+	}
+
+	public ChannelRuntimeException(Language language, Object... args) {
+		super(language, args);
+	}
+
+	public ChannelRuntimeException(Exception e) {
+		super(e);
+	}
+
+	public ChannelRuntimeException(Exception e, Language language) {
+		super(e, language);
+	}
+
+	public ChannelRuntimeException(Exception e, Language language, Object... args) {
+		super(e, language, args);
+	}
+}
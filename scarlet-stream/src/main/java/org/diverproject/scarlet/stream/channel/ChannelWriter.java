@@ -0,0 +1,196 @@
+package org.diverproject.scarlet.stream.channel;
+
+import static org.diverproject.scarlet.stream.language.ChannelLanguage.CLOSE_IO_EXCEPTION;
+import static org.diverproject.scarlet.stream.language.ChannelLanguage.WRITE_CLOSED_CHANNEL;
+import static org.diverproject.scarlet.stream.language.ChannelLanguage.WRITE_IO_EXCEPTION;
+
+import lombok.Getter;
+import org.diverproject.scarlet.stream.StreamUtil;
+import org.diverproject.scarlet.stream.Writer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Objects;
+
+public class ChannelWriter implements Writer {
+
+	public static final int DEFAULT_WINDOW_SIZE = 8192;
+	public static final int MIN_WINDOW_SIZE = Long.BYTES;
+
+	private final @Getter WritableByteChannel channel;
+	private final byte[] window;
+	private int position;
+	private long written;
+	private @Getter boolean inverted;
+
+	public ChannelWriter(WritableByteChannel channel) {
+		this(channel, DEFAULT_WINDOW_SIZE);
+	}
+
+	public ChannelWriter(WritableByteChannel channel, int windowSize) {
+		this.channel = channel;
+		this.window = new byte[Math.max(windowSize, MIN_WINDOW_SIZE)];
+	}
+
+	@Override
+	public void invert() {
+		this.inverted = !this.inverted;
+	}
+
+	@Override
+	public void write(byte value) {
+		this.window[this.claim(Byte.BYTES)] = value;
+	}
+
+	@Override
+	public void write(byte[] values) {
+		this.write(values, 0, values.length);
+	}
+
+	@Override
+	public void write(byte[] values, int offset, int length) {
+		Objects.checkFromIndexSize(offset, length, values.length);
+
+		if (!this.isInverted() && length >= this.window.length) {
+			this.flush();
+			this.drain(ByteBuffer.wrap(values, offset, length));
+			this.written += length;
+			return;
+		}
+
+		for (int remaining = length; remaining > 0; ) {
+			if (this.position == this.window.length)
+				this.flush();
+
+			int count = Math.min(remaining, this.window.length - this.position);
+
+			if (this.isInverted())
+				for (int i = offset + remaining - 1, j = this.position; j < this.position + count; i--, j++)
+					this.window[j] = values[i];
+			else
+				System.arraycopy(values, offset + length - remaining, this.window, this.position, count);
+
+			this.position += count;
+			this.written += count;
+			remaining -= count;
+		}
+	}
+
+	@Override
+	public void writeShort(short value) {
+		int position = this.claim(Short.BYTES);
+		StreamUtil.put(this.window, position, value, this.isInverted());
+	}
+
+	@Override
+	public void writeInt(int value) {
+		int position = this.claim(Integer.BYTES);
+		StreamUtil.put(this.window, position, value, this.isInverted());
+	}
+
+	@Override
+	public void writeLong(long value) {
+		int position = this.claim(Long.BYTES);
+		StreamUtil.put(this.window, position, value, this.isInverted());
+	}
+
+	@Override
+	public void writeUtf8(String value) {
+		int length = StreamUtil.utf8Length(value);
+		int size = StreamUtil.varIntSize(length) + length;
+
+		if (size > this.window.length) {
+			Writer.super.writeUtf8(value);
+			return;
+		}
+
+		int position = this.claim(size);
+		StreamUtil.putUtf8(this.window, StreamUtil.putVarInt(this.window, position, length), value);
+	}
+
+	public void flush() {
+		if (this.position == 0)
+			return;
+
+		this.drain(ByteBuffer.wrap(this.window, 0, this.position));
+		this.position = 0;
+	}
+
+	@Override
+	public boolean isClosed() {
+		return !this.getChannel().isOpen();
+	}
+
+	@Override
+	public boolean isFull() {
+		return this.position == this.window.length;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return this.written == 0;
+	}
+
+	@Override
+	public int capacity() {
+		return this.window.length;
+	}
+
+	@Override
+	public int offset() {
+		return (int) Math.min(this.written, Integer.MAX_VALUE);
+	}
+
+	public long written() {
+		return this.written;
+	}
+
+	public int pending() {
+		return this.position;
+	}
+
+	@Override
+	public void reset() {
+		this.written -= this.position;
+		this.position = 0;
+	}
+
+	@Override
+	public void close() {
+		try {
+			if (!this.isClosed()) {
+				this.flush();
+				this.getChannel().close();
+			}
+		} catch (IOException e) {
+			throw new ChannelRuntimeException(e, CLOSE_IO_EXCEPTION);
+		}
+	}
+
+	private int claim(int bytes) {
+		if (this.isClosed())
+			throw new ChannelRuntimeException(WRITE_CLOSED_CHANNEL);
+
+		if (this.position + bytes > this.window.length)
+			this.flush();
+
+		int position = this.position;
+		this.position += bytes;
+		this.written += bytes;
+
+		return position;
+	}
+
+	private void drain(ByteBuffer buffer) {
+		if (this.isClosed())
+			throw new ChannelRuntimeException(WRITE_CLOSED_CHANNEL);
+
+		try {
+			while (buffer.hasRemaining())
+				this.getChannel().write(buffer);
+		} catch (IOException e) {
+			throw new ChannelRuntimeException(e, WRITE_IO_EXCEPTION, this.written);
+		}
+	}
+}
@@ -0,0 +1,7 @@
+package org.diverproject.scarlet.stream.compression;
+
+public interface BlockCodec {
+	int maxCompressedLength(int length);
+	int compress(byte[] source, int length, byte[] target);
+	void decompress(byte[] source, int length, byte[] target, int targetLength);
+}
@@ -0,0 +1,32 @@
+package org.diverproject.scarlet.stream.compression;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
+import org.diverproject.scarlet.stream.DefaultOutput;
+import org.diverproject.scarlet.stream.Writer;
+
+@Data
+@Accessors(chain = true)
+@EqualsAndHashCode(callSuper = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompressedOutput extends DefaultOutput {
+
+	private CompressedWriter compressedWriter;
+
+	@Override
+	protected Writer getWriter() {
+		return this.getCompressedWriter();
+	}
+
+	public void flush() {
+		this.getCompressedWriter().flush();
+	}
+
+	public void finish() {
+		this.getCompressedWriter().finish();
+	}
+}
@@ -0,0 +1,231 @@
+package org.diverproject.scarlet.stream.compression;
+
+import static org.diverproject.scarlet.stream.language.CompressionLanguage.COMPRESSION_BLOCK_MALFORMED;
+import static org.diverproject.scarlet.stream.language.CompressionLanguage.COMPRESSION_UTF8_LIMIT;
+import static org.diverproject.scarlet.stream.language.CompressionLanguage.READ_END_OF_STREAM;
+import static org.diverproject.scarlet.stream.language.CompressionLanguage.READ_UTF8_LIMIT;
+
+import lombok.Getter;
+import org.diverproject.scarlet.stream.Reader;
+import org.diverproject.scarlet.stream.StreamUtil;
+import org.diverproject.scarlet.stream.StringCache;
+
+import java.util.Objects;
+
+public class CompressedReader implements Reader {
+
+	public static final int DEFAULT_UTF8_LIMIT = CompressedWriter.MAX_BLOCK_SIZE;
+
+	private final @Getter Reader reader;
+	private final @Getter BlockCodec blockCodec;
+	private final @Getter int utf8Limit;
+	private byte[] block = new byte[0];
+	private byte[] compressed = new byte[0];
+	private int position;
+	private int limit;
+	private long read;
+	private boolean finished;
+	private @Getter boolean inverted;
+
+	public CompressedReader(Reader reader, BlockCodec blockCodec) {
+		this(reader, blockCodec, DEFAULT_UTF8_LIMIT);
+	}
+
+	public CompressedReader(Reader reader, BlockCodec blockCodec, int utf8Limit) {
+		if (utf8Limit <= 0)
+			throw new CompressionRuntimeException(COMPRESSION_UTF8_LIMIT, utf8Limit);
+
+		this.reader = reader;
+		this.blockCodec = blockCodec;
+		this.utf8Limit = utf8Limit;
+	}
+
+	public boolean isFinished() {
+		return this.finished;
+	}
+
+	@Override
+	public void invert() {
+		this.inverted = !this.inverted;
+	}
+
+	@Override
+	public byte read() {
+		int position = this.claim(Byte.BYTES);
+		return this.block[position];
+	}
+
+	@Override
+	public byte[] read(int count) {
+		byte[] bytes = new byte[count];
+		this.read(bytes, 0, count);
+
+		return bytes;
+	}
+
+	@Override
+	public void read(byte[] bytes, int offset, int length) {
+		Objects.checkFromIndexSize(offset, length, bytes.length);
+
+		if (!this.isInverted()) {
+			this.readRaw(bytes, offset, length);
+			return;
+		}
+
+		for (int i = offset + length - 1; i >= offset; ) {
+			int position = this.claim(Byte.BYTES);
+			int count = Math.min(this.limit - position, i - offset + 1);
+
+			for (int j = position; j < position + count; j++, i--)
+				bytes[i] = this.block[j];
+
+			this.position = position + count;
+		}
+	}
+
+	@Override
+	public short readShort() {
+		int position = this.claim(Short.BYTES);
+		return StreamUtil.shortOf(this.block, position, this.isInverted());
+	}
+
+	@Override
+	public int readInt() {
+		int position = this.claim(Integer.BYTES);
+		return StreamUtil.intOf(this.block, position, this.isInverted());
+	}
+
+	@Override
+	public long readLong() {
+		int position = this.claim(Long.BYTES);
+		return StreamUtil.longOf(this.block, position, this.isInverted());
+	}
+
+	@Override
+	public String readUtf8(StringCache stringCache) {
+		int length = this.readVarInt();
+
+		if (length < 0)
+			throw new CompressionRuntimeException(COMPRESSION_BLOCK_MALFORMED, this.blockCodec.getClass().getSimpleName(), length, this.limit - this.position);
+
+		if (length > this.utf8Limit)
+			throw new CompressionRuntimeException(READ_UTF8_LIMIT, length, this.utf8Limit);
+
+		if (this.limit - this.position >= length) {
+			int position = this.position;
+			this.position += length;
+
+			return stringCache == null ? StreamUtil.utf8Of(this.block, position, length) : stringCache.get(this.block, position, length);
+		}
+
+		byte[] bytes = new byte[length];
+		this.readRaw(bytes, 0, length);
+
+		return stringCache == null ? StreamUtil.utf8Of(bytes, 0, length) : stringCache.get(bytes, 0, length);
+	}
+
+	@Override
+	public boolean isClosed() {
+		return this.reader.isClosed();
+	}
+
+	@Override
+	public boolean isFull() {
+		return this.reader.isFull();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		if (this.position < this.limit)
+			return false;
+
+		if (this.finished || this.reader.isEmpty())
+			return true;
+
+		return !this.next();
+	}
+
+	@Override
+	public int capacity() {
+		return this.reader.capacity();
+	}
+
+	@Override
+	public int offset() {
+		return (int) (this.read + this.position);
+	}
+
+	@Override
+	public void reset() {
+		this.reader.reset();
+		this.position = 0;
+		this.limit = 0;
+		this.read = 0;
+		this.finished = false;
+	}
+
+	@Override
+	public void close() {
+		this.reader.close();
+	}
+
+	private boolean next() {
+		if (this.finished)
+			return false;
+
+		int length = this.reader.readVarInt();
+
+		if (length == 0) {
+			this.finished = true;
+			return false;
+		}
+
+		int stored = this.reader.readVarInt();
+
+		if (length < 0 || length > CompressedWriter.MAX_BLOCK_SIZE || stored <= 0 || stored > length)
+			throw new CompressionRuntimeException(COMPRESSION_BLOCK_MALFORMED, this.blockCodec.getClass().getSimpleName(), length, stored);
+
+		if (this.block.length < length)
+			this.block = new byte[length];
+
+		if (stored == length)
+			this.reader.read(this.block, 0, length);
+		else {
+			if (this.compressed.length < stored)
+				this.compressed = new byte[Math.max(stored, this.block.length)];
+
+			this.reader.read(this.compressed, 0, stored);
+			this.blockCodec.decompress(this.compressed, stored, this.block, length);
+		}
+
+		this.read += this.limit;
+		this.position = 0;
+		this.limit = length;
+
+		return true;
+	}
+
+	private void readRaw(byte[] bytes, int offset, int length) {
+		while (length > 0) {
+			int position = this.claim(Byte.BYTES);
+			int count = Math.min(this.limit - position, length);
+			System.arraycopy(this.block, position, bytes, offset, count);
+			this.position = position + count;
+			offset += count;
+			length -= count;
+		}
+	}
+
+	private int claim(int bytes) {
+		if (this.position == this.limit && !this.next())
+			throw new CompressionRuntimeException(READ_END_OF_STREAM, bytes);
+
+		if (this.position + bytes > this.limit)
+			throw new CompressionRuntimeException(COMPRESSION_BLOCK_MALFORMED, this.blockCodec.getClass().getSimpleName(), this.limit, this.position);
+
+		int position = this.position;
+		this.position += bytes;
+
+		return position;
+	}
+}
@@ -0,0 +1,205 @@
+package org.diverproject.scarlet.stream.compression;
+
+import static org.diverproject.scarlet.stream.language.CompressionLanguage.COMPRESSION_BLOCK_SIZE;
+import static org.diverproject.scarlet.stream.language.CompressionLanguage.WRITE_FINISHED_STREAM;
+
+import lombok.Getter;
+import org.diverproject.scarlet.stream.StreamUtil;
+import org.diverproject.scarlet.stream.Writer;
+
+import java.util.Objects;
+
+public class CompressedWriter implements Writer {
+
+	public static final int DEFAULT_BLOCK_SIZE = 1 << 16;
+	public static final int MIN_BLOCK_SIZE = 64;
+	public static final int MAX_BLOCK_SIZE = 1 << 24;
+
+	private final @Getter Writer writer;
+	private final @Getter BlockCodec blockCodec;
+	private final byte[] block;
+	private final byte[] compressed;
+	private int position;
+	private long written;
+	private boolean finished;
+	private @Getter boolean inverted;
+
+	public CompressedWriter(Writer writer, BlockCodec blockCodec) {
+		this(writer, blockCodec, DEFAULT_BLOCK_SIZE);
+	}
+
+	public CompressedWriter(Writer writer, BlockCodec blockCodec, int blockSize) {
+		if (blockSize < MIN_BLOCK_SIZE || blockSize > MAX_BLOCK_SIZE)
+			throw new CompressionRuntimeException(COMPRESSION_BLOCK_SIZE, MIN_BLOCK_SIZE, MAX_BLOCK_SIZE, blockSize);
+
+		this.writer = writer;
+		this.blockCodec = blockCodec;
+		this.block = new byte[blockSize];
+		this.compressed = new byte[blockCodec.maxCompressedLength(blockSize)];
+	}
+
+	public int blockSize() {
+		return this.block.length;
+	}
+
+	public boolean isFinished() {
+		return this.finished;
+	}
+
+	public void flush() {
+		if (this.position == 0)
+			return;
+
+		int length = this.position;
+		int stored = this.blockCodec.compress(this.block, length, this.compressed);
+		this.writer.writeVarInt(length);
+
+		if (stored > 0 && stored < length) {
+			this.writer.writeVarInt(stored);
+			this.writer.write(this.compressed, 0, stored);
+		} else {
+			this.writer.writeVarInt(length);
+			this.writer.write(this.block, 0, length);
+		}
+
+		this.written += length;
+		this.position = 0;
+	}
+
+	public void finish() {
+		if (this.finished)
+			return;
+
+		this.flush();
+		this.writer.writeVarInt(0);
+		this.finished = true;
+	}
+
+	@Override
+	public void invert() {
+		this.inverted = !this.inverted;
+	}
+
+	@Override
+	public void write(byte value) {
+		this.block[this.claim(Byte.BYTES)] = value;
+	}
+
+	@Override
+	public void write(byte[] values) {
+		this.write(values, 0, values.length);
+	}
+
+	@Override
+	public void write(byte[] values, int offset, int length) {
+		Objects.checkFromIndexSize(offset, length, values.length);
+
+		if (!this.isInverted()) {
+			this.writeRaw(values, offset, length);
+			return;
+		}
+
+		for (int i = offset + length - 1; i >= offset; ) {
+			int position = this.claim(Byte.BYTES);
+			int count = Math.min(this.block.length - position, i - offset + 1);
+
+			for (int j = position; j < position + count; j++, i--)
+				this.block[j] = values[i];
+
+			this.position = position + count;
+		}
+	}
+
+	@Override
+	public void writeShort(short value) {
+		StreamUtil.put(this.block, this.claim(Short.BYTES), value, this.isInverted());
+	}
+
+	@Override
+	public void writeInt(int value) {
+		StreamUtil.put(this.block, this.claim(Integer.BYTES), value, this.isInverted());
+	}
+
+	@Override
+	public void writeLong(long value) {
+		StreamUtil.put(this.block, this.claim(Long.BYTES), value, this.isInverted());
+	}
+
+	@Override
+	public void writeUtf8(String value) {
+		int length = StreamUtil.utf8Length(value);
+		int size = StreamUtil.varIntSize(length) + length;
+
+		if (size <= this.block.length) {
+			StreamUtil.putUtf8(this.block, StreamUtil.putVarInt(this.block, this.claim(size), length), value);
+			return;
+		}
+
+		byte[] bytes = new byte[size];
+		StreamUtil.putUtf8(bytes, StreamUtil.putVarInt(bytes, 0, length), value);
+		this.writeRaw(bytes, 0, size);
+	}
+
+	@Override
+	public boolean isClosed() {
+		return this.writer.isClosed();
+	}
+
+	@Override
+	public boolean isFull() {
+		return this.writer.isFull();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return this.offset() == 0;
+	}
+
+	@Override
+	public int capacity() {
+		return this.writer.capacity();
+	}
+
+	@Override
+	public int offset() {
+		return (int) (this.written + this.position);
+	}
+
+	@Override
+	public void reset() {
+		this.writer.reset();
+		this.position = 0;
+		this.written = 0;
+		this.finished = false;
+	}
+
+	@Override
+	public void close() {
+		this.finish();
+		this.writer.close();
+	}
+
+	private void writeRaw(byte[] values, int offset, int length) {
+		while (length > 0) {
+			int position = this.claim(Byte.BYTES);
+			int count = Math.min(this.block.length - position, length);
+			System.arraycopy(values, offset, this.block, position, count);
+			this.position = position + count;
+			offset += count;
+			length -= count;
+		}
+	}
+
+	private int claim(int bytes) {
+		if (this.finished)
+			throw new CompressionRuntimeException(WRITE_FINISHED_STREAM);
+
+		if (this.position + bytes > this.block.length)
+			this.flush();
+
+		int position = this.position;
+		this.position += bytes;
+
+		return position;
+	}
+}
@@ -0,0 +1,33 @@
+package org.diverproject.scarlet.stream.compression;
+
+import org.diverproject.scarlet.stream.Reader;
+import org.diverproject.scarlet.stream.Writer;
+
+public class CompressionFactory {
+
+	private CompressionFactory() { }
+
+	public static CompressedInput inputOf(Reader reader) {
+		return inputOf(reader, new DeflateCodec());
+	}
+
+	public static CompressedInput inputOf(Reader reader, BlockCodec blockCodec) {
+		return inputOf(reader, blockCodec, CompressedReader.DEFAULT_UTF8_LIMIT);
+	}
+
+	public static CompressedInput inputOf(Reader reader, BlockCodec blockCodec, int utf8Limit) {
+		return new CompressedInput().setCompressedReader(new CompressedReader(reader, blockCodec, utf8Limit));
+	}
+
+	public static CompressedOutput outputOf(Writer writer) {
+		return outputOf(writer, new DeflateCodec());
+	}
+
+	public static CompressedOutput outputOf(Writer writer, BlockCodec blockCodec) {
+		return outputOf(writer, blockCodec, CompressedWriter.DEFAULT_BLOCK_SIZE);
+	}
+
+	public static CompressedOutput outputOf(Writer writer, BlockCodec blockCodec, int blockSize) {
+		return new CompressedOutput().setCompressedWriter(new CompressedWriter(writer, blockCodec, blockSize));
+	}
+}
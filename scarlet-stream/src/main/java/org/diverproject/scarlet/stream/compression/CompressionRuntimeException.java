@@ -0,0 +1,29 @@
+package org.diverproject.scarlet.stream.compression;
+
+import org.diverproject.scarlet.language.Language;
+import org.diverproject.scarlet.stream.StreamRuntimeException;
+
+public class CompressionRuntimeException extends StreamRuntimeException {
+
+	private static final long serialVersionUID = 4751920368271955623L;
+
+	public CompressionRuntimeException(Language language) {
+		super(language);
+	}
+
+	public CompressionRuntimeException(Language language, Object... args) {
+		super(language, args);
+	}
+
+	public CompressionRuntimeException(Exception e) {
+		super(e);
+	}
+
+	public CompressionRuntimeException(Exception e, Language language) {
+		super(e, language);
+	}
+
+	public CompressionRuntimeException(Exception e, Language language, Object... args) {
+		super(e, language, args);
+	}
+}
@@ -0,0 +1,67 @@
+package org.diverproject.scarlet.stream.compression;
+
+import static org.diverproject.scarlet.stream.language.CompressionLanguage.COMPRESSION_BLOCK_MALFORMED;
+
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+public class DeflateCodec implements BlockCodec {
+
+	private final Deflater deflater;
+	private final Inflater inflater;
+
+	public DeflateCodec() {
+		this(Deflater.DEFAULT_COMPRESSION);
+	}
+
+	public DeflateCodec(int level) {
+		this.deflater = new Deflater(level, true);
+		this.inflater = new Inflater(true);
+	}
+
+	@Override
+	public int maxCompressedLength(int length) {
+		return length + (length >>> 12) + (length >>> 14) + (length >>> 25) + 13;
+	}
+
+	@Override
+	public int compress(byte[] source, int length, byte[] target) {
+		this.deflater.reset();
+		this.deflater.setInput(source, 0, length);
+		this.deflater.finish();
+
+		int compressed = 0;
+
+		while (!this.deflater.finished() && compressed < target.length)
+			compressed += this.deflater.deflate(target, compressed, target.length - compressed);
+
+		return this.deflater.finished() ? compressed : target.length;
+	}
+
+	@Override
+	public void decompress(byte[] source, int length, byte[] target, int targetLength) {
+		this.inflater.reset();
+		this.inflater.setInput(source, 0, length);
+
+		try {
+
+			int decompressed = 0;
+
+			while (!this.inflater.finished() && decompressed < targetLength) {
+				int inflated = this.inflater.inflate(target, decompressed, targetLength - decompressed);
+
+				if (inflated == 0 && (this.inflater.needsInput() || this.inflater.needsDictionary()))
+					break;
+
+				decompressed += inflated;
+			}
+
+			if (decompressed != targetLength)
+				throw new CompressionRuntimeException(COMPRESSION_BLOCK_MALFORMED, "deflate", targetLength, length);
+
+		} catch (DataFormatException e) {
+			throw new CompressionRuntimeException(e, COMPRESSION_BLOCK_MALFORMED, "deflate", targetLength, length);
+		}
+	}
+}
@@ -0,0 +1,159 @@
+package org.diverproject.scarlet.stream.compression;
+
+import static org.diverproject.scarlet.stream.language.CompressionLanguage.COMPRESSION_BLOCK_MALFORMED;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+public class Lz4Codec implements BlockCodec {
+
+	private static final VarHandle INT_LITTLE_ENDIAN = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+	private static final int HASH_LOG = 12;
+	private static final int MIN_MATCH = 4;
+	private static final int LAST_LITERALS = 5;
+	private static final int MATCH_FIND_LIMIT = 12;
+	private static final int MAX_DISTANCE = 0xFFFF;
+	private static final int RUN_MASK = 0x0F;
+
+	private final int[] table = new int[1 << HASH_LOG];
+
+	@Override
+	public int maxCompressedLength(int length) {
+		return length + length / 255 + 16;
+	}
+
+	@Override
+	public int compress(byte[] source, int length, byte[] target) {
+		int anchor = 0;
+		int offset = 0;
+
+		if (length > MATCH_FIND_LIMIT) {
+			int findLimit = length - MATCH_FIND_LIMIT;
+			int matchLimit = length - LAST_LITERALS;
+			Arrays.fill(this.table, -1);
+
+			for (int index = 0; index < findLimit; ) {
+				int sequence = (int) INT_LITTLE_ENDIAN.get(source, index);
+				int hash = (sequence * 0x9E3779B1) >>> (Integer.SIZE - HASH_LOG);
+				int reference = this.table[hash];
+				this.table[hash] = index;
+
+				if (reference < 0 || index - reference > MAX_DISTANCE || (int) INT_LITTLE_ENDIAN.get(source, reference) != sequence) {
+					index++;
+					continue;
+				}
+
+				while (index > anchor && reference > 0 && source[index - 1] == source[reference - 1]) {
+					index--;
+					reference--;
+				}
+
+				int matchLength = MIN_MATCH;
+
+				while (index + matchLength < matchLimit && source[index + matchLength] == source[reference + matchLength])
+					matchLength++;
+
+				offset = this.sequence(target, offset, source, anchor, index - anchor, index - reference, matchLength);
+				index += matchLength;
+				anchor = index;
+			}
+		}
+
+		int literals = length - anchor;
+		int token = offset++;
+		target[token] = (byte) (Math.min(literals, RUN_MASK) << 4);
+
+		if (literals >= RUN_MASK)
+			offset = putLength(target, offset, literals - RUN_MASK);
+
+		System.arraycopy(source, anchor, target, offset, literals);
+
+		return offset + literals;
+	}
+
+	@Override
+	public void decompress(byte[] source, int length, byte[] target, int targetLength) {
+		int offset = 0;
+		int decompressed = 0;
+
+		try {
+
+			while (true) {
+				int token = source[offset++] & 0xFF;
+				int literals = token >>> 4;
+
+				if (literals == RUN_MASK)
+					for (int read = 0xFF; read == 0xFF; literals += read)
+						read = source[offset++] & 0xFF;
+
+				if (offset + literals > length || decompressed + literals > targetLength)
+					break;
+
+				System.arraycopy(source, offset, target, decompressed, literals);
+				offset += literals;
+				decompressed += literals;
+
+				if (offset == length)
+					break;
+
+				int distance = (source[offset] & 0xFF) | (source[offset + 1] & 0xFF) << 8;
+				int matchLength = token & RUN_MASK;
+				offset += 2;
+
+				if (matchLength == RUN_MASK)
+					for (int read = 0xFF; read == 0xFF; matchLength += read)
+						read = source[offset++] & 0xFF;
+
+				matchLength += MIN_MATCH;
+
+				if (distance == 0 || distance > decompressed || decompressed + matchLength > targetLength)
+					break;
+
+				if (distance >= matchLength)
+					System.arraycopy(target, decompressed - distance, target, decompressed, matchLength);
+				else
+					for (int i = 0; i < matchLength; i++)
+						target[decompressed + i] = target[decompressed - distance + i];
+
+				decompressed += matchLength;
+			}
+
+		} catch (ArrayIndexOutOfBoundsException e) {
+			throw new CompressionRuntimeException(e, COMPRESSION_BLOCK_MALFORMED, "lz4", targetLength, length);
+		}
+
+		if (offset != length || decompressed != targetLength)
+			throw new CompressionRuntimeException(COMPRESSION_BLOCK_MALFORMED, "lz4", targetLength, length);
+	}
+
+	private int sequence(byte[] target, int offset, byte[] source, int anchor, int literals, int distance, int matchLength) {
+		int token = offset++;
+		int matchRun = matchLength - MIN_MATCH;
+
+		if (literals >= RUN_MASK)
+			offset = putLength(target, offset, literals - RUN_MASK);
+
+		System.arraycopy(source, anchor, target, offset, literals);
+		offset += literals;
+		target[offset++] = (byte) distance;
+		target[offset++] = (byte) (distance >>> 8);
+
+		if (matchRun >= RUN_MASK)
+			offset = putLength(target, offset, matchRun - RUN_MASK);
+
+		target[token] = (byte) (Math.min(literals, RUN_MASK) << 4 | Math.min(matchRun, RUN_MASK));
+
+		return offset;
+	}
+
+	private static int putLength(byte[] target, int offset, int length) {
+		for (; length >= 0xFF; length -= 0xFF)
+			target[offset++] = (byte) 0xFF;
+
+		target[offset++] = (byte) length;
+
+		return offset;
+	}
+}
@@ -7,12 +7,30 @@ import org.diverproject.scarlet.language.Language;
 public enum BufferLanguage implements Language {
 
 	BUFFER_FACTORY_IO_EXCEPTION("failure on create buffer from file (filename: %s)"),
+	BUFFER_CHANNEL_IO_EXCEPTION("failure on write buffer to channel (offset: %d, remaining: %d)"),
+	BUFFER_GROW_LIMIT("cannot grow buffer beyond its maximum length (length: %d, max length: %d)"),
+	BUFFER_NO_ARRAY("buffer is not backed by an accessible array"),
+	BUFFER_READ_ONLY("cannot modify a read-only buffer"),
+	BUFFER_CHUNK_SIZE("mapped chunk size must be positive (chunk size: %d)"),
+	BUFFER_VIEW_SPAN("cannot view a range spanning several mapped chunks (offset: %d, length: %d)"),
+
+	FRAME_WIDTH("unsupported frame length width (width: %d)"),
+	FRAME_DELIMITER_EMPTY("frame delimiter cannot be empty"),
+	FRAME_LENGTH_LIMIT("frame length exceeds its maximum (length: %d, max length: %d)"),
+	FRAME_VAR_INT_MALFORMED("malformed varint frame length (offset: %d)"),
+	SEGMENT_INDEX_LENGTH("segment index does not match the data (index length: %d, data length: %d)"),
+	SEGMENT_CHUNK_SIZE("segment chunk size must be positive (chunk size: %d)"),
 
 	READ_SINGLE_BYTE("end of buffer reached to read a single byte (offset: %d, capacity: %d)"),
 	READ_BYTE_ARRAY("end of buffer reached to read a byte array (offset: %d, count: %d, capacity: %d)"),
 	READ_CLOSED("cannot read a closed buffer"),
+	READ_UTF8_LENGTH("utf8 string length out of buffer bounds (length: %d, offset: %d, capacity: %d)"),
+	READ_AT("end of buffer reached to read at a position (position: %d, count: %d, capacity: %d)"),
+	READ_OFFSET_RANGE("offset does not fit an int, use the long position instead (position: %d)"),
+	READ_POSITION("position out of buffer bounds (position: %d, capacity: %d)"),
 
 	WRITE_END_OF_BUFFER("end of buffer reached to write a byte (offset: %d, capacity: %d)"),
+	WRITE_BYTE_ARRAY("end of buffer reached to write a byte array (offset: %d, count: %d, capacity: %d)"),
 	WRITE_CLOSED_BUFFER("cannot write a closed buffer");
 
 	private @Getter
@@ -0,0 +1,32 @@
+package org.diverproject.scarlet.stream.language;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.diverproject.scarlet.language.Language;
+
+public enum ChannelLanguage implements Language {
+
+	READ_END_OF_STREAM("end of stream reached to read bytes (offset: %d, count: %d)"),
+	READ_UTF8_LENGTH("invalid utf8 string length (length: %d)"),
+	READ_CLOSED_CHANNEL("cannot read a closed channel"),
+	READ_IO_EXCEPTION("failure on read from channel (offset: %d)"),
+
+	WRITE_CLOSED_CHANNEL("cannot write a closed channel"),
+	WRITE_IO_EXCEPTION("failure on write to channel (offset: %d)"),
+
+	CLOSE_IO_EXCEPTION("failure on close channel"),
+	RESET_UNSUPPORTED("cannot reset a channel reader back to its start");
+
+	private @Getter
+	@Setter
+	String format;
+
+	private ChannelLanguage(String format) {
+		this.setFormat(format);
+	}
+
+	@Override
+	public int getCode() {
+		return this.ordinal();
+	}
+}
@@ -0,0 +1,30 @@
+package org.diverproject.scarlet.stream.language;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.diverproject.scarlet.language.Language;
+
+public enum CompressionLanguage implements Language {
+
+	COMPRESSION_BLOCK_SIZE("block size must be between %d and %d (block size: %d)"),
+	COMPRESSION_BLOCK_MALFORMED("malformed compressed block (codec: %s, length: %d, stored: %d)"),
+	COMPRESSION_UTF8_LIMIT("utf8 length limit must be positive (limit: %d)"),
+
+	READ_END_OF_STREAM("end of compressed stream reached to read bytes (count: %d)"),
+	READ_UTF8_LIMIT("utf8 string is longer than the limit (length: %d, limit: %d)"),
+
+	WRITE_FINISHED_STREAM("cannot write a finished compressed stream");
+
+	private @Getter
+	@Setter
+	String format;
+
+	private CompressionLanguage(String format) {
+		this.setFormat(format);
+	}
+
+	@Override
+	public int getCode() {
+		return this.ordinal();
+	}
+}
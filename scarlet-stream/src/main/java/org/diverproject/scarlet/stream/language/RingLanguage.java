@@ -0,0 +1,32 @@
+package org.diverproject.scarlet.stream.language;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.diverproject.scarlet.language.Language;
+
+public enum RingLanguage implements Language {
+
+	RING_CAPACITY("ring capacity must be a power of two not less than %d (capacity: %d)"),
+	RING_RECORD_LENGTH("record length exceeds the ring limit (length: %d, max length: %d)"),
+	RING_CLAIM_PENDING("cannot claim a record before committing the previous one"),
+	RING_NO_CLAIM("no claimed record to write or commit"),
+
+	READ_UTF8_LENGTH("utf8 string length out of record bounds (length: %d, offset: %d, length: %d)"),
+	READ_END_OF_RECORD("end of record reached to read bytes (offset: %d, count: %d, length: %d)"),
+
+	WRITE_END_OF_CLAIM("end of claimed record reached to write bytes (offset: %d, count: %d, length: %d)"),
+	WRITE_CLOSED_RING("cannot write a closed ring");
+
+	private @Getter
+	@Setter
+	String format;
+
+	private RingLanguage(String format) {
+		this.setFormat(format);
+	}
+
+	@Override
+	public int getCode() {
+		return this.ordinal();
+	}
+}
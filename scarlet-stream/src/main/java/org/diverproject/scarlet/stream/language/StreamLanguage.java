@@ -10,7 +10,22 @@ public enum StreamLanguage implements Language {
 	GET_OBJECT_INSTANCE("failure on create a new instance (class: %s)"),
 	GET_OBJECT_FIELD_SET("failure on set a field of object (class: %s, field: %s)"),
 	PUT_STRING_LENGTH("cannot put a string with more then 255 bytes (length: %d)"),
+	PUT_STRING_SIZE("cannot put a string with more bytes then its fixed size (length: %d, size: %d)"),
 	PUT_OBJECT_NULL("cannot put a null object"),
+	GET_VAR_INT_MALFORMED("malformed varint longer than %d bits"),
+	GET_UTF8_LENGTH("invalid utf8 string length (length: %d, remaining: %d)"),
+	OBJECT_CODEC_ACCESS("cannot access the fields of class (class: %s)"),
+	OBJECT_CODEC_IO("failure on create the input output of field (class: %s, field: %s, io: %s)"),
+	OBJECT_CODEC_VAR_INT("varint encoding requires an int or long field (class: %s, field: %s)"),
+	OBJECT_CODEC_PACKED("packed encoding requires a boolean array field (class: %s, field: %s)"),
+	OBJECT_CODEC_FIELD("there is no serialized field with this name (class: %s, field: %s)"),
+	OBJECT_CODEC_OFFSET("field has no fixed offset (class: %s, field: %s)"),
+	OBJECT_CODEC_VARIABLE("class has no fixed size layout (class: %s)"),
+	OBJECT_CODEC_ARRAY("array component type is not supported (class: %s, field: %s, type: %s)"),
+	OBJECT_CODEC_ENUM("enum stream value type is not supported (class: %s, type: %s)"),
+	PUT_CHECKSUM("output is not writing through a checksum writer"),
+	GET_CHECKSUM("input is not reading through a checksum reader"),
+	GET_CHECKSUM_MISMATCH("checksum of section does not match (expected: %08x, read: %08x)"),
 
 	;
 
@@ -0,0 +1,68 @@
+package org.diverproject.scarlet.stream.ring;
+
+import static org.diverproject.scarlet.stream.language.RingLanguage.RING_CAPACITY;
+
+public class RingBuffer {
+
+	public static final int DEFAULT_CAPACITY = 1 << 16;
+	public static final int MIN_CAPACITY = 64;
+
+	static final int HEADER = Integer.BYTES;
+	static final int PADDING = -1;
+	static final int SPIN_LIMIT = 128;
+
+	final byte[] data;
+	final int mask;
+	final Sequence producer;
+	final Sequence consumer;
+	private volatile boolean closed;
+
+	public RingBuffer() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	public RingBuffer(int capacity) {
+		if (capacity < MIN_CAPACITY || Integer.bitCount(capacity) != 1)
+			throw new RingRuntimeException(RING_CAPACITY, MIN_CAPACITY, capacity);
+
+		this.data = new byte[capacity];
+		this.mask = capacity - 1;
+		this.producer = new Sequence();
+		this.consumer = new Sequence();
+	}
+
+	public int capacity() {
+		return this.data.length;
+	}
+
+	public int maxRecordLength() {
+		return this.data.length / 2 - HEADER;
+	}
+
+	public int size() {
+		return (int) (this.producer.get() - this.consumer.get());
+	}
+
+	public boolean isEmpty() {
+		return this.size() == 0;
+	}
+
+	public boolean isClosed() {
+		return this.closed;
+	}
+
+	public void close() {
+		this.closed = true;
+	}
+
+	static int align(int length) {
+		return (length + HEADER - 1) & -HEADER;
+	}
+
+	static void idle(int spins) {
+		if (spins < SPIN_LIMIT)
+			Thread.onSpinWait();
+		else
+			Thread.yield();
+	}
+}
@@ -0,0 +1,22 @@
+package org.diverproject.scarlet.stream.ring;
+
+public class RingFactory {
+
+	private RingFactory() { }
+
+	public static RingInput inputOf(RingBuffer ringBuffer) {
+		return new RingInput().setRingReader(new RingReader(ringBuffer));
+	}
+
+	public static RingOutput outputOf(RingBuffer ringBuffer) {
+		return new RingOutput().setRingWriter(new RingWriter(ringBuffer));
+	}
+
+	public static SharedRingInput inputOf(SharedRingBuffer ringBuffer) {
+		return new SharedRingInput().setSharedRingReader(new SharedRingReader(ringBuffer));
+	}
+
+	public static SharedRingOutput outputOf(SharedRingBuffer ringBuffer) {
+		return new SharedRingOutput().setSharedRingWriter(new SharedRingWriter(ringBuffer));
+	}
+}
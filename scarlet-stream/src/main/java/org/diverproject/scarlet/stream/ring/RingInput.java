@@ -0,0 +1,36 @@
+package org.diverproject.scarlet.stream.ring;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
+import org.diverproject.scarlet.stream.DefaultInput;
+import org.diverproject.scarlet.stream.Reader;
+
+@Data
+@Accessors(chain = true)
+@EqualsAndHashCode(callSuper = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class RingInput extends DefaultInput {
+
+	private RingReader ringReader;
+
+	@Override
+	protected Reader getReader() {
+		return this.getRingReader();
+	}
+
+	public boolean next() {
+		return this.getRingReader().next();
+	}
+
+	public boolean await() {
+		return this.getRingReader().await();
+	}
+
+	public void release() {
+		this.getRingReader().release();
+	}
+}
@@ -0,0 +1,32 @@
+package org.diverproject.scarlet.stream.ring;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
+import org.diverproject.scarlet.stream.DefaultOutput;
+import org.diverproject.scarlet.stream.Writer;
+
+@Data
+@Accessors(chain = true)
+@EqualsAndHashCode(callSuper = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class RingOutput extends DefaultOutput {
+
+	private RingWriter ringWriter;
+
+	@Override
+	protected Writer getWriter() {
+		return this.getRingWriter();
+	}
+
+	public void commit() {
+		this.getRingWriter().commit();
+	}
+
+	public void publish() {
+		this.getRingWriter().publish();
+	}
+}
@@ -0,0 +1,188 @@
+package org.diverproject.scarlet.stream.ring;
+
+import static org.diverproject.scarlet.stream.language.RingLanguage.READ_END_OF_RECORD;
+import static org.diverproject.scarlet.stream.language.RingLanguage.READ_UTF8_LENGTH;
+
+import lombok.Getter;
+import org.diverproject.scarlet.stream.Reader;
+import org.diverproject.scarlet.stream.StreamUtil;
+import org.diverproject.scarlet.stream.StringCache;
+
+import java.util.Objects;
+
+public class RingReader implements Reader {
+
+	private final @Getter RingBuffer ringBuffer;
+	private final byte[] data;
+	private final int mask;
+	private long position;
+	private long end;
+	private long released;
+	private long producerCache;
+	private int index;
+	private int length;
+	private int offset;
+	private @Getter boolean inverted;
+
+	public RingReader(RingBuffer ringBuffer) {
+		this.ringBuffer = ringBuffer;
+		this.data = ringBuffer.data;
+		this.mask = ringBuffer.mask;
+	}
+
+	public boolean next() {
+		this.position = this.end;
+
+		if (this.position == this.producerCache) {
+			this.release();
+			this.producerCache = this.ringBuffer.producer.get();
+
+			if (this.position == this.producerCache) {
+				this.length = 0;
+				this.offset = 0;
+				return false;
+			}
+		}
+
+		int index = (int) (this.position & this.mask);
+		int length = StreamUtil.intOf(this.data, index, false);
+
+		if (length == RingBuffer.PADDING) {
+			this.position += this.ringBuffer.capacity() - index;
+			index = 0;
+			length = StreamUtil.intOf(this.data, index, false);
+		}
+
+		this.index = index + RingBuffer.HEADER;
+		this.length = length;
+		this.offset = 0;
+		this.end = this.position + RingBuffer.align(RingBuffer.HEADER + length);
+
+		if (this.position - this.released >= this.ringBuffer.capacity() / 4)
+			this.release();
+
+		return true;
+	}
+
+	public boolean await() {
+		for (int spins = 0; !this.next(); spins++) {
+			if (this.ringBuffer.isClosed() && this.ringBuffer.producer.get() == this.position)
+				return false;
+
+			RingBuffer.idle(spins);
+		}
+
+		return true;
+	}
+
+	public void release() {
+		if (this.released == this.position)
+			return;
+
+		this.released = this.position;
+		this.ringBuffer.consumer.set(this.released);
+	}
+
+	@Override
+	public void invert() {
+		this.inverted = !this.inverted;
+	}
+
+	@Override
+	public byte read() {
+		return this.data[this.claim(Byte.BYTES)];
+	}
+
+	@Override
+	public byte[] read(int count) {
+		byte[] data = new byte[count];
+		this.read(data, 0, count);
+
+		return data;
+	}
+
+	@Override
+	public void read(byte[] bytes, int offset, int length) {
+		Objects.checkFromIndexSize(offset, length, bytes.length);
+
+		int position = this.claim(length);
+
+		if (this.isInverted())
+			for (int i = offset + length - 1, j = position; i >= offset; i--, j++)
+				bytes[i] = this.data[j];
+		else
+			System.arraycopy(this.data, position, bytes, offset, length);
+	}
+
+	@Override
+	public short readShort() {
+		return StreamUtil.shortOf(this.data, this.claim(Short.BYTES), this.isInverted());
+	}
+
+	@Override
+	public int readInt() {
+		return StreamUtil.intOf(this.data, this.claim(Integer.BYTES), this.isInverted());
+	}
+
+	@Override
+	public long readLong() {
+		return StreamUtil.longOf(this.data, this.claim(Long.BYTES), this.isInverted());
+	}
+
+	@Override
+	public String readUtf8(StringCache stringCache) {
+		int length = this.readVarInt();
+
+		if (length < 0 || length > this.length - this.offset)
+			throw new RingRuntimeException(READ_UTF8_LENGTH, length, this.offset, this.length);
+
+		int position = this.claim(length);
+
+		return stringCache == null ? StreamUtil.utf8Of(this.data, position, length) : stringCache.get(this.data, position, length);
+	}
+
+	@Override
+	public boolean isClosed() {
+		return this.ringBuffer.isClosed();
+	}
+
+	@Override
+	public boolean isFull() {
+		return this.offset == 0;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return this.offset == this.length;
+	}
+
+	@Override
+	public int capacity() {
+		return this.length;
+	}
+
+	@Override
+	public int offset() {
+		return this.offset;
+	}
+
+	@Override
+	public void reset() {
+		this.offset = 0;
+	}
+
+	@Override
+	public void close() {
+		this.ringBuffer.close();
+	}
+
+	private int claim(int bytes) {
+		if (this.offset + bytes > this.length)
+			throw new RingRuntimeException(READ_END_OF_RECORD, this.offset, bytes, this.length);
+
+		int position = this.index + this.offset;
+		this.offset += bytes;
+
+		return position;
+	}
+}
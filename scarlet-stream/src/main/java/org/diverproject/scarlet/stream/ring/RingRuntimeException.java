@@ -0,0 +1,29 @@
+package org.diverproject.scarlet.stream.ring;
+
+import org.diverproject.scarlet.language.Language;
+import org.diverproject.scarlet.stream.StreamRuntimeException;
+
+public class RingRuntimeException extends StreamRuntimeException {
+
+	private static final long serialVersionUID = -2873516093742514096L;
+
+	public RingRuntimeException(Language language) {
+		super(language);
+	}
+
+	public RingRuntimeException(Language language, Object... args) {
+		super(language, args);
+	}
+
+	public RingRuntimeException(Exception e) {
+		super(e);
+	}
+
+	public RingRuntimeException(Exception e, Language language) {
+		super(e, language);
+	}
+
+	public RingRuntimeException(Exception e, Language language, Object... args) {
+		super(e, language, args);
+	}
+}
@@ -0,0 +1,191 @@
+package org.diverproject.scarlet.stream.ring;
+
+import static org.diverproject.scarlet.stream.language.RingLanguage.RING_RECORD_LENGTH;
+import static org.diverproject.scarlet.stream.language.RingLanguage.WRITE_CLOSED_RING;
+
+import lombok.Getter;
+import org.diverproject.scarlet.stream.StreamUtil;
+import org.diverproject.scarlet.stream.Writer;
+
+import java.util.Objects;
+
+public class RingWriter implements Writer {
+
+	private static final long NO_RECORD = -1;
+
+	private final @Getter RingBuffer ringBuffer;
+	private final byte[] data;
+	private final int mask;
+	private long start = NO_RECORD;
+	private long position;
+	private long committed;
+	private long published;
+	private long consumerCache;
+	private @Getter boolean inverted;
+
+	public RingWriter(RingBuffer ringBuffer) {
+		this.ringBuffer = ringBuffer;
+		this.data = ringBuffer.data;
+		this.mask = ringBuffer.mask;
+	}
+
+	@Override
+	public void invert() {
+		this.inverted = !this.inverted;
+	}
+
+	@Override
+	public void write(byte value) {
+		this.data[this.claim(Byte.BYTES)] = value;
+	}
+
+	@Override
+	public void write(byte[] values) {
+		this.write(values, 0, values.length);
+	}
+
+	@Override
+	public void write(byte[] values, int offset, int length) {
+		Objects.checkFromIndexSize(offset, length, values.length);
+
+		int position = this.claim(length);
+
+		if (this.isInverted())
+			for (int i = offset + length - 1, j = position; i >= offset; i--, j++)
+				this.data[j] = values[i];
+		else
+			System.arraycopy(values, offset, this.data, position, length);
+	}
+
+	@Override
+	public void writeShort(short value) {
+		int position = this.claim(Short.BYTES);
+		StreamUtil.put(this.data, position, value, this.isInverted());
+	}
+
+	@Override
+	public void writeInt(int value) {
+		int position = this.claim(Integer.BYTES);
+		StreamUtil.put(this.data, position, value, this.isInverted());
+	}
+
+	@Override
+	public void writeLong(long value) {
+		int position = this.claim(Long.BYTES);
+		StreamUtil.put(this.data, position, value, this.isInverted());
+	}
+
+	@Override
+	public void writeUtf8(String value) {
+		int length = StreamUtil.utf8Length(value);
+		int position = this.claim(StreamUtil.varIntSize(length) + length);
+		StreamUtil.putUtf8(this.data, StreamUtil.putVarInt(this.data, position, length), value);
+	}
+
+	public void commit() {
+		if (this.start == NO_RECORD)
+			this.claim(0);
+
+		int length = (int) (this.position - this.start) - RingBuffer.HEADER;
+		StreamUtil.put(this.data, (int) (this.start & this.mask), length, false);
+
+		this.committed = this.start + RingBuffer.align(RingBuffer.HEADER + length);
+		this.start = NO_RECORD;
+	}
+
+	public void publish() {
+		if (this.published == this.committed)
+			return;
+
+		this.published = this.committed;
+		this.ringBuffer.producer.set(this.published);
+	}
+
+	@Override
+	public boolean isClosed() {
+		return this.ringBuffer.isClosed();
+	}
+
+	@Override
+	public boolean isFull() {
+		return this.committed - this.ringBuffer.consumer.get() >= this.capacity();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return this.offset() == 0;
+	}
+
+	@Override
+	public int capacity() {
+		return this.ringBuffer.capacity();
+	}
+
+	@Override
+	public int offset() {
+		return this.start == NO_RECORD ? 0 : (int) (this.position - this.start) - RingBuffer.HEADER;
+	}
+
+	@Override
+	public void reset() {
+		this.start = NO_RECORD;
+	}
+
+	@Override
+	public void close() {
+		this.publish();
+		this.ringBuffer.close();
+	}
+
+	private int claim(int bytes) {
+		if (this.isClosed())
+			throw new RingRuntimeException(WRITE_CLOSED_RING);
+
+		if (this.start == NO_RECORD) {
+			this.start = this.committed;
+			this.position = this.committed + RingBuffer.HEADER;
+		}
+
+		int length = (int) (this.position - this.start) + bytes;
+		int aligned = RingBuffer.align(length);
+
+		if (aligned > this.capacity() / 2)
+			throw new RingRuntimeException(RING_RECORD_LENGTH, length - RingBuffer.HEADER, this.ringBuffer.maxRecordLength());
+
+		int index = (int) (this.start & this.mask);
+
+		if (index + aligned > this.capacity()) {
+			long wrapped = this.start + this.capacity() - index;
+			int written = (int) (this.position - this.start);
+
+			this.await(wrapped + aligned);
+			StreamUtil.put(this.data, index, RingBuffer.PADDING, false);
+			System.arraycopy(this.data, index + RingBuffer.HEADER, this.data, RingBuffer.HEADER, written - RingBuffer.HEADER);
+
+			this.start = wrapped;
+			this.position = wrapped + written;
+		} else
+			this.await(this.start + aligned);
+
+		int position = (int) (this.position & this.mask);
+		this.position += bytes;
+
+		return position;
+	}
+
+	private void await(long limit) {
+		long wrapPoint = limit - this.capacity();
+
+		if (this.consumerCache >= wrapPoint)
+			return;
+
+		this.publish();
+
+		for (int spins = 0; (this.consumerCache = this.ringBuffer.consumer.get()) < wrapPoint; spins++) {
+			if (this.isClosed())
+				throw new RingRuntimeException(WRITE_CLOSED_RING);
+
+			RingBuffer.idle(spins);
+		}
+	}
+}
@@ -0,0 +1,68 @@
+package org.diverproject.scarlet.stream.ring;
+
+import static org.diverproject.scarlet.stream.language.RingLanguage.RING_CAPACITY;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+public class SharedRingBuffer {
+
+	private static final VarHandle HEADER_VALUE = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.nativeOrder());
+
+	final byte[] data;
+	final int mask;
+	final Sequence producer;
+	final Sequence consumer;
+	private volatile boolean closed;
+
+	public SharedRingBuffer() {
+		this(RingBuffer.DEFAULT_CAPACITY);
+	}
+
+	public SharedRingBuffer(int capacity) {
+		if (capacity < RingBuffer.MIN_CAPACITY || Integer.bitCount(capacity) != 1)
+			throw new RingRuntimeException(RING_CAPACITY, RingBuffer.MIN_CAPACITY, capacity);
+
+		this.data = new byte[capacity];
+		this.mask = capacity - 1;
+		this.producer = new Sequence();
+		this.consumer = new Sequence();
+	}
+
+	public int capacity() {
+		return this.data.length;
+	}
+
+	public int maxRecordLength() {
+		return this.data.length / 2 - RingBuffer.HEADER;
+	}
+
+	public int size() {
+		return (int) (this.producer.get() - this.consumer.get());
+	}
+
+	public boolean isEmpty() {
+		return this.size() == 0;
+	}
+
+	public boolean isClosed() {
+		return this.closed;
+	}
+
+	public void close() {
+		this.closed = true;
+	}
+
+	int getHeader(int index) {
+		return (int) HEADER_VALUE.getAcquire(this.data, index);
+	}
+
+	void putHeader(int index, int value) {
+		HEADER_VALUE.setRelease(this.data, index, value);
+	}
+
+	void putPadding(int index, int length) {
+		HEADER_VALUE.setRelease(this.data, index, -length);
+	}
+}
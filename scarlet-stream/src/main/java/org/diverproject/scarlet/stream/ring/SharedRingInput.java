@@ -0,0 +1,36 @@
+package org.diverproject.scarlet.stream.ring;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
+import org.diverproject.scarlet.stream.DefaultInput;
+import org.diverproject.scarlet.stream.Reader;
+
+@Data
+@Accessors(chain = true)
+@EqualsAndHashCode(callSuper = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class SharedRingInput extends DefaultInput {
+
+	private SharedRingReader sharedRingReader;
+
+	@Override
+	protected Reader getReader() {
+		return this.getSharedRingReader();
+	}
+
+	public boolean next() {
+		return this.getSharedRingReader().next();
+	}
+
+	public boolean await() {
+		return this.getSharedRingReader().await();
+	}
+
+	public void release() {
+		this.getSharedRingReader().release();
+	}
+}
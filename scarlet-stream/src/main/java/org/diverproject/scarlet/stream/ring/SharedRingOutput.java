@@ -0,0 +1,36 @@
+package org.diverproject.scarlet.stream.ring;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
+import org.diverproject.scarlet.stream.DefaultOutput;
+import org.diverproject.scarlet.stream.Writer;
+
+@Data
+@Accessors(chain = true)
+@EqualsAndHashCode(callSuper = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class SharedRingOutput extends DefaultOutput {
+
+	private SharedRingWriter sharedRingWriter;
+
+	@Override
+	protected Writer getWriter() {
+		return this.getSharedRingWriter();
+	}
+
+	public void claim(int length) {
+		this.getSharedRingWriter().claim(length);
+	}
+
+	public void commit() {
+		this.getSharedRingWriter().commit();
+	}
+
+	public void abort() {
+		this.getSharedRingWriter().abort();
+	}
+}
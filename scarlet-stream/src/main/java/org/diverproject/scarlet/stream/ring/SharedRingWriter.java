@@ -0,0 +1,198 @@
+package org.diverproject.scarlet.stream.ring;
+
+import static org.diverproject.scarlet.stream.language.RingLanguage.RING_CLAIM_PENDING;
+import static org.diverproject.scarlet.stream.language.RingLanguage.RING_NO_CLAIM;
+import static org.diverproject.scarlet.stream.language.RingLanguage.RING_RECORD_LENGTH;
+import static org.diverproject.scarlet.stream.language.RingLanguage.WRITE_CLOSED_RING;
+import static org.diverproject.scarlet.stream.language.RingLanguage.WRITE_END_OF_CLAIM;
+
+import lombok.Getter;
+import org.diverproject.scarlet.stream.StreamUtil;
+import org.diverproject.scarlet.stream.Writer;
+
+import java.util.Objects;
+
+public class SharedRingWriter implements Writer {
+
+	private static final long NO_RECORD = -1;
+
+	private final @Getter SharedRingBuffer ringBuffer;
+	private final byte[] data;
+	private final int mask;
+	private long start = NO_RECORD;
+	private long position;
+	private long limit;
+	private long consumerCache;
+	private @Getter boolean inverted;
+
+	public SharedRingWriter(SharedRingBuffer ringBuffer) {
+		this.ringBuffer = ringBuffer;
+		this.data = ringBuffer.data;
+		this.mask = ringBuffer.mask;
+	}
+
+	public void claim(int length) {
+		if (this.isClosed())
+			throw new RingRuntimeException(WRITE_CLOSED_RING);
+
+		if (this.start != NO_RECORD)
+			throw new RingRuntimeException(RING_CLAIM_PENDING);
+
+		int aligned = RingBuffer.align(RingBuffer.HEADER + length);
+
+		if (length < 0 || aligned > this.capacity() / 2)
+			throw new RingRuntimeException(RING_RECORD_LENGTH, length, this.ringBuffer.maxRecordLength());
+
+		for (int spins = 0; ; spins++) {
+			long tail = this.ringBuffer.producer.get();
+			int index = (int) (tail & this.mask);
+			int padding = index + aligned > this.capacity() ? this.capacity() - index : 0;
+			long limit = tail + padding + aligned;
+
+			if (limit - this.consumerCache > this.capacity() && limit - (this.consumerCache = this.ringBuffer.consumer.get()) > this.capacity()) {
+				if (this.isClosed())
+					throw new RingRuntimeException(WRITE_CLOSED_RING);
+
+				RingBuffer.idle(spins);
+				continue;
+			}
+
+			if (this.ringBuffer.producer.compareAndSet(tail, limit)) {
+				if (padding > 0)
+					this.ringBuffer.putPadding(index, padding);
+
+				this.start = tail + padding;
+				this.position = this.start + RingBuffer.HEADER;
+				this.limit = this.position + length;
+				return;
+			}
+		}
+	}
+
+	public void commit() {
+		if (this.start == NO_RECORD)
+			throw new RingRuntimeException(RING_NO_CLAIM);
+
+		int written = (int) (this.position - this.start);
+		int unused = RingBuffer.align((int) (this.limit - this.start)) - RingBuffer.align(written);
+
+		if (unused > 0)
+			this.ringBuffer.putPadding((int) ((this.start + RingBuffer.align(written)) & this.mask), unused);
+
+		this.ringBuffer.putHeader((int) (this.start & this.mask), written);
+		this.start = NO_RECORD;
+	}
+
+	public void abort() {
+		if (this.start == NO_RECORD)
+			throw new RingRuntimeException(RING_NO_CLAIM);
+
+		this.ringBuffer.putPadding((int) (this.start & this.mask), RingBuffer.align((int) (this.limit - this.start)));
+		this.start = NO_RECORD;
+	}
+
+	@Override
+	public void invert() {
+		this.inverted = !this.inverted;
+	}
+
+	@Override
+	public void write(byte value) {
+		this.data[this.reserve(Byte.BYTES)] = value;
+	}
+
+	@Override
+	public void write(byte[] values) {
+		this.write(values, 0, values.length);
+	}
+
+	@Override
+	public void write(byte[] values, int offset, int length) {
+		Objects.checkFromIndexSize(offset, length, values.length);
+
+		int position = this.reserve(length);
+
+		if (this.isInverted())
+			for (int i = offset + length - 1, j = position; i >= offset; i--, j++)
+				this.data[j] = values[i];
+		else
+			System.arraycopy(values, offset, this.data, position, length);
+	}
+
+	@Override
+	public void writeShort(short value) {
+		int position = this.reserve(Short.BYTES);
+		StreamUtil.put(this.data, position, value, this.isInverted());
+	}
+
+	@Override
+	public void writeInt(int value) {
+		int position = this.reserve(Integer.BYTES);
+		StreamUtil.put(this.data, position, value, this.isInverted());
+	}
+
+	@Override
+	public void writeLong(long value) {
+		int position = this.reserve(Long.BYTES);
+		StreamUtil.put(this.data, position, value, this.isInverted());
+	}
+
+	@Override
+	public void writeUtf8(String value) {
+		int length = StreamUtil.utf8Length(value);
+		int position = this.reserve(StreamUtil.varIntSize(length) + length);
+		StreamUtil.putUtf8(this.data, StreamUtil.putVarInt(this.data, position, length), value);
+	}
+
+	@Override
+	public boolean isClosed() {
+		return this.ringBuffer.isClosed();
+	}
+
+	@Override
+	public boolean isFull() {
+		return this.start != NO_RECORD && this.position == this.limit;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return this.offset() == 0;
+	}
+
+	@Override
+	public int capacity() {
+		return this.ringBuffer.capacity();
+	}
+
+	@Override
+	public int offset() {
+		return this.start == NO_RECORD ? 0 : (int) (this.position - this.start) - RingBuffer.HEADER;
+	}
+
+	@Override
+	public void reset() {
+		if (this.start != NO_RECORD)
+			this.position = this.start + RingBuffer.HEADER;
+	}
+
+	@Override
+	public void close() {
+		if (this.start != NO_RECORD)
+			this.abort();
+
+		this.ringBuffer.close();
+	}
+
+	private int reserve(int bytes) {
+		if (this.start == NO_RECORD)
+			throw new RingRuntimeException(RING_NO_CLAIM);
+
+		if (this.position + bytes > this.limit)
+			throw new RingRuntimeException(WRITE_END_OF_CLAIM, this.offset(), bytes, this.limit - this.start - RingBuffer.HEADER);
+
+		int position = (int) (this.position & this.mask);
+		this.position += bytes;
+
+		return position;
+	}
+}
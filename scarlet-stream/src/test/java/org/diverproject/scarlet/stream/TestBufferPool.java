@@ -0,0 +1,112 @@
+package org.diverproject.scarlet.stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.diverproject.scarlet.stream.buffer.BufferOutput;
+import org.diverproject.scarlet.stream.buffer.BufferPool;
+import org.diverproject.scarlet.stream.buffer.GrowthPolicy;
+import org.diverproject.scarlet.stream.buffer.PooledByteBuffer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+@DisplayName("Buffer Pool")
+public class TestBufferPool {
+
+	@Test
+	@DisplayName("Acquire and release")
+	public void testAcquireRelease() {
+		BufferPool bufferPool = new BufferPool();
+		byte[] bytes = bufferPool.acquire(100);
+		assertEquals(128, bytes.length);
+
+		bytes[0] = 1;
+		bufferPool.release(bytes);
+		byte[] reused = bufferPool.acquire(120);
+		assertSame(bytes, reused);
+		assertEquals(0, reused[0]);
+
+		assertEquals(64, bufferPool.acquire(1).length);
+		assertEquals((1 << BufferPool.MAX_SIZE_CLASS) + 1, bufferPool.acquire((1 << BufferPool.MAX_SIZE_CLASS) + 1).length);
+		assertNotSame(bytes, bufferPool.acquire(120));
+	}
+
+	@Test
+	@DisplayName("Pooled output")
+	public void testPooledOutput() {
+		BufferPool bufferPool = new BufferPool();
+		BufferOutput bufferOutput = bufferPool.outputOf(10);
+		byte[] bytes = bufferOutput.getByteBuffer().data();
+		assertEquals(10, bufferOutput.capacity());
+
+		bufferOutput.put(0x01020304);
+		bufferOutput.close();
+		assertTrue(bufferOutput.isClosed());
+
+		bufferOutput = bufferPool.outputOf(12);
+		assertSame(bytes, bufferOutput.getByteBuffer().data());
+		assertArrayEquals(new byte[12], Arrays.copyOf(bytes, 12));
+	}
+
+	@Test
+	@DisplayName("Pooled buffer growth")
+	public void testGrow() {
+		BufferPool bufferPool = new BufferPool();
+		PooledByteBuffer pooledByteBuffer = bufferPool.allocate(40);
+		pooledByteBuffer.setGrowthPolicy(GrowthPolicy.linear(10));
+		byte[] bytes = pooledByteBuffer.data();
+		bytes[39] = 1;
+
+		pooledByteBuffer.grow(45);
+		assertEquals(50, pooledByteBuffer.length());
+		assertSame(bytes, pooledByteBuffer.data());
+
+		pooledByteBuffer.grow(100);
+		assertEquals(100, pooledByteBuffer.length());
+		assertEquals(128, pooledByteBuffer.data().length);
+		assertEquals(1, pooledByteBuffer.data()[39]);
+		assertSame(bytes, bufferPool.acquire(64));
+	}
+
+	@Test
+	@DisplayName("Outstanding buffers in debug mode")
+	public void testDebug() {
+		BufferPool bufferPool = new BufferPool().setDebug(true);
+		PooledByteBuffer first = bufferPool.allocate(10);
+		PooledByteBuffer second = bufferPool.allocate(10);
+		assertEquals(2, bufferPool.getOutstanding().get());
+
+		first.close();
+		first.close();
+		assertEquals(1, bufferPool.getOutstanding().get());
+
+		second.close();
+		assertEquals(0, bufferPool.getOutstanding().get());
+		assertEquals(0, bufferPool.getLeaks().get());
+	}
+
+	@Test
+	@DisplayName("Flushing and closing a pooled output")
+	public void testOutputRelease() {
+		BufferPool bufferPool = new BufferPool().setDebug(true);
+		BufferOutput bufferOutput = bufferPool.outputOf(100);
+		bufferOutput.put(1);
+		assertArrayEquals(new byte[] {0, 0, 0, 1}, bufferOutput.flush());
+		assertEquals(1, bufferPool.getOutstanding().get());
+		assertTrue(bufferOutput.getByteBuffer() instanceof PooledByteBuffer);
+		assertEquals(96, bufferOutput.capacity());
+
+		bufferOutput.put(2);
+		assertEquals(4, bufferOutput.flushView().remaining());
+		assertEquals(2, bufferPool.getOutstanding().get());
+
+		bufferOutput.close();
+		assertEquals(0, bufferPool.getOutstanding().get());
+		assertEquals(0, bufferPool.getLeaks().get());
+	}
+}
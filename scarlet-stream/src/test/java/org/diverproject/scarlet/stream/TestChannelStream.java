@@ -0,0 +1,102 @@
+package org.diverproject.scarlet.stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.diverproject.scarlet.stream.channel.ChannelFactory;
+import org.diverproject.scarlet.stream.channel.ChannelInput;
+import org.diverproject.scarlet.stream.channel.ChannelOutput;
+import org.diverproject.scarlet.stream.channel.ChannelRuntimeException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
+@DisplayName("Channel Stream")
+public class TestChannelStream {
+
+	@Test
+	@DisplayName("Writing through a small window")
+	public void testOutput() {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		ChannelOutput channelOutput = ChannelFactory.outputOf(outputStream, 8);
+		channelOutput.put((byte) 1);
+		channelOutput.put(0x02030405);
+		channelOutput.put(0x060708090A0B0C0DL);
+		assertEquals(5, outputStream.size());
+
+		channelOutput.put(new byte[] {14, 15, 16, 17, 18, 19, 20, 21, 22});
+		channelOutput.invert();
+		channelOutput.put((short) 0x1817);
+		channelOutput.put(new byte[] {27, 26, 25});
+		assertEquals(27, channelOutput.offset());
+
+		channelOutput.flush();
+		assertEquals(27, outputStream.size());
+
+		byte[] expected = new byte[27];
+		for (int i = 0; i < expected.length; i++)
+			expected[i] = (byte) (i + 1);
+
+		assertArrayEquals(expected, outputStream.toByteArray());
+
+		channelOutput.close();
+		assertTrue(channelOutput.isClosed());
+		assertThrows(ChannelRuntimeException.class, () -> channelOutput.put((byte) 0));
+	}
+
+	@Test
+	@DisplayName("Reading through a small window")
+	public void testInput() {
+		byte[] bytes = new byte[27];
+		for (int i = 0; i < bytes.length; i++)
+			bytes[i] = (byte) (i + 1);
+
+		ChannelInput channelInput = ChannelFactory.inputOf(new ByteArrayInputStream(bytes), 8);
+		assertTrue(channelInput.isFull());
+		assertEquals(1, channelInput.getByte());
+		assertEquals(0x02030405, channelInput.getInt());
+		assertEquals(0x060708090A0B0C0DL, channelInput.getLong());
+		assertArrayEquals(new byte[] {14, 15, 16, 17, 18, 19, 20, 21, 22}, channelInput.getBytes(9));
+
+		channelInput.invert();
+		assertEquals(0x1817, channelInput.getShort());
+		assertArrayEquals(new byte[] {27, 26, 25}, channelInput.getBytes(3));
+		assertEquals(27, channelInput.offset());
+		assertTrue(channelInput.isEmpty());
+		assertThrows(ChannelRuntimeException.class, channelInput::getByte);
+		assertThrows(ChannelRuntimeException.class, channelInput::reset);
+	}
+
+	@Test
+	@DisplayName("Round trip of an object")
+	public void testObject() {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		ChannelOutput channelOutput = ChannelFactory.outputOf(outputStream, 16);
+
+		for (int i = 0; i < 100; i++) {
+			channelOutput.put(i);
+			channelOutput.put("value" + i);
+			channelOutput.putUtf8("ação" + i);
+		}
+
+		channelOutput.putUtf8("x".repeat(40));
+		channelOutput.close();
+
+		ChannelInput channelInput = ChannelFactory.inputOf(new ByteArrayInputStream(outputStream.toByteArray()), 16);
+
+		for (int i = 0; i < 100; i++) {
+			assertEquals(i, channelInput.getInt());
+			assertEquals("value" + i, channelInput.getString());
+			assertEquals("ação" + i, channelInput.getUtf8());
+		}
+
+		assertEquals("x".repeat(40), channelInput.getUtf8());
+		assertFalse(channelInput.isClosed());
+		assertTrue(channelInput.isEmpty());
+	}
+}
@@ -0,0 +1,155 @@
+package org.diverproject.scarlet.stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.diverproject.scarlet.stream.buffer.BufferFactory;
+import org.diverproject.scarlet.stream.buffer.DefaultBufferInput;
+import org.diverproject.scarlet.stream.buffer.DefaultBufferOutput;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Adler32;
+import java.util.zip.CRC32C;
+
+@DisplayName("Checksum")
+public class TestChecksum {
+
+	@Test
+	@DisplayName("Framing sections with a checksum")
+	public void testSections() {
+		DefaultBufferOutput bufferOutput = (DefaultBufferOutput) BufferFactory.dynamicOutputOf(16);
+		ChecksumOutput checksumOutput = new ChecksumOutput(new ChecksumWriter(bufferOutput.getBufferWriter()));
+		checksumOutput.put(0x01020304);
+		checksumOutput.put("abc");
+		checksumOutput.putUtf8("ação");
+		checksumOutput.put(new byte[] {5, 6, 7});
+		checksumOutput.putChecksum();
+		checksumOutput.put(8L);
+		checksumOutput.put((short) 9);
+		checksumOutput.putChecksum();
+
+		byte[] data = bufferOutput.flush();
+		CRC32C crc32c = new CRC32C();
+		crc32c.update(data, 0, 18);
+		assertEquals((int) crc32c.getValue(), StreamUtil.intOf(data[18], data[19], data[20], data[21]));
+		crc32c.reset();
+		crc32c.update(data, 22, 10);
+		assertEquals((int) crc32c.getValue(), StreamUtil.intOf(data[32], data[33], data[34], data[35]));
+
+		DefaultBufferInput bufferInput = (DefaultBufferInput) BufferFactory.inputOf(data);
+		ChecksumInput checksumInput = new ChecksumInput(new ChecksumReader(bufferInput.getBufferReader()));
+		assertEquals(0x01020304, checksumInput.getInt());
+		assertEquals("abc", checksumInput.getString());
+		assertEquals("ação", checksumInput.getUtf8());
+		assertArrayEquals(new byte[] {5, 6, 7}, checksumInput.getBytes(3));
+		checksumInput.verifyChecksum();
+		assertEquals(8L, checksumInput.getLong());
+		assertEquals(9, checksumInput.getShort());
+		checksumInput.verifyChecksum();
+
+		data[25]++;
+		ChecksumInput corruptedInput = new ChecksumInput(new ChecksumReader(((DefaultBufferInput) BufferFactory.inputOf(data)).getBufferReader(), new Adler32()));
+		corruptedInput.getBytes(18);
+		assertThrows(StreamRuntimeException.class, corruptedInput::verifyChecksum);
+		assertThrows(StreamRuntimeException.class, () -> BufferFactory.inputOf(data).verifyChecksum());
+		assertThrows(StreamRuntimeException.class, () -> BufferFactory.outputOf(4).putChecksum());
+	}
+
+	@Test
+	@DisplayName("Inverted sections and objects")
+	public void testInverted() {
+		DefaultBufferOutput bufferOutput = (DefaultBufferOutput) BufferFactory.dynamicOutputOf(16);
+		ChecksumOutput checksumOutput = new ChecksumOutput(new ChecksumWriter(bufferOutput.getBufferWriter(), new XxHash32()));
+		checksumOutput.invert();
+		checksumOutput.put(new int[] {1, 2, 3});
+		checksumOutput.putVarLong(1L << 40);
+		checksumOutput.put(new double[] {0.5, 1.5});
+		checksumOutput.putChecksum();
+
+		DefaultBufferInput bufferInput = (DefaultBufferInput) BufferFactory.inputOf(bufferOutput.flush());
+		ChecksumInput checksumInput = new ChecksumInput(new ChecksumReader(bufferInput.getBufferReader(), new XxHash32()));
+		checksumInput.invert();
+		assertArrayEquals(new int[] {1, 2, 3}, checksumInput.getInts(3));
+		assertEquals(1L << 40, checksumInput.getVarLong());
+		assertArrayEquals(new double[] {0.5, 1.5}, checksumInput.getDoubles(2));
+		checksumInput.verifyChecksum();
+	}
+
+	@Test
+	@DisplayName("Inverted checksum over the emitted bytes")
+	public void testInvertedBytes() {
+		DefaultBufferOutput bufferOutput = (DefaultBufferOutput) BufferFactory.dynamicOutputOf(16);
+		ChecksumOutput checksumOutput = new ChecksumOutput(new ChecksumWriter(bufferOutput.getBufferWriter()));
+		checksumOutput.invert();
+		checksumOutput.put((short) 0x0102);
+		checksumOutput.put(0x03040506);
+		checksumOutput.put(0x0708090A0B0C0D0EL);
+		checksumOutput.put(new byte[] {1, 2, 3});
+		checksumOutput.putChecksum();
+		checksumOutput.putUtf8("ação".repeat(40));
+		checksumOutput.putUtf8("abc");
+		checksumOutput.putChecksum();
+
+		byte[] data = bufferOutput.flush();
+		CRC32C crc32c = new CRC32C();
+		crc32c.update(data, 0, 17);
+		assertEquals((int) crc32c.getValue(), StreamUtil.intOf(data[20], data[19], data[18], data[17]));
+		crc32c.reset();
+		crc32c.update(data, 21, 246);
+		assertEquals((int) crc32c.getValue(), StreamUtil.intOf(data[270], data[269], data[268], data[267]));
+		assertEquals("ação".repeat(40), new String(data, 23, 240, StandardCharsets.UTF_8));
+
+		DefaultBufferInput bufferInput = (DefaultBufferInput) BufferFactory.inputOf(data);
+		ChecksumInput checksumInput = new ChecksumInput(new ChecksumReader(bufferInput.getBufferReader()));
+		checksumInput.invert();
+		assertEquals(0x0102, checksumInput.getShort());
+		assertEquals(0x03040506, checksumInput.getInt());
+		assertEquals(0x0708090A0B0C0D0EL, checksumInput.getLong());
+		assertArrayEquals(new byte[] {1, 2, 3}, checksumInput.getBytes(3));
+		checksumInput.verifyChecksum();
+		assertEquals("ação".repeat(40), checksumInput.getUtf8());
+		assertEquals("abc", checksumInput.getUtf8());
+		checksumInput.verifyChecksum();
+
+		data[30]++;
+		checksumInput = new ChecksumInput(new ChecksumReader(((DefaultBufferInput) BufferFactory.inputOf(data)).getBufferReader()));
+		checksumInput.invert();
+		checksumInput.getBytes(21);
+		checksumInput.getUtf8();
+		checksumInput.getUtf8();
+		assertThrows(StreamRuntimeException.class, checksumInput::verifyChecksum);
+	}
+
+	@Test
+	@DisplayName("XxHash32 reference values")
+	public void testXxHash32() {
+		assertEquals(0x02CC5D05L, xxHash32(""));
+		assertEquals(0x32D153FFL, xxHash32("abc"));
+		assertEquals(0xE2293B2FL, xxHash32("Nobody inspects the spammish repetition"));
+
+		byte[] bytes = "Nobody inspects the spammish repetition".getBytes(StandardCharsets.US_ASCII);
+		XxHash32 xxHash32 = new XxHash32();
+
+		for (int i = 0; i < bytes.length; i += 5)
+			xxHash32.update(bytes, i, Math.min(5, bytes.length - i));
+
+		assertEquals(0xE2293B2FL, xxHash32.getValue());
+
+		xxHash32.reset();
+		for (byte b : bytes)
+			xxHash32.update(b);
+
+		assertEquals(0xE2293B2FL, xxHash32.getValue());
+	}
+
+	private static long xxHash32(String value) {
+		byte[] bytes = value.getBytes(StandardCharsets.US_ASCII);
+		XxHash32 xxHash32 = new XxHash32();
+		xxHash32.update(bytes, 0, bytes.length);
+
+		return xxHash32.getValue();
+	}
+}
@@ -0,0 +1,152 @@
+package org.diverproject.scarlet.stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.diverproject.scarlet.stream.buffer.BufferFactory;
+import org.diverproject.scarlet.stream.buffer.BufferInput;
+import org.diverproject.scarlet.stream.buffer.BufferOutput;
+import org.diverproject.scarlet.stream.buffer.BufferRuntimeException;
+import org.diverproject.scarlet.stream.buffer.CompositeBufferWriter;
+import org.diverproject.scarlet.stream.buffer.CompositeByteBuffer;
+import org.diverproject.scarlet.stream.buffer.DefaultBufferOutput;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+@DisplayName("Composite Buffer")
+public class TestCompositeBuffer {
+
+	@Test
+	@DisplayName("Reading across segments")
+	public void testInput() {
+		byte[] first = new byte[] {0x01, 0x02, 0x03};
+		byte[] second = new byte[] {0x04, 0x05, 0x06, 0x07, 0x08};
+		byte[] third = new byte[] {0x09, 0x0A, 0x0B, 0x0C, 0x0D, 0x0E, 0x0F, 0x10};
+
+		BufferInput bufferInput = BufferFactory.compositeInputOf(first, new byte[0], second, third);
+		assertEquals(16, bufferInput.capacity());
+		assertEquals(0x01, bufferInput.getByte());
+		assertEquals(0x02030405, bufferInput.getInt());
+		assertEquals(0x060708090A0B0C0DL, bufferInput.getLong());
+		assertArrayEquals(new byte[] {0x0E, 0x0F, 0x10}, bufferInput.getBytes(3));
+		assertTrue(bufferInput.isEmpty());
+		assertThrows(BufferRuntimeException.class, bufferInput::getByte);
+
+		bufferInput.reset();
+		bufferInput.invert();
+		assertEquals(0x0201, bufferInput.getShort());
+		assertEquals(0x06050403, bufferInput.getInt());
+	}
+
+	@Test
+	@DisplayName("Writing into appended segments")
+	public void testOutput() {
+		BufferOutput bufferOutput = BufferFactory.compositeOutputOf(8);
+		bufferOutput.put((byte) 0x01);
+		bufferOutput.put(0x02030405);
+		bufferOutput.put(0x060708090A0B0C0DL);
+		bufferOutput.put(new byte[] {0x0E, 0x0F, 0x10});
+
+		CompositeByteBuffer byteBuffer = (CompositeByteBuffer) bufferOutput.getByteBuffer();
+		assertEquals(16, bufferOutput.offset());
+		assertEquals(2, byteBuffer.segments());
+
+		byte[] expected = new byte[16];
+		for (int i = 0; i < expected.length; i++)
+			expected[i] = (byte) (i + 1);
+
+		assertArrayEquals(expected, bufferOutput.flush());
+		assertEquals(0, bufferOutput.offset());
+	}
+
+	@Test
+	@DisplayName("Appending segments without copying")
+	public void testAdd() {
+		byte[] body = new byte[] {0x05, 0x06, 0x07};
+		DefaultBufferOutput bufferOutput = (DefaultBufferOutput) BufferFactory.compositeOutputOf(16);
+		bufferOutput.put(body.length);
+
+		CompositeBufferWriter bufferWriter = (CompositeBufferWriter) bufferOutput.getBufferWriter();
+		bufferWriter.add(body);
+		bufferOutput.put((byte) 0x08);
+		assertEquals(8, bufferOutput.offset());
+
+		CompositeByteBuffer byteBuffer = bufferWriter.getByteBuffer();
+		assertEquals(3, byteBuffer.segments());
+
+		body[0] = 0x09;
+		assertEquals(0x09, byteBuffer.get(4));
+
+		java.nio.ByteBuffer[] buffers = byteBuffer.nioBuffers(2, 4);
+		assertEquals(2, buffers.length);
+		assertEquals(2, buffers[0].remaining());
+		assertEquals(2, buffers[1].remaining());
+		assertEquals(0x06, buffers[1].get(buffers[1].position() + 1));
+	}
+
+	@Test
+	@DisplayName("Flushing leaves appended segments untouched")
+	public void testAddFlush() {
+		byte[] body = new byte[] {0x05, 0x06, 0x07};
+		DefaultBufferOutput bufferOutput = (DefaultBufferOutput) BufferFactory.compositeOutputOf(16);
+		bufferOutput.put((byte) 0x03);
+
+		CompositeBufferWriter bufferWriter = (CompositeBufferWriter) bufferOutput.getBufferWriter();
+		bufferWriter.add(body);
+		assertArrayEquals(new byte[] {0x03, 0x05, 0x06, 0x07}, bufferOutput.flush());
+		assertArrayEquals(new byte[] {0x05, 0x06, 0x07}, body);
+
+		bufferOutput.put(0x55667788);
+		bufferOutput.put((short) 0x1122);
+		bufferOutput.put((byte) 0x33);
+		assertArrayEquals(new byte[] {0x05, 0x06, 0x07}, body);
+		assertArrayEquals(new byte[] {0x55, 0x66, 0x77, (byte) 0x88, 0x11, 0x22, 0x33}, bufferOutput.flush());
+
+		bufferOutput.put((byte) 0x01);
+		bufferWriter.add(body);
+		assertEquals(4, bufferOutput.flushView().remaining());
+		bufferOutput.put((byte) 0x02);
+		assertEquals(1, bufferOutput.flushView().remaining());
+		bufferOutput.put(new byte[] {0x09, 0x09, 0x09, 0x09});
+		assertEquals(4, bufferOutput.flushView().remaining());
+		bufferOutput.put(new byte[] {0x09, 0x09, 0x09, 0x09});
+		assertArrayEquals(new byte[] {0x05, 0x06, 0x07}, body);
+
+		CompositeBufferWriter fixedWriter = new CompositeBufferWriter().setByteBuffer(new CompositeByteBuffer(new byte[4]));
+		fixedWriter.writeInt(0x01020304);
+		fixedWriter.add(body);
+		fixedWriter.reset();
+		assertEquals(7, fixedWriter.capacity());
+		fixedWriter.write(new byte[7]);
+		assertArrayEquals(new byte[] {0x05, 0x06, 0x07}, body);
+	}
+
+	@Test
+	@DisplayName("Gathering write into a channel")
+	public void testWriteTo(@TempDir Path directory) throws IOException {
+		CompositeByteBuffer byteBuffer = new CompositeByteBuffer(new byte[] {1, 2}, new byte[] {3, 4, 5})
+			.add(java.nio.ByteBuffer.allocateDirect(2).put((byte) 6).put((byte) 7).flip());
+
+		Path path = directory.resolve("composite.bin");
+
+		try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+			assertEquals(7, byteBuffer.writeTo(fileChannel));
+			assertEquals(3, byteBuffer.writeTo(fileChannel, 1, 3));
+		}
+
+		assertArrayEquals(new byte[] {1, 2, 3, 4, 5, 6, 7, 2, 3, 4}, Files.readAllBytes(path));
+		assertFalse(byteBuffer.hasArray());
+		assertEquals(0x0304, byteBuffer.view(2, 2).getShort());
+		assertEquals(0x02030405, byteBuffer.view(1, 4).getInt());
+	}
+}
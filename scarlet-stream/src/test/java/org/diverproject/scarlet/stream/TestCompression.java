@@ -0,0 +1,137 @@
+package org.diverproject.scarlet.stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.diverproject.scarlet.stream.buffer.BufferFactory;
+import org.diverproject.scarlet.stream.buffer.DefaultBufferInput;
+import org.diverproject.scarlet.stream.buffer.DefaultBufferOutput;
+import org.diverproject.scarlet.stream.compression.BlockCodec;
+import org.diverproject.scarlet.stream.compression.CompressedInput;
+import org.diverproject.scarlet.stream.compression.CompressedOutput;
+import org.diverproject.scarlet.stream.compression.CompressionFactory;
+import org.diverproject.scarlet.stream.compression.CompressionRuntimeException;
+import org.diverproject.scarlet.stream.compression.DeflateCodec;
+import org.diverproject.scarlet.stream.compression.Lz4Codec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+@DisplayName("Compression")
+public class TestCompression {
+
+	@Test
+	@DisplayName("Round trip through deflate blocks")
+	public void testDeflate() {
+		this.testRoundTrip(new DeflateCodec(), new DeflateCodec());
+	}
+
+	@Test
+	@DisplayName("Round trip through lz4 blocks")
+	public void testLz4() {
+		this.testRoundTrip(new Lz4Codec(), new Lz4Codec());
+	}
+
+	@Test
+	@DisplayName("Lz4 codec on repetitive, random and malformed blocks")
+	public void testLz4Codec() {
+		Lz4Codec lz4Codec = new Lz4Codec();
+		Random random = new Random(7);
+		byte[] repetitive = new byte[4096];
+		byte[] noise = new byte[4096];
+		random.nextBytes(noise);
+
+		for (int i = 0; i < repetitive.length; i++)
+			repetitive[i] = (byte) (i % 300 < 200 ? i % 7 : noise[i % 50]);
+
+		for (byte[] source : new byte[][] {repetitive, noise, new byte[0], new byte[] {1, 2, 3}, new byte[1000]}) {
+			byte[] compressed = new byte[lz4Codec.maxCompressedLength(source.length)];
+			int length = lz4Codec.compress(source, source.length, compressed);
+			byte[] decompressed = new byte[source.length];
+			lz4Codec.decompress(compressed, length, decompressed, source.length);
+			assertArrayEquals(source, decompressed);
+		}
+
+		byte[] compressed = new byte[lz4Codec.maxCompressedLength(repetitive.length)];
+		int length = lz4Codec.compress(repetitive, repetitive.length, compressed);
+		assertTrue(length < repetitive.length / 4);
+		assertThrows(CompressionRuntimeException.class, () -> lz4Codec.decompress(compressed, length - 1, new byte[repetitive.length], repetitive.length));
+		assertThrows(CompressionRuntimeException.class, () -> lz4Codec.decompress(compressed, length, new byte[repetitive.length], repetitive.length - 1));
+	}
+
+	@Test
+	@DisplayName("Corrupt utf8 length inside a block")
+	public void testUtf8Length() {
+		DefaultBufferOutput bufferOutput = (DefaultBufferOutput) BufferFactory.dynamicOutputOf(64);
+		CompressedOutput compressedOutput = CompressionFactory.outputOf(bufferOutput.getBufferWriter());
+		compressedOutput.putVarInt(-1);
+		compressedOutput.putVarInt(Integer.MAX_VALUE);
+		compressedOutput.putUtf8("x".repeat(100));
+		compressedOutput.putUtf8("abc");
+		compressedOutput.finish();
+
+		byte[] data = bufferOutput.flush();
+		CompressedInput compressedInput = CompressionFactory.inputOf(((DefaultBufferInput) BufferFactory.inputOf(data)).getBufferReader());
+		assertThrows(CompressionRuntimeException.class, compressedInput::getUtf8);
+		assertEquals(5, compressedInput.offset());
+		assertThrows(CompressionRuntimeException.class, compressedInput::getUtf8);
+		assertEquals(10, compressedInput.offset());
+
+		compressedInput = CompressionFactory.inputOf(((DefaultBufferInput) BufferFactory.inputOf(data)).getBufferReader(), new DeflateCodec(), 64);
+		compressedInput.getVarInt();
+		compressedInput.getVarInt();
+		assertThrows(CompressionRuntimeException.class, compressedInput::getUtf8);
+		assertEquals(11, compressedInput.offset());
+		assertThrows(CompressionRuntimeException.class, () -> CompressionFactory.inputOf(null, new DeflateCodec(), 0));
+	}
+
+	private void testRoundTrip(BlockCodec compressor, BlockCodec decompressor) {
+		DefaultBufferOutput bufferOutput = (DefaultBufferOutput) BufferFactory.dynamicOutputOf(64);
+		CompressedOutput compressedOutput = CompressionFactory.outputOf(bufferOutput.getBufferWriter(), compressor, 256);
+		byte[] noise = new byte[1000];
+		new Random(3).nextBytes(noise);
+
+		for (int i = 0; i < 500; i++) {
+			compressedOutput.put(i);
+			compressedOutput.put((short) i);
+			compressedOutput.putUtf8("record ação " + i % 10);
+			compressedOutput.putVarLong(i * 1000L);
+		}
+
+		compressedOutput.invert();
+		compressedOutput.put(new long[] {1L, 2L, 3L});
+		compressedOutput.put(noise);
+		compressedOutput.invert();
+		compressedOutput.putUtf8("x".repeat(600));
+		compressedOutput.finish();
+
+		int length = compressedOutput.offset();
+		byte[] data = bufferOutput.flush();
+		assertTrue(data.length < length * 2 / 3);
+		assertThrows(CompressionRuntimeException.class, () -> compressedOutput.put(0));
+
+		CompressedInput compressedInput = CompressionFactory.inputOf(((DefaultBufferInput) BufferFactory.inputOf(data)).getBufferReader(), decompressor);
+
+		for (int i = 0; i < 500; i++) {
+			assertFalse(compressedInput.isEmpty());
+			assertEquals(i, compressedInput.getInt());
+			assertEquals((short) i, compressedInput.getShort());
+			assertEquals("record ação " + i % 10, compressedInput.getUtf8());
+			assertEquals(i * 1000L, compressedInput.getVarLong());
+		}
+
+		compressedInput.invert();
+		assertArrayEquals(new long[] {1L, 2L, 3L}, compressedInput.getLongs(3));
+		assertArrayEquals(noise, compressedInput.getBytes(noise.length));
+		compressedInput.invert();
+		assertEquals("x".repeat(600), compressedInput.getUtf8());
+		assertEquals(length, compressedInput.offset());
+		assertTrue(compressedInput.isEmpty());
+		assertThrows(CompressionRuntimeException.class, compressedInput::getByte);
+		assertThrows(CompressionRuntimeException.class, () -> CompressionFactory.outputOf(bufferOutput.getBufferWriter(), compressor, 16));
+	}
+}
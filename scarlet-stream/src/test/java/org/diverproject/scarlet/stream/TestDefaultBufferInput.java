@@ -3,6 +3,7 @@ package org.diverproject.scarlet.stream;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -10,6 +11,8 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.experimental.Accessors;
+import org.diverproject.scarlet.stream.buffer.BufferFactory;
+import org.diverproject.scarlet.stream.buffer.BufferOutput;
 import org.diverproject.scarlet.stream.buffer.BufferRuntimeException;
 import org.diverproject.scarlet.stream.buffer.DefaultBufferInput;
 import org.diverproject.scarlet.stream.buffer.DefaultBufferReader;
@@ -18,6 +21,8 @@ import org.diverproject.scarlet.util.ArrayUtils;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+
 @DisplayName("Default Buffer Input")
 public class TestDefaultBufferInput {
 
@@ -127,6 +132,58 @@ public class TestDefaultBufferInput {
 		assertTrue(defaultBufferInput.isClosed());
 	}
 
+	@Test
+	@DisplayName("Position, mark and rewind")
+	public void testPosition() {
+		DefaultBufferInput defaultBufferInput = this.getDefaultBufferInput(BYTES);
+		defaultBufferInput.position(4);
+		assertEquals(BYTES[4], defaultBufferInput.getByte());
+		defaultBufferInput.mark();
+		assertEquals(0x05060708, defaultBufferInput.getInt());
+		defaultBufferInput.rewind();
+		assertEquals(5, defaultBufferInput.offset());
+		assertEquals(0x0506, defaultBufferInput.getShort());
+		defaultBufferInput.position(BYTES.length);
+		assertTrue(defaultBufferInput.isEmpty());
+		assertThrows(BufferRuntimeException.class, () -> defaultBufferInput.position(-1));
+		assertThrows(BufferRuntimeException.class, () -> defaultBufferInput.position(BYTES.length + 1));
+		defaultBufferInput.reset();
+		defaultBufferInput.rewind();
+		assertEquals(0, defaultBufferInput.offset());
+	}
+
+	@Test
+	@DisplayName("Peek and absolute reads")
+	public void testPeek() {
+		DefaultBufferInput defaultBufferInput = this.getDefaultBufferInput(BYTES);
+		assertEquals(0x00, defaultBufferInput.peekByte());
+		assertEquals(0x0001, defaultBufferInput.peekShort());
+		assertEquals(0x00010203, defaultBufferInput.peekInt());
+		assertEquals(0x0001020304050607L, defaultBufferInput.peekLong());
+		assertEquals(0, defaultBufferInput.offset());
+
+		defaultBufferInput.position(3);
+		assertEquals(BYTES[9], defaultBufferInput.getByteAt(9));
+		assertEquals(0x0102, defaultBufferInput.getShortAt(1));
+		assertEquals(0x06070809, defaultBufferInput.getIntAt(6));
+		assertEquals(0x0203040506070809L, defaultBufferInput.getLongAt(2));
+		assertEquals(3, defaultBufferInput.offset());
+
+		assertThrows(BufferRuntimeException.class, () -> defaultBufferInput.getIntAt(7));
+		assertThrows(BufferRuntimeException.class, () -> defaultBufferInput.getByteAt(BYTES.length + 1));
+		assertEquals(3, defaultBufferInput.offset());
+
+		defaultBufferInput.position(8);
+		assertThrows(BufferRuntimeException.class, defaultBufferInput::peekInt);
+		assertEquals(0x0809, defaultBufferInput.peekShort());
+		assertEquals(8, defaultBufferInput.offset());
+
+		defaultBufferInput.invert();
+		assertEquals(0x0908, defaultBufferInput.peekShort());
+		assertEquals(0x03020100, defaultBufferInput.getIntAt(0));
+		assertEquals(8, defaultBufferInput.position());
+	}
+
 	@Test
 	@DisplayName("Get byte")
 	public void testGetByte() {
@@ -581,6 +638,76 @@ public class TestDefaultBufferInput {
 		assertEquals(someObjects[3].getSomeObject().getStringValue(), someObject4.getSomeObject().getStringValue());
 	}
 
+	@Test
+	@DisplayName("Get varint")
+	public void testGetVarInt() {
+		DefaultBufferInput defaultBufferInput = this.getDefaultBufferInput(
+			(byte) 0x00, (byte) 0xAC, (byte) 0x02, (byte) 0x03, (byte) 0x01, (byte) 0x80
+		);
+		assertEquals(0, defaultBufferInput.getVarInt());
+		assertEquals(300, defaultBufferInput.getVarInt());
+		assertEquals(-2, defaultBufferInput.getZigZagInt());
+		assertEquals(1L, defaultBufferInput.getVarLong());
+		assertThrows(BufferRuntimeException.class, defaultBufferInput::getVarInt);
+		assertEquals(5, defaultBufferInput.offset());
+
+		byte[] malformed = new byte[11];
+		Arrays.fill(malformed, (byte) 0x80);
+		assertThrows(StreamRuntimeException.class, () -> this.getDefaultBufferInput(malformed).getVarInt());
+		assertThrows(StreamRuntimeException.class, () -> this.getDefaultBufferInput(malformed).getVarLong());
+
+		BufferOutput bufferOutput = BufferFactory.dynamicOutputOf(4);
+		bufferOutput.putVarInt(Integer.MIN_VALUE);
+		bufferOutput.putVarLong(Long.MAX_VALUE);
+		bufferOutput.putZigZagInt(-64);
+		bufferOutput.putZigZagLong(Long.MIN_VALUE);
+		assertEquals(5 + 9 + 1 + 10, bufferOutput.offset());
+
+		defaultBufferInput = this.getDefaultBufferInput(bufferOutput.flush());
+		assertEquals(Integer.MIN_VALUE, defaultBufferInput.getVarInt());
+		assertEquals(Long.MAX_VALUE, defaultBufferInput.getVarLong());
+		assertEquals(-64, defaultBufferInput.getZigZagInt());
+		assertEquals(Long.MIN_VALUE, defaultBufferInput.getZigZagLong());
+		assertTrue(defaultBufferInput.isEmpty());
+	}
+
+	@Test
+	@DisplayName("Get utf8")
+	public void testGetUtf8() {
+		String longValue = "ação ".repeat(100);
+		BufferOutput bufferOutput = BufferFactory.dynamicOutputOf(4);
+		bufferOutput.putUtf8("key");
+		bufferOutput.putUtf8(longValue);
+		bufferOutput.putUtf8(null);
+		bufferOutput.putUtf8("key");
+		assertEquals(1 + 3 + 2 + 700 + 1 + 1 + 3, bufferOutput.offset());
+
+		StringCache stringCache = new StringCache(4, 8);
+		DefaultBufferInput defaultBufferInput = this.getDefaultBufferInput(bufferOutput.flush());
+		String key = defaultBufferInput.getUtf8(stringCache);
+		assertEquals("key", key);
+		assertEquals(longValue, defaultBufferInput.getUtf8(stringCache));
+		assertEquals("", defaultBufferInput.getUtf8());
+		assertSame(key, defaultBufferInput.getUtf8(stringCache));
+		assertTrue(defaultBufferInput.isEmpty());
+		assertThrows(StreamRuntimeException.class, () -> BufferFactory.outputOf(4).put(longValue));
+	}
+
+	@Test
+	@DisplayName("Get utf8 with a corrupt length")
+	public void testGetUtf8Length() {
+		byte[] negative = new byte[] {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F, 0x61, 0x62};
+		byte[] huge = new byte[] {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07, 0x61, 0x62};
+		byte[] truncated = new byte[] {0x03, 0x61, 0x62};
+
+		for (byte[] data : new byte[][] {negative, huge, truncated}) {
+			DefaultBufferInput defaultBufferInput = this.getDefaultBufferInput(data);
+			assertThrows(BufferRuntimeException.class, defaultBufferInput::getUtf8);
+			assertThrows(StreamRuntimeException.class, () -> BufferFactory.compositeInputOf(data).getUtf8());
+			assertThrows(StreamRuntimeException.class, () -> BufferFactory.inputOf(java.nio.ByteBuffer.wrap(data)).getUtf8());
+		}
+	}
+
 	private byte[] getSomeObjectData(SomeObject... someObjects) {
 		byte[][] someObjectsData = new byte[someObjects.length][];
 
@@ -6,16 +6,25 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import org.diverproject.scarlet.stream.buffer.BufferFactory;
 import org.diverproject.scarlet.stream.buffer.BufferRuntimeException;
 import org.diverproject.scarlet.stream.buffer.DefaultBufferOutput;
 import org.diverproject.scarlet.stream.buffer.DefaultBufferWriter;
 import org.diverproject.scarlet.stream.buffer.DefaultByteBuffer;
 import org.diverproject.scarlet.util.ArrayUtils;
+import org.diverproject.scarlet.util.Bitwise;
+import org.diverproject.scarlet.util.Bitwise16;
+import org.diverproject.scarlet.util.Bitwise64;
+import org.diverproject.scarlet.util.Bitwise8;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+
 @DisplayName("Default Buffer Output")
 public class TestDefaultBufferOutput {
 
@@ -42,6 +51,70 @@ public class TestDefaultBufferOutput {
 		assertTrue(defaultBufferOutput.isEmpty());
 	}
 
+	@Test
+	@DisplayName("Flush buffer view")
+	public void testFlushView() {
+		DefaultBufferOutput defaultBufferOutput = getDefaultBufferOutput(new byte[BYTES.length]);
+		byte[] first = defaultBufferOutput.getByteBuffer().data();
+		assertEquals(0, defaultBufferOutput.flushView().remaining());
+
+		defaultBufferOutput.put(ArrayUtils.subArray(BYTES, 0, 4));
+		ByteBuffer view = defaultBufferOutput.flushView();
+		assertTrue(view.isReadOnly());
+		assertEquals(4, view.remaining());
+		assertEquals(0, defaultBufferOutput.offset());
+		assertEquals(BYTES.length, defaultBufferOutput.capacity());
+
+		defaultBufferOutput.put(ArrayUtils.subArray(BYTES, 4, 6));
+		byte[] bytes = new byte[4];
+		view.get(bytes);
+		assertArrayEquals(ArrayUtils.subArray(BYTES, 0, 4), bytes);
+
+		view = defaultBufferOutput.flushView();
+		bytes = new byte[6];
+		view.get(bytes);
+		assertArrayEquals(ArrayUtils.subArray(BYTES, 4, 6), bytes);
+		assertSame(first, defaultBufferOutput.getByteBuffer().data());
+	}
+
+	@Test
+	@DisplayName("Flush buffer view keeps the growth limit")
+	public void testFlushViewLimit() {
+		DefaultBufferOutput defaultBufferOutput = (DefaultBufferOutput) BufferFactory.dynamicOutputOf(4, 16);
+
+		for (int i = 0; i < 3; i++) {
+			defaultBufferOutput.put(new byte[16]);
+			assertThrows(BufferRuntimeException.class, () -> defaultBufferOutput.put((byte) 0));
+			assertEquals(16, defaultBufferOutput.flushView().remaining());
+		}
+
+		defaultBufferOutput.put(new byte[8]);
+		assertThrows(BufferRuntimeException.class, () -> defaultBufferOutput.put(new byte[9]));
+	}
+
+	@Test
+	@DisplayName("Dynamic buffer")
+	public void testDynamic() {
+		DefaultBufferOutput defaultBufferOutput = (DefaultBufferOutput) BufferFactory.dynamicOutputOf(2, 16);
+		assertTrue(defaultBufferOutput.isDynamic());
+		assertEquals(Integer.MAX_VALUE, defaultBufferOutput.capacity());
+
+		defaultBufferOutput.put((byte) 0x01);
+		defaultBufferOutput.put(0x02030405);
+		assertEquals(5, defaultBufferOutput.offset());
+		assertEquals(5, defaultBufferOutput.getByteBuffer().data().length);
+
+		defaultBufferOutput.put(BYTES);
+		assertEquals(15, defaultBufferOutput.offset());
+		assertEquals(15, defaultBufferOutput.getByteBuffer().data().length);
+		assertThrows(BufferRuntimeException.class, () -> defaultBufferOutput.put(0x00));
+
+		byte[] flushed = defaultBufferOutput.flush();
+		assertArrayEquals(new byte[]{1, 2, 3, 4, 5, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9}, flushed);
+		assertEquals(0, defaultBufferOutput.offset());
+		assertTrue(defaultBufferOutput.isDynamic());
+	}
+
 	@Test
 	@DisplayName("Buffer is closed")
 	public void testIsClosed() {
@@ -218,6 +291,47 @@ public class TestDefaultBufferOutput {
 		assertArrayEquals(bytes(zero, one), defaultBufferOutput.getByteBuffer().data());
 	}
 
+	@Test
+	@DisplayName("Put packed bits")
+	public void testPutBits() {
+		boolean[] flags = new boolean[70];
+		flags[0] = true;
+		flags[9] = true;
+		flags[63] = true;
+		flags[64] = true;
+		flags[69] = true;
+
+		DefaultBufferOutput defaultBufferOutput = getDefaultBufferOutput(new byte[9]);
+		defaultBufferOutput.putBits(flags);
+		assertArrayEquals(bytes((byte) 0x01, (byte) 0x02, zero(), zero(), zero(), zero(), zero(), (byte) 0x80, (byte) 0x21), defaultBufferOutput.getByteBuffer().data());
+		assertArrayEquals(flags, BufferFactory.inputOf(defaultBufferOutput.getByteBuffer().data()).getBits(flags.length));
+
+		defaultBufferOutput = getDefaultBufferOutput(new byte[9]);
+		defaultBufferOutput.invert();
+		defaultBufferOutput.putBits(flags);
+		assertArrayEquals(bytes((byte) 0x01, (byte) 0x02, zero(), zero(), zero(), zero(), zero(), (byte) 0x80, (byte) 0x21), defaultBufferOutput.getByteBuffer().data());
+
+		BitSet bitSet = new BitSet();
+		bitSet.set(3);
+		bitSet.set(130);
+
+		defaultBufferOutput = getDefaultBufferOutput(new byte[20]);
+		defaultBufferOutput.putBits(bitSet);
+		assertEquals(2 + 17, defaultBufferOutput.offset());
+		assertEquals(bitSet, BufferFactory.inputOf(defaultBufferOutput.getByteBuffer().data()).getBitSet());
+
+		defaultBufferOutput = getDefaultBufferOutput(new byte[15]);
+		defaultBufferOutput.put(new Bitwise(0x01020304));
+		defaultBufferOutput.put(new Bitwise8((byte) 0x05));
+		defaultBufferOutput.put(new Bitwise16((short) 0x0607));
+		defaultBufferOutput.put((Bitwise64) null);
+		assertArrayEquals(bytes((byte) 1, (byte) 2, (byte) 3, (byte) 4, (byte) 5, (byte) 6, (byte) 7, zero(), zero(), zero(), zero(), zero(), zero(), zero(), zero()), defaultBufferOutput.getByteBuffer().data());
+	}
+
+	private byte zero() {
+		return 0x00;
+	}
+
 	private byte[] bytes(byte... bytes) {
 		return bytes;
 	}
@@ -41,6 +41,43 @@ public class TestDefaultBufferReader {
 		assertThrows(BufferRuntimeException.class, () -> finalDefaultBufferReader.read(5));
 	}
 
+	@Test
+	@DisplayName("Reading into a byte array range")
+	public void testReadByteArrayRange() {
+		byte[] bytes = new byte[8];
+		DefaultBufferReader defaultBufferReader = getDefaultBufferReader();
+		defaultBufferReader.read(bytes, 2, 4);
+		assertArrayEquals(new byte[] {0, 0, 0, 1, 2, 3, 0, 0}, bytes);
+		assertEquals(4, defaultBufferReader.offset());
+
+		defaultBufferReader.invert();
+		defaultBufferReader.read(bytes, 0, 3);
+		assertArrayEquals(new byte[] {6, 5, 4, 1, 2, 3, 0, 0}, bytes);
+		assertEquals(7, defaultBufferReader.offset());
+
+		assertThrows(BufferRuntimeException.class, () -> defaultBufferReader.read(bytes, 0, 4));
+		assertThrows(IndexOutOfBoundsException.class, () -> defaultBufferReader.read(bytes, 6, 3));
+		assertEquals(7, defaultBufferReader.offset());
+	}
+
+	@Test
+	@DisplayName("Reading primitives")
+	public void testReadPrimitives() {
+		DefaultBufferReader defaultBufferReader = getDefaultBufferReader();
+		assertEquals(0x0001, defaultBufferReader.readShort());
+		assertEquals(0x02030405, defaultBufferReader.readInt());
+		assertEquals(6, defaultBufferReader.offset());
+
+		defaultBufferReader.invert();
+		assertEquals(0x0706, defaultBufferReader.readShort());
+		assertThrows(BufferRuntimeException.class, defaultBufferReader::readInt);
+		assertEquals(8, defaultBufferReader.offset());
+
+		defaultBufferReader.reset();
+		assertEquals(0x0706050403020100L, defaultBufferReader.readLong());
+		assertThrows(BufferRuntimeException.class, defaultBufferReader::readLong);
+	}
+
 	@Test
 	@DisplayName("Reset buffer")
 	public void testReset() {
@@ -4,7 +4,9 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import org.diverproject.scarlet.stream.buffer.BufferRuntimeException;
 import org.diverproject.scarlet.stream.buffer.DefaultBufferWriter;
 import org.diverproject.scarlet.stream.buffer.DefaultByteBuffer;
 import org.diverproject.scarlet.util.ArrayUtils;
@@ -96,6 +98,46 @@ public class TestDefaultBufferWriter {
 		assertArrayEquals(new byte[]{1, 2, 3, 4, 5, 9, 9, 9, 0, 0}, defaultBufferWriter.getByteBuffer().data());
 	}
 
+	@Test
+	@DisplayName("Buffer write byte array range")
+	public void testWriteByteArrayRange() {
+		DefaultBufferWriter defaultBufferWriter = getDefaultBufferWriter();
+		defaultBufferWriter.write(BYTES, 2, 3);
+		assertArrayEquals(new byte[]{2, 3, 4, 0, 0, 0, 0, 0, 0, 0}, defaultBufferWriter.getByteBuffer().data());
+		assertEquals(3, defaultBufferWriter.offset());
+
+		defaultBufferWriter.invert();
+		defaultBufferWriter.write(BYTES, 5, 4);
+		assertArrayEquals(new byte[]{2, 3, 4, 8, 7, 6, 5, 0, 0, 0}, defaultBufferWriter.getByteBuffer().data());
+		assertEquals(7, defaultBufferWriter.offset());
+
+		assertThrows(BufferRuntimeException.class, () -> defaultBufferWriter.write(BYTES, 0, 4));
+		assertThrows(IndexOutOfBoundsException.class, () -> defaultBufferWriter.write(BYTES, 8, 3));
+		assertArrayEquals(new byte[]{2, 3, 4, 8, 7, 6, 5, 0, 0, 0}, defaultBufferWriter.getByteBuffer().data());
+		assertEquals(7, defaultBufferWriter.offset());
+	}
+
+	@Test
+	@DisplayName("Buffer write primitives")
+	public void testWritePrimitives() {
+		DefaultBufferWriter defaultBufferWriter = getDefaultBufferWriter();
+		defaultBufferWriter.writeShort((short) 0x0102);
+		defaultBufferWriter.writeInt(0x03040506);
+		assertArrayEquals(new byte[]{1, 2, 3, 4, 5, 6, 0, 0, 0, 0}, defaultBufferWriter.getByteBuffer().data());
+
+		defaultBufferWriter.invert();
+		defaultBufferWriter.writeShorts(new short[]{0x0708, 0x090A});
+		assertArrayEquals(new byte[]{1, 2, 3, 4, 5, 6, 8, 7, 10, 9}, defaultBufferWriter.getByteBuffer().data());
+		assertThrows(BufferRuntimeException.class, () -> defaultBufferWriter.writeInt(0));
+
+		defaultBufferWriter.reset();
+		defaultBufferWriter.writeLong(0x0102030405060708L);
+		assertArrayEquals(new byte[]{8, 7, 6, 5, 4, 3, 2, 1, 0, 0}, defaultBufferWriter.getByteBuffer().data());
+		assertThrows(BufferRuntimeException.class, () -> defaultBufferWriter.writeInts(new int[]{1}));
+		assertThrows(BufferRuntimeException.class, () -> defaultBufferWriter.writeLongs(new long[]{1}));
+		assertEquals(8, defaultBufferWriter.offset());
+	}
+
 	private DefaultBufferWriter getDefaultBufferWriter() {
 		return new DefaultBufferWriter().setByteBuffer(new DefaultByteBuffer().setBytes(new byte[10]));
 	}
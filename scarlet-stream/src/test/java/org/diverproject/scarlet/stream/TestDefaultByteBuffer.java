@@ -1,13 +1,20 @@
 package org.diverproject.scarlet.stream;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import org.diverproject.scarlet.stream.buffer.BufferRuntimeException;
 import org.diverproject.scarlet.stream.buffer.DefaultByteBuffer;
+import org.diverproject.scarlet.stream.buffer.GrowthPolicy;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+
 @DisplayName("Default Byte Buffer")
 public class TestDefaultByteBuffer {
 
@@ -25,11 +32,12 @@ public class TestDefaultByteBuffer {
 	@Test
 	@DisplayName("Clear buffer")
 	public void testClear() {
-		DefaultByteBuffer defaultByteBuffer = new DefaultByteBuffer(BYTES);
-		assertEquals(BYTES, defaultByteBuffer.getBytes());
+		byte[] bytes = BYTES.clone();
+		DefaultByteBuffer defaultByteBuffer = new DefaultByteBuffer(bytes);
+		assertEquals(bytes, defaultByteBuffer.getBytes());
 		defaultByteBuffer.clear();
-		assertNotEquals(BYTES, defaultByteBuffer.getBytes());
-		assertEquals(BYTES.length, defaultByteBuffer.getBytes().length);
+		assertSame(bytes, defaultByteBuffer.getBytes());
+		assertArrayEquals(new byte[BYTES.length], defaultByteBuffer.getBytes());
 	}
 
 	@Test
@@ -43,12 +51,30 @@ public class TestDefaultByteBuffer {
 		assertEquals(newLength, defaultByteBuffer.getBytes().length);
 	}
 
+	@Test
+	@DisplayName("Grow Buffer")
+	public void testGrow() {
+		DefaultByteBuffer defaultByteBuffer = new DefaultByteBuffer(BYTES.clone());
+		defaultByteBuffer.grow(BYTES.length);
+		assertEquals(BYTES.length, defaultByteBuffer.length());
+
+		defaultByteBuffer.grow(BYTES.length + 1);
+		assertEquals(BYTES.length * 2, defaultByteBuffer.length());
+		assertArrayEquals(BYTES, Arrays.copyOf(defaultByteBuffer.getBytes(), BYTES.length));
+
+		defaultByteBuffer.setGrowthPolicy(GrowthPolicy.linear(5)).grow(BYTES.length * 2 + 1);
+		assertEquals(BYTES.length * 2 + 5, defaultByteBuffer.length());
+
+		defaultByteBuffer.setMaxLength(30).grow(30);
+		assertEquals(30, defaultByteBuffer.length());
+		assertThrows(BufferRuntimeException.class, () -> defaultByteBuffer.grow(31));
+	}
+
 	@Test
 	@DisplayName("Length of Buffer")
 	public void testLength() {
 		int length = BYTES.length;
-		DefaultByteBuffer defaultByteBuffer = new DefaultByteBuffer(BYTES);
-		assertEquals(BYTES, defaultByteBuffer.getBytes());
+		DefaultByteBuffer defaultByteBuffer = new DefaultByteBuffer(BYTES.clone());
 		assertEquals(length, defaultByteBuffer.length());
 
 		defaultByteBuffer.clear();
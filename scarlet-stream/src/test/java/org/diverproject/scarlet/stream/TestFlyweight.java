@@ -0,0 +1,139 @@
+package org.diverproject.scarlet.stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
+import org.diverproject.scarlet.stream.buffer.BufferFactory;
+import org.diverproject.scarlet.stream.buffer.BufferInput;
+import org.diverproject.scarlet.stream.buffer.BufferOutput;
+import org.diverproject.scarlet.stream.buffer.BufferRuntimeException;
+import org.diverproject.scarlet.stream.buffer.Flyweight;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+@DisplayName("Flyweight")
+public class TestFlyweight {
+
+	@Test
+	@DisplayName("Field offsets of a fixed layout")
+	public void testOffsetOf() {
+		Flyweight<Record> flyweight = Flyweight.of(Record.class);
+		assertEquals(1 + 8 + 4 + 6 + 2 * 4 + 2, flyweight.size());
+		assertEquals(0, flyweight.offsetOf("active"));
+		assertEquals(1, flyweight.offsetOf("id"));
+		assertEquals(13, flyweight.offsetOf("name"));
+		assertEquals(19, flyweight.offsetOf("point"));
+		assertEquals(23, flyweight.offsetOf("point.y"));
+		assertThrows(StreamRuntimeException.class, () -> flyweight.offsetOf("missing"));
+		assertThrows(StreamRuntimeException.class, () -> Flyweight.of(Variable.class));
+		assertEquals(Integer.BYTES, ObjectCodec.of(Variable.class).offsetOf("after"));
+		assertThrows(StreamRuntimeException.class, () -> ObjectCodec.of(Variable.class).offsetOf("last"));
+	}
+
+	@Test
+	@DisplayName("Reading fields of records in place")
+	public void testRead() {
+		BufferOutput bufferOutput = BufferFactory.dynamicOutputOf(64);
+
+		for (int i = 0; i < 10; i++)
+			bufferOutput.put(record(i));
+
+		byte[] data = bufferOutput.flush();
+		Flyweight<Record> flyweight = Flyweight.of(Record.class).wrap(data, 0);
+		int price = flyweight.offsetOf("price");
+		int count = 0;
+		long sum = 0;
+
+		do {
+			if (flyweight.getBoolean("active")) {
+				count++;
+				sum += flyweight.getInt(price);
+			}
+		} while (flyweight.next());
+
+		assertEquals(5, count);
+		assertEquals(10 * (0 + 2 + 4 + 6 + 8), sum);
+		assertEquals(9 * flyweight.size(), flyweight.offset());
+		assertEquals("r9", flyweight.getString(flyweight.offsetOf("name"), 6));
+		assertEquals(-9, flyweight.getInt("point.y"));
+		assertEquals(record(9), flyweight.get());
+		assertThrows(BufferRuntimeException.class, () -> flyweight.moveTo(data.length));
+
+		bufferOutput.put(record(1).setName("ação"));
+		flyweight.wrap(bufferOutput.flush(), 0);
+		assertEquals(flyweight.get().getName(), flyweight.getString(flyweight.offsetOf("name"), 6));
+	}
+
+	@Test
+	@DisplayName("Reading an inverted direct buffer")
+	public void testDirect() {
+		BufferOutput bufferOutput = BufferFactory.directOutputOf(128);
+		bufferOutput.invert();
+		bufferOutput.put(record(1));
+		bufferOutput.put(record(2));
+
+		ByteBuffer view = bufferOutput.flushView();
+		Flyweight<Record> flyweight = Flyweight.of(Record.class).setInverted(true).wrap(view, 0);
+		assertEquals(1L, flyweight.getLong("id"));
+		assertTrue(flyweight.next());
+		assertEquals(2L, flyweight.getLong("id"));
+		assertEquals(20, flyweight.getInt("price"));
+		assertEquals(record(2), flyweight.get());
+		assertFalse(flyweight.next());
+
+		BufferInput bufferInput = BufferFactory.inputOf(new byte[flyweight.size()]);
+		bufferInput.invert();
+		assertTrue(Flyweight.of(Record.class).wrap(bufferInput).isInverted());
+	}
+
+	private Record record(int i) {
+		return new Record()
+			.setActive(i % 2 == 0)
+			.setId(i)
+			.setPrice(i * 10)
+			.setName("r" + i)
+			.setPoint(new Point().setX(i).setY(-i))
+			.setFlags((short) i);
+	}
+
+	@Data
+	@Accessors(chain = true)
+	@NoArgsConstructor
+	private static class Point {
+
+		private int x;
+		private int y;
+	}
+
+	@Data
+	@Accessors(chain = true)
+	@NoArgsConstructor
+	private static class Record {
+
+		private boolean active;
+		private long id;
+		private int price;
+		@ArraySize(size = 6)
+		private String name;
+		@Predefined
+		private Point point;
+		private short flags;
+	}
+
+	@Data
+	@NoArgsConstructor
+	private static class Variable {
+
+		private int first;
+		private int after;
+		private String text;
+		private int last;
+	}
+}
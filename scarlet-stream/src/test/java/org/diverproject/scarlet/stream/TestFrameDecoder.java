@@ -0,0 +1,130 @@
+package org.diverproject.scarlet.stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.diverproject.scarlet.stream.buffer.BufferFactory;
+import org.diverproject.scarlet.stream.buffer.BufferInput;
+import org.diverproject.scarlet.stream.buffer.BufferOutput;
+import org.diverproject.scarlet.stream.buffer.BufferRuntimeException;
+import org.diverproject.scarlet.stream.buffer.DefaultBufferInput;
+import org.diverproject.scarlet.stream.buffer.FrameDecoder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+@DisplayName("Frame Decoder")
+public class TestFrameDecoder {
+
+	@Test
+	@DisplayName("Fixed width length prefix")
+	public void testFixed() {
+		BufferOutput bufferOutput = BufferFactory.dynamicOutputOf(64);
+		bufferOutput.put((short) 4);
+		bufferOutput.put(0x01020304);
+		bufferOutput.put((short) 0);
+		bufferOutput.put((short) 2);
+		bufferOutput.put((short) 0x0506);
+		byte[] bytes = bufferOutput.flush();
+
+		FrameDecoder frameDecoder = FrameDecoder.fixed(Short.BYTES);
+		frameDecoder.feed(bytes, 0, 3);
+		assertNull(frameDecoder.next());
+
+		frameDecoder.feed(bytes, 3, bytes.length - 3);
+		BufferInput frame = frameDecoder.next();
+		assertEquals(4, frame.capacity());
+		assertEquals(0x01020304, frame.getInt());
+		assertEquals(0, frameDecoder.next().capacity());
+		assertEquals(0x0506, frameDecoder.next().getShort());
+		assertNull(frameDecoder.next());
+		frame.reset();
+		assertEquals(0x01020304, frame.getInt());
+		assertEquals(0, frameDecoder.pending());
+
+		frameDecoder.setMaxFrameLength(8).feed(new byte[] {0x00, 0x09});
+		assertThrows(BufferRuntimeException.class, frameDecoder::next);
+		assertThrows(BufferRuntimeException.class, () -> FrameDecoder.fixed(3));
+	}
+
+	@Test
+	@DisplayName("Varint length prefix one byte at a time")
+	public void testVarInt() {
+		byte[] payload = new byte[300];
+		for (int i = 0; i < payload.length; i++)
+			payload[i] = (byte) i;
+
+		BufferOutput bufferOutput = BufferFactory.dynamicOutputOf(64);
+		bufferOutput.putVarInt(payload.length);
+		bufferOutput.put(payload);
+		bufferOutput.putVarInt(1);
+		bufferOutput.put((byte) 0x7F);
+		byte[] bytes = bufferOutput.flush();
+
+		FrameDecoder frameDecoder = FrameDecoder.varInt();
+		List<byte[]> frames = new ArrayList<>();
+
+		for (byte value : bytes)
+			frameDecoder.feed(new byte[] {value}).decode(frame -> frames.add(frame.getBytes(frame.capacity())));
+
+		assertEquals(2, frames.size());
+		assertArrayEquals(payload, frames.get(0));
+		assertArrayEquals(new byte[] {0x7F}, frames.get(1));
+
+		frameDecoder.feed(new byte[] {(byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, 0x01});
+		assertThrows(BufferRuntimeException.class, frameDecoder::next);
+	}
+
+	@Test
+	@DisplayName("Delimiter framing with coalesced chunks")
+	public void testDelimited() {
+		FrameDecoder frameDecoder = FrameDecoder.delimited((byte) '\r', (byte) '\n');
+		List<String> lines = new ArrayList<>();
+
+		frameDecoder.feed("first\r\nsec".getBytes(StandardCharsets.US_ASCII));
+		frameDecoder.decode(frame -> lines.add(new String(frame.getBytes(frame.capacity()), StandardCharsets.US_ASCII)));
+		frameDecoder.feed("ond\r".getBytes(StandardCharsets.US_ASCII));
+		assertNull(frameDecoder.next());
+
+		frameDecoder.feed(java.nio.ByteBuffer.wrap("\n\r\nlast\r\n".getBytes(StandardCharsets.US_ASCII)));
+		assertEquals(3, frameDecoder.decode(frame -> lines.add(new String(frame.getBytes(frame.capacity()), StandardCharsets.US_ASCII))));
+		assertEquals(List.of("first", "second", "", "last"), lines);
+
+		frameDecoder.setMaxFrameLength(4).feed("overflow".getBytes(StandardCharsets.US_ASCII));
+		assertThrows(BufferRuntimeException.class, frameDecoder::next);
+	}
+
+	@Test
+	@DisplayName("Compacting instead of growing the accumulator")
+	public void testCompact() {
+		FrameDecoder frameDecoder = FrameDecoder.fixed(Byte.BYTES);
+		byte[] chunk = new byte[1000];
+
+		for (int i = 0; i < chunk.length; i += 10) {
+			chunk[i] = 9;
+			chunk[i + 1] = (byte) (i / 10);
+		}
+
+		int frames = 0;
+
+		for (int i = 0; i < 50; i++) {
+			frameDecoder.feed(chunk, 0, 995);
+			frames += frameDecoder.decode(frame -> assertEquals(9, frame.capacity()));
+			frameDecoder.feed(chunk, 995, 5);
+			frames += frameDecoder.decode(frame -> assertEquals(9, frame.capacity()));
+		}
+
+		assertEquals(5000, frames);
+		assertEquals(FrameDecoder.DEFAULT_CAPACITY, frameDecoder.capacity());
+
+		DefaultBufferInput bufferInput = (DefaultBufferInput) BufferFactory.inputOf(new byte[] {2, 0x0A, 0x0B});
+		bufferInput.invert();
+		BufferInput frame = frameDecoder.feed(bufferInput.getBufferReader()).next();
+		assertEquals(0x0A0B, frame.getShort());
+	}
+}
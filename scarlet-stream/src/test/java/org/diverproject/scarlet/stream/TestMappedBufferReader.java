@@ -0,0 +1,104 @@
+package org.diverproject.scarlet.stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.diverproject.scarlet.stream.buffer.BufferFactory;
+import org.diverproject.scarlet.stream.buffer.BufferInput;
+import org.diverproject.scarlet.stream.buffer.BufferRuntimeException;
+import org.diverproject.scarlet.stream.buffer.MappedBufferReader;
+import org.diverproject.scarlet.stream.buffer.MappedFileBuffer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+@DisplayName("Mapped Buffer Reader")
+public class TestMappedBufferReader {
+
+	private static final byte[] BYTES = new byte[] {0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19};
+
+	@TempDir
+	Path directory;
+
+	@Test
+	@DisplayName("Reading across chunks")
+	public void testReadAcrossChunks() throws IOException {
+		MappedBufferReader mappedBufferReader = this.getMappedBufferReader();
+		assertEquals(BYTES.length, mappedBufferReader.size());
+		assertEquals(0, mappedBufferReader.read());
+		assertEquals(0x0102030405060708L, mappedBufferReader.readLong());
+		assertEquals(0x090A, mappedBufferReader.readShort());
+		assertArrayEquals(new byte[] {11, 12, 13, 14, 15, 16, 17}, mappedBufferReader.read(7));
+		assertEquals(18, mappedBufferReader.offset());
+
+		mappedBufferReader.invert();
+		assertEquals(0x1312, mappedBufferReader.readShort());
+		assertTrue(mappedBufferReader.isEmpty());
+		assertThrows(BufferRuntimeException.class, mappedBufferReader::read);
+
+		mappedBufferReader.reset();
+		assertEquals(0x03020100, mappedBufferReader.readInt());
+		assertArrayEquals(new byte[] {9, 8, 7, 6, 5, 4}, mappedBufferReader.read(6));
+	}
+
+	@Test
+	@DisplayName("Mapped buffer input")
+	public void testMappedInput() throws IOException {
+		Path path = Files.write(this.directory.resolve("input.bin"), BYTES);
+		BufferInput bufferInput = BufferFactory.mappedInputOf(path);
+		assertFalse(bufferInput.getByteBuffer().hasArray());
+		assertEquals(BYTES.length, bufferInput.capacity());
+		assertEquals(0x00010203, bufferInput.getInt());
+		assertArrayEquals(new byte[] {4, 5, 6}, bufferInput.getBytes(3));
+
+		bufferInput.close();
+		assertTrue(bufferInput.isClosed());
+		assertThrows(BufferRuntimeException.class, bufferInput::getByte);
+		assertThrows(BufferRuntimeException.class, () -> bufferInput.getByteBuffer().data());
+		assertThrows(BufferRuntimeException.class, () -> new MappedFileBuffer(path, 0));
+		assertThrows(BufferRuntimeException.class, () -> new MappedFileBuffer(path, -8));
+	}
+
+	@Test
+	@DisplayName("Positioned reads past two gigabytes")
+	public void testLargePosition() throws IOException {
+		Path path = this.directory.resolve("large.bin");
+		long position = (1L << 31) + 4;
+
+		try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE, StandardOpenOption.SPARSE)) {
+			fileChannel.write(java.nio.ByteBuffer.wrap(new byte[] {1, 2, 3, 4, 5, 6, 7, 8}), position);
+		}
+
+		BufferInput bufferInput = BufferFactory.mappedInputOf(path);
+		assertEquals(0x01020304, bufferInput.getIntAt(position));
+		assertEquals(0, bufferInput.position());
+
+		bufferInput.position(position);
+		bufferInput.mark();
+		assertEquals(0x0102030405060708L, bufferInput.peekLong());
+		assertEquals(0x0102, bufferInput.getShort());
+		assertEquals(position + Short.BYTES, bufferInput.position());
+		assertThrows(BufferRuntimeException.class, bufferInput::offset);
+
+		bufferInput.rewind();
+		assertEquals(position, bufferInput.position());
+		assertEquals(1, bufferInput.peekByte());
+		assertThrows(BufferRuntimeException.class, () -> bufferInput.getIntAt(position + 6));
+		assertThrows(BufferRuntimeException.class, () -> bufferInput.position(position + 9));
+		bufferInput.close();
+	}
+
+	private MappedBufferReader getMappedBufferReader() throws IOException {
+		Path path = Files.write(this.directory.resolve("reader.bin"), BYTES);
+		return new MappedBufferReader().setByteBuffer(new MappedFileBuffer(path, 8));
+	}
+}
@@ -0,0 +1,64 @@
+package org.diverproject.scarlet.stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.diverproject.scarlet.stream.buffer.BufferFactory;
+import org.diverproject.scarlet.stream.buffer.BufferInput;
+import org.diverproject.scarlet.stream.buffer.BufferRuntimeException;
+import org.diverproject.scarlet.stream.buffer.NioBufferReader;
+import org.diverproject.scarlet.stream.buffer.NioByteBuffer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+@DisplayName("Nio Buffer Reader")
+public class TestNioBufferReader {
+
+	private static final byte[] BYTES = new byte[] {0, 1, 2, 3, 4, 5, 6, 7, 8, 9};
+
+	@Test
+	@DisplayName("Reading a direct buffer")
+	public void testRead() {
+		NioBufferReader nioBufferReader = getNioBufferReader();
+		assertEquals(0, nioBufferReader.read());
+		assertEquals(0x0102, nioBufferReader.readShort());
+		assertArrayEquals(new byte[] {3, 4}, nioBufferReader.read(2));
+
+		nioBufferReader.invert();
+		assertEquals(0x08070605, nioBufferReader.readInt());
+		assertArrayEquals(new byte[] {9}, nioBufferReader.read(1));
+		assertTrue(nioBufferReader.isEmpty());
+		assertThrows(BufferRuntimeException.class, nioBufferReader::read);
+
+		nioBufferReader.reset();
+		assertEquals(0x0706050403020100L, nioBufferReader.readLong());
+		assertArrayEquals(new byte[] {9, 8}, nioBufferReader.read(2));
+
+		nioBufferReader.close();
+		assertTrue(nioBufferReader.isClosed());
+		assertThrows(BufferRuntimeException.class, nioBufferReader::read);
+	}
+
+	@Test
+	@DisplayName("Wrapping a nio buffer")
+	public void testInputOf() {
+		BufferInput bufferInput = BufferFactory.inputOf(ByteBuffer.wrap(BYTES, 2, 6));
+		assertFalse(bufferInput.getByteBuffer().hasArray());
+		assertEquals(6, bufferInput.capacity());
+		assertEquals(0x02030405, bufferInput.getInt());
+		assertEquals(0x0607, bufferInput.getShort());
+		assertTrue(bufferInput.isEmpty());
+	}
+
+	private NioBufferReader getNioBufferReader() {
+		NioByteBuffer nioByteBuffer = NioByteBuffer.allocateDirect(BYTES.length);
+		nioByteBuffer.getBuffer().put(BYTES);
+
+		return new NioBufferReader().setByteBuffer(nioByteBuffer);
+	}
+}
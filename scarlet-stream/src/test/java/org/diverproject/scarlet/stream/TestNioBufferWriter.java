@@ -0,0 +1,72 @@
+package org.diverproject.scarlet.stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.diverproject.scarlet.stream.buffer.BufferFactory;
+import org.diverproject.scarlet.stream.buffer.BufferOutput;
+import org.diverproject.scarlet.stream.buffer.BufferRuntimeException;
+import org.diverproject.scarlet.stream.buffer.NioBufferWriter;
+import org.diverproject.scarlet.stream.buffer.NioByteBuffer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+@DisplayName("Nio Buffer Writer")
+public class TestNioBufferWriter {
+
+	@Test
+	@DisplayName("Writing a direct buffer")
+	public void testWrite() {
+		NioBufferWriter nioBufferWriter = new NioBufferWriter().setByteBuffer(NioByteBuffer.allocateDirect(10));
+		nioBufferWriter.write((byte) 1);
+		nioBufferWriter.writeShort((short) 0x0203);
+		nioBufferWriter.write(new byte[] {4, 5});
+
+		nioBufferWriter.invert();
+		nioBufferWriter.writeInt(0x09080706);
+		nioBufferWriter.write(new byte[] {10});
+		assertThrows(BufferRuntimeException.class, () -> nioBufferWriter.write((byte) 0));
+		assertArrayEquals(new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 0}, bytes(nioBufferWriter.getByteBuffer().view(0, 10), 11));
+
+		nioBufferWriter.reset();
+		assertEquals(0, nioBufferWriter.offset());
+		assertArrayEquals(new byte[10], bytes(nioBufferWriter.getByteBuffer().view(0, 10), 10));
+	}
+
+	@Test
+	@DisplayName("Growing a direct buffer")
+	public void testDynamic() {
+		NioBufferWriter nioBufferWriter = new NioBufferWriter().setByteBuffer(NioByteBuffer.allocateDirect(2)).setDynamic(true);
+		nioBufferWriter.writeLong(0x0102030405060708L);
+		nioBufferWriter.write((byte) 9);
+		assertEquals(9, nioBufferWriter.offset());
+		assertTrue(nioBufferWriter.getByteBuffer().getBuffer().isDirect());
+		assertArrayEquals(new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9}, bytes(nioBufferWriter.getByteBuffer().view(0, 9), 9));
+	}
+
+	@Test
+	@DisplayName("Flushing a direct output")
+	public void testFlush() {
+		BufferOutput bufferOutput = BufferFactory.directOutputOf(8);
+		bufferOutput.put(0x01020304);
+		ByteBuffer view = bufferOutput.flushView();
+		assertTrue(view.isDirect());
+		assertEquals(4, view.remaining());
+		assertEquals(0, bufferOutput.offset());
+
+		bufferOutput.put((short) 0x0506);
+		assertArrayEquals(new byte[] {5, 6}, bufferOutput.flush());
+		assertEquals(0x01020304, view.getInt());
+	}
+
+	private byte[] bytes(ByteBuffer view, int length) {
+		byte[] bytes = new byte[length];
+		view.get(bytes, 0, view.remaining());
+
+		return bytes;
+	}
+}
@@ -0,0 +1,409 @@
+package org.diverproject.scarlet.stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
+import org.diverproject.scarlet.stream.buffer.BufferFactory;
+import org.diverproject.scarlet.stream.buffer.BufferInput;
+import org.diverproject.scarlet.stream.buffer.BufferOutput;
+import org.diverproject.scarlet.util.Bitwise;
+import org.diverproject.scarlet.util.Bitwise16;
+import org.diverproject.scarlet.util.Bitwise8;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.BitSet;
+
+@DisplayName("Object Codec")
+public class TestObjectCodec {
+
+	@Test
+	@DisplayName("Codec cached per class")
+	public void testOf() {
+		assertSame(ObjectCodec.of(SomeObject.class), ObjectCodec.of(SomeObject.class));
+		assertSame(SomeObject.class, ObjectCodec.of(SomeObject.class).getObjectClass());
+		assertThrows(StreamRuntimeException.class, () -> ObjectCodec.of(NoEmptyConstructor.class).newInstance());
+	}
+
+	@Test
+	@DisplayName("Round trip of an object")
+	public void testRoundTrip() {
+		SomeObject someObject = new SomeObject()
+			.setByteValue((byte) 1)
+			.setShortValue((short) 2)
+			.setIntValue(3)
+			.setLongValue(4L)
+			.setFloatValue(5F)
+			.setDoubleValue(6D)
+			.setBooleanValue(true)
+			.setCharValue('7')
+			.setStringValue("eight")
+			.setIntegerValue(9)
+			.setInts(new int[] {10, 11, 12})
+			.setStrings(new String[] {"thirteen", "fourteen"})
+			.setTransientValue(15)
+			.setSomeObject(new SomeObject().setIntValue(16))
+			.setSomeObjects(new SomeObject[] {new SomeObject().setIntValue(17), null});
+
+		BufferOutput bufferOutput = BufferFactory.dynamicOutputOf(16);
+		bufferOutput.put(someObject);
+		int length = bufferOutput.offset();
+
+		BufferInput bufferInput = BufferFactory.inputOf(bufferOutput.flush());
+		SomeObject read = new SomeObject()
+			.setInts(new int[3])
+			.setStrings(new String[2])
+			.setSomeObjects(new SomeObject[2]);
+		bufferInput.getObject(read);
+
+		assertEquals(length, bufferInput.offset());
+		assertEquals(someObject.getByteValue(), read.getByteValue());
+		assertEquals(someObject.getShortValue(), read.getShortValue());
+		assertEquals(someObject.getIntValue(), read.getIntValue());
+		assertEquals(someObject.getLongValue(), read.getLongValue());
+		assertEquals(someObject.getFloatValue(), read.getFloatValue());
+		assertEquals(someObject.getDoubleValue(), read.getDoubleValue());
+		assertEquals(someObject.isBooleanValue(), read.isBooleanValue());
+		assertEquals(someObject.getCharValue(), read.getCharValue());
+		assertEquals(someObject.getStringValue(), read.getStringValue());
+		assertEquals(someObject.getIntegerValue(), read.getIntegerValue());
+		assertArrayEquals(someObject.getInts(), read.getInts());
+		assertArrayEquals(someObject.getStrings(), read.getStrings());
+		assertEquals(0, read.getTransientValue());
+		assertEquals(16, read.getSomeObject().getIntValue());
+		assertNull(read.getSomeObject().getSomeObject());
+		assertEquals(17, read.getSomeObjects()[0].getIntValue());
+		assertNull(read.getSomeObjects()[1]);
+	}
+
+	@Test
+	@DisplayName("Fixed layout from annotations")
+	public void testFixedLayout() {
+		assertEquals(Integer.BYTES + 8 + 3 * Short.BYTES + Integer.BYTES + Byte.BYTES + 2 * Integer.BYTES, ObjectCodec.of(FixedObject.class).getFixedSize());
+		assertTrue(ObjectCodec.of(FixedObject.class).isFixedSize());
+		assertFalse(ObjectCodec.of(SomeObject.class).isFixedSize());
+
+		FixedObject fixedObject = new FixedObject()
+			.setId(1)
+			.setName("ação")
+			.setShorts(new short[] {2, 3})
+			.setColor(Color.BLUE)
+			.setState(State.CLOSED)
+			.setPoint(new Point().setX(4).setY(5));
+
+		BufferOutput bufferOutput = BufferFactory.dynamicOutputOf(16);
+		bufferOutput.put(fixedObject);
+		bufferOutput.put(fixedObject.setId(6));
+		assertEquals(2 * ObjectCodec.of(FixedObject.class).getFixedSize(), bufferOutput.offset());
+
+		byte[] data = bufferOutput.flush();
+		assertEquals("ação", new String(data, 4, 6, StandardCharsets.UTF_8));
+		assertEquals(State.CLOSED.value(), data[22]);
+
+		BufferInput bufferInput = BufferFactory.inputOf(data);
+		FixedObject[] read = bufferInput.getObjects(FixedObject.class, 2);
+		assertEquals(1, read[0].getId());
+		assertEquals(6, read[1].getId());
+		assertEquals("ação", read[1].getName());
+		assertArrayEquals(new short[] {2, 3, 0}, read[1].getShorts());
+		assertEquals(Color.BLUE, read[1].getColor());
+		assertEquals(State.CLOSED, read[1].getState());
+		assertEquals(4, read[1].getPoint().getX());
+		assertEquals(5, read[1].getPoint().getY());
+	}
+
+	@Test
+	@DisplayName("Delegating to an input output")
+	public void testPredefinedIO() {
+		BufferOutput bufferOutput = BufferFactory.dynamicOutputOf(16);
+		bufferOutput.put(new Wrapper().setScale(10).setPoint(new Point().setX(1).setY(2)));
+		assertArrayEquals(new byte[] {0, 0, 0, 10, 10, 20}, bufferOutput.flush());
+
+		Wrapper wrapper = BufferFactory.inputOf(new byte[] {0, 0, 0, 10, 30, 40}).getObject(Wrapper.class);
+		assertEquals(3, wrapper.getPoint().getX());
+		assertEquals(4, wrapper.getPoint().getY());
+	}
+
+	@Test
+	@DisplayName("Varint encoded fields")
+	public void testVarInt() {
+		VarIntObject varIntObject = new VarIntObject().setCount(5).setDelta(-3L).setId(300);
+		BufferOutput bufferOutput = BufferFactory.dynamicOutputOf(16);
+		bufferOutput.put(varIntObject);
+		assertArrayEquals(new byte[] {5, 5, (byte) 0xAC, 0x02}, bufferOutput.flush());
+		assertFalse(ObjectCodec.of(VarIntObject.class).isFixedSize());
+
+		VarIntObject read = BufferFactory.inputOf(new byte[] {5, 5, (byte) 0xAC, 0x02}).getObject(VarIntObject.class);
+		assertEquals(varIntObject, read);
+		assertThrows(StreamRuntimeException.class, () -> ObjectCodec.of(BadVarIntObject.class));
+	}
+
+	@Test
+	@DisplayName("Unsupported array component type")
+	public void testUnsupportedArray() {
+		assertThrows(StreamRuntimeException.class, () -> ObjectCodec.of(MatrixObject.class));
+		assertThrows(StreamRuntimeException.class, () -> BufferFactory.dynamicOutputOf(16).put(new MatrixObject()));
+	}
+
+	@Test
+	@DisplayName("Packed bits and bitwise fields")
+	public void testPacked() {
+		boolean[] flags = new boolean[20];
+		flags[1] = true;
+		flags[19] = true;
+
+		BitSet bitSet = new BitSet();
+		bitSet.set(100);
+
+		Bitwise8 bitwise8 = new Bitwise8((byte) 0, "A", "B");
+		PackedObject packedObject = new PackedObject()
+			.setFlags(flags)
+			.setBitwise(new Bitwise(0x10))
+			.setBitwise8(new Bitwise8((byte) 0x22))
+			.setBitSet(bitSet);
+
+		assertTrue(ObjectCodec.of(FixedPackedObject.class).isFixedSize());
+		assertEquals(3 + Short.BYTES, ObjectCodec.of(FixedPackedObject.class).getFixedSize());
+
+		BufferOutput bufferOutput = BufferFactory.dynamicOutputOf(16);
+		bufferOutput.put(packedObject);
+		assertEquals(3 + Integer.BYTES + Byte.BYTES + 1 + 13, bufferOutput.offset());
+
+		PackedObject read = new PackedObject().setFlags(new boolean[20]).setBitwise8(bitwise8);
+		BufferFactory.inputOf(bufferOutput.flush()).getObject(read);
+		assertArrayEquals(flags, read.getFlags());
+		assertEquals(0x10, read.getBitwise().getValue());
+		assertSame(bitwise8, read.getBitwise8());
+		assertEquals(0x22, bitwise8.getValue());
+		assertArrayEquals(new String[] {"A", "B"}, bitwise8.getProperties());
+		assertEquals(bitSet, read.getBitSet());
+		assertThrows(StreamRuntimeException.class, () -> ObjectCodec.of(BadPackedObject.class));
+	}
+
+	@Test
+	@DisplayName("Exact serialized size")
+	public void testSizeOf() {
+		BitSet bitSet = new BitSet();
+		bitSet.set(9);
+
+		Object[] objects = new Object[] {
+			new SomeObject()
+				.setStringValue("ação")
+				.setInts(new int[] {1, 2})
+				.setStrings(new String[] {"one", null})
+				.setSomeObject(new SomeObject().setIntegerValue(3))
+				.setSomeObjects(new SomeObject[] {null, new SomeObject()}),
+			new FixedObject().setName("fixed").setPoint(new Point()),
+			new VarIntObject().setCount(300).setDelta(-70L).setId(-1),
+			new PackedObject().setFlags(new boolean[9]).setBitSet(bitSet),
+			new Wrapper().setPoint(new Point())
+		};
+
+		BufferOutput bufferOutput = BufferFactory.dynamicOutputOf(16);
+
+		for (Object object : objects) {
+			int offset = bufferOutput.offset();
+			bufferOutput.put(object);
+			assertEquals(bufferOutput.offset() - offset, StreamUtil.sizeOf(object));
+		}
+
+		assertEquals(bufferOutput.offset(), StreamUtil.sizeOf(objects));
+		assertEquals(3 * ObjectCodec.of(FixedObject.class).getFixedSize(), ObjectCodec.of(FixedObject.class).sizeOf(new FixedObject[3]));
+		assertThrows(StreamRuntimeException.class, () -> StreamUtil.sizeOf((Object) null));
+	}
+
+	@Test
+	@DisplayName("Predefined strings longer than their limit")
+	public void testPredefinedStringLength() {
+		BufferOutput bufferOutput = BufferFactory.dynamicOutputOf(16);
+		char[] chars = new char[256];
+		Arrays.fill(chars, '\u00e9');
+
+		LatinObject latinObject = new LatinObject().setName(new String(chars, 0, 255));
+		bufferOutput.put(latinObject);
+		assertEquals(Byte.BYTES + 255, bufferOutput.offset());
+		assertEquals(Byte.BYTES + 255, StreamUtil.sizeOf(latinObject));
+
+		latinObject.setName(new String(chars));
+		assertThrows(StreamRuntimeException.class, () -> StreamUtil.sizeOf(latinObject));
+		assertThrows(StreamRuntimeException.class, () -> bufferOutput.put(latinObject));
+
+		FixedObject fixedObject = new FixedObject().setName("açãoaçã").setPoint(new Point());
+		assertThrows(StreamRuntimeException.class, () -> bufferOutput.put(fixedObject));
+	}
+
+	@Data
+	@Accessors(chain = true)
+	@NoArgsConstructor
+	private static class LatinObject {
+
+		@PredefinedString("ISO-8859-1")
+		private String name;
+	}
+
+	@Data
+	@Accessors(chain = true)
+	@NoArgsConstructor
+	private static class PackedObject {
+
+		@Packed
+		private boolean[] flags;
+		private Bitwise bitwise;
+		private Bitwise8 bitwise8;
+		private BitSet bitSet;
+	}
+
+	@Data
+	@NoArgsConstructor
+	private static class FixedPackedObject {
+
+		@Packed
+		@ArraySize(size = 17)
+		private boolean[] flags;
+		private Bitwise16 bitwise16;
+	}
+
+	private static class BadPackedObject {
+
+		@Packed
+		private int[] values;
+	}
+
+	@Data
+	@Accessors(chain = true)
+	@NoArgsConstructor
+	private static class VarIntObject {
+
+		@VarInt
+		private int count;
+		@VarInt(zigZag = true)
+		private long delta;
+		@VarInt
+		private Integer id;
+	}
+
+	private static class BadVarIntObject {
+
+		@VarInt
+		private String value;
+	}
+
+	private static class MatrixObject {
+
+		private int[][] matrix;
+		private int x;
+	}
+
+	private enum Color {
+		RED, GREEN, BLUE
+	}
+
+	private enum State implements EnumStream<Byte> {
+		OPEN((byte) 10), CLOSED((byte) 20);
+
+		private final byte value;
+
+		State(byte value) {
+			this.value = value;
+		}
+
+		@Override
+		public Byte value() {
+			return this.value;
+		}
+	}
+
+	@Data
+	@Accessors(chain = true)
+	@NoArgsConstructor
+	private static class Point {
+
+		private int x;
+		private int y;
+	}
+
+	@Data
+	@Accessors(chain = true)
+	@NoArgsConstructor
+	private static class FixedObject {
+
+		private int id;
+		@ArraySize(size = 8)
+		@PredefinedString("UTF-8")
+		private String name;
+		@ArraySize(size = 3)
+		private short[] shorts;
+		private Color color;
+		private State state;
+		@Predefined
+		private Point point;
+	}
+
+	@Data
+	@Accessors(chain = true)
+	@NoArgsConstructor
+	private static class Wrapper {
+
+		private int scale;
+		@PredefinedIO(io = ScaledPointIO.class)
+		private Point point;
+	}
+
+	private static class ScaledPointIO implements InputOutput<Wrapper, Point> {
+
+		@Override
+		public void read(Input input, Wrapper source, Point object) {
+			object.setX(input.getByte() / source.getScale());
+			object.setY(input.getByte() / source.getScale());
+		}
+
+		@Override
+		public void write(Output output, Wrapper source, Point object) {
+			output.put((byte) (object.getX() * source.getScale()));
+			output.put((byte) (object.getY() * source.getScale()));
+		}
+	}
+
+	@Data
+	@Accessors(chain = true)
+	@NoArgsConstructor
+	private static class SomeObject {
+
+		private static int staticValue = 0;
+
+		private byte byteValue;
+		private short shortValue;
+		private int intValue;
+		private long longValue;
+		private float floatValue;
+		private double doubleValue;
+		private boolean booleanValue;
+		private char charValue;
+		private String stringValue;
+		private Integer integerValue;
+		private int[] ints;
+		private String[] strings;
+		private transient int transientValue;
+		private SomeObject someObject;
+		private SomeObject[] someObjects;
+	}
+
+	private static class NoEmptyConstructor {
+
+		private final int value;
+
+		private NoEmptyConstructor(int value) {
+			this.value = value;
+		}
+	}
+}
@@ -0,0 +1,81 @@
+package org.diverproject.scarlet.stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
+import org.diverproject.scarlet.stream.buffer.BufferFactory;
+import org.diverproject.scarlet.stream.buffer.BufferInput;
+import org.diverproject.scarlet.stream.buffer.BufferOutput;
+import org.diverproject.scarlet.stream.buffer.BufferPool;
+import org.diverproject.scarlet.stream.buffer.BufferRuntimeException;
+import org.diverproject.scarlet.stream.buffer.ParallelCodec;
+import org.diverproject.scarlet.stream.buffer.SegmentIndex;
+import org.diverproject.scarlet.stream.buffer.SegmentedBuffer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+@DisplayName("Parallel Codec")
+public class TestParallelCodec {
+
+	@Test
+	@DisplayName("Encoding segments in parallel")
+	public void testEncode() {
+		ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+		BufferPool bufferPool = new BufferPool().setDebug(true);
+		ParallelCodec parallelCodec = new ParallelCodec(forkJoinPool, bufferPool, 100);
+		Entry[] entries = new Entry[1050];
+
+		for (int i = 0; i < entries.length; i++)
+			entries[i] = new Entry().setId(i).setName("entry " + i).setScore(i * 0.5);
+
+		BufferOutput bufferOutput = BufferFactory.dynamicOutputOf(1024);
+		bufferOutput.put(entries);
+		byte[] expected = bufferOutput.flush();
+
+		SegmentedBuffer segmentedBuffer = parallelCodec.encode(entries);
+		SegmentIndex segmentIndex = segmentedBuffer.getSegmentIndex();
+		assertEquals(11, segmentedBuffer.segments());
+		assertEquals(expected.length, segmentedBuffer.length());
+		assertEquals(50, segmentIndex.countOf(10));
+		assertEquals(1000, segmentIndex.indexOf(10));
+		assertArrayEquals(expected, segmentedBuffer.toByteArray());
+
+		BufferInput compositeInput = BufferFactory.compositeInputOf(segmentedBuffer.toComposite());
+		assertEquals(entries[1049], compositeInput.getObjects(Entry.class, entries.length)[1049]);
+		assertArrayEquals(entries, parallelCodec.decode(segmentedBuffer, Entry.class));
+		segmentedBuffer.close();
+
+		BufferOutput indexOutput = BufferFactory.dynamicOutputOf(64);
+		segmentIndex.writeTo(indexOutput);
+		SegmentIndex readIndex = SegmentIndex.readFrom(BufferFactory.inputOf(indexOutput.flush()));
+		assertEquals(segmentIndex.length(), readIndex.length());
+		assertEquals(segmentIndex.count(), readIndex.count());
+		assertArrayEquals(entries, parallelCodec.decode(expected, readIndex, Entry.class));
+		assertThrows(BufferRuntimeException.class, () -> parallelCodec.decode(new byte[10], readIndex, Entry.class));
+
+		entries[0] = null;
+		entries[500] = null;
+		entries[1049] = null;
+		assertThrows(StreamRuntimeException.class, () -> parallelCodec.encode(entries));
+		assertEquals(0, bufferPool.getOutstanding().get());
+		assertEquals(0, parallelCodec.encode(new Entry[0]).length());
+		assertThrows(BufferRuntimeException.class, () -> new ParallelCodec(forkJoinPool, new BufferPool(), 0));
+		forkJoinPool.shutdown();
+	}
+
+	@Data
+	@Accessors(chain = true)
+	@NoArgsConstructor
+	private static class Entry {
+
+		private int id;
+		private String name;
+		private double score;
+	}
+}
@@ -0,0 +1,124 @@
+package org.diverproject.scarlet.stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.diverproject.scarlet.stream.ring.RingBuffer;
+import org.diverproject.scarlet.stream.ring.RingFactory;
+import org.diverproject.scarlet.stream.ring.RingInput;
+import org.diverproject.scarlet.stream.ring.RingOutput;
+import org.diverproject.scarlet.stream.ring.RingRuntimeException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+@DisplayName("Ring Buffer")
+public class TestRingBuffer {
+
+	@Test
+	@DisplayName("Batched publish of records")
+	public void testRecords() {
+		RingBuffer ringBuffer = new RingBuffer(64);
+		RingOutput ringOutput = RingFactory.outputOf(ringBuffer);
+		RingInput ringInput = RingFactory.inputOf(ringBuffer);
+
+		ringOutput.put(0x01020304);
+		ringOutput.putUtf8("ring");
+		ringOutput.commit();
+		ringOutput.put((byte) 5);
+		ringOutput.commit();
+		assertFalse(ringInput.next());
+
+		ringOutput.publish();
+		assertTrue(ringInput.next());
+		assertEquals(9, ringInput.capacity());
+		assertEquals(0x01020304, ringInput.getInt());
+		assertEquals("ring", ringInput.getUtf8());
+		assertThrows(RingRuntimeException.class, ringInput::getByte);
+
+		assertTrue(ringInput.next());
+		assertEquals(5, ringInput.getByte());
+		assertFalse(ringInput.next());
+		assertTrue(ringBuffer.isEmpty());
+
+		ringOutput.putVarInt(-1);
+		ringOutput.put((short) 0);
+		ringOutput.commit();
+		ringOutput.publish();
+		assertTrue(ringInput.next());
+		assertThrows(RingRuntimeException.class, ringInput::getUtf8);
+		assertEquals(5, ringInput.offset());
+		assertFalse(ringInput.next());
+
+		assertThrows(RingRuntimeException.class, () -> ringOutput.put(new byte[ringBuffer.maxRecordLength() + 1]));
+		ringOutput.getRingWriter().reset();
+
+		ringOutput.getRingWriter().close();
+		assertThrows(RingRuntimeException.class, () -> ringOutput.put(0));
+		assertFalse(ringInput.await());
+	}
+
+	@Test
+	@DisplayName("Wrapping a partially written record")
+	public void testWrap() {
+		RingBuffer ringBuffer = new RingBuffer(64);
+		RingOutput ringOutput = RingFactory.outputOf(ringBuffer);
+		RingInput ringInput = RingFactory.inputOf(ringBuffer);
+
+		for (int i = 0; i < 100; i++) {
+			ringOutput.put((short) i);
+			ringOutput.put((long) i * 31);
+			ringOutput.put((byte) i);
+			ringOutput.put(new byte[i % 13]);
+			ringOutput.commit();
+			ringOutput.publish();
+
+			assertTrue(ringInput.next());
+			assertEquals(11 + i % 13, ringInput.capacity());
+			assertEquals(i, ringInput.getShort());
+			assertEquals(i * 31L, ringInput.getLong());
+			assertEquals((byte) i, ringInput.getByte());
+			assertFalse(ringInput.next());
+		}
+	}
+
+	@Test
+	@DisplayName("Handing records between two threads")
+	public void testThreads() throws Exception {
+		int records = 200_000;
+		RingBuffer ringBuffer = new RingBuffer(1024);
+		RingOutput ringOutput = RingFactory.outputOf(ringBuffer);
+		RingInput ringInput = RingFactory.inputOf(ringBuffer);
+
+		CompletableFuture<Long> consumer = CompletableFuture.supplyAsync(() -> {
+			long sum = 0;
+
+			while (ringInput.await()) {
+				long value = ringInput.getLong();
+				assertEquals(value, ringInput.getVarLong());
+				sum += value;
+			}
+
+			return sum;
+		});
+
+		long expected = 0;
+
+		for (int i = 0; i < records; i++) {
+			ringOutput.put((long) i);
+			ringOutput.putVarLong(i);
+			ringOutput.commit();
+			expected += i;
+
+			if (i % 16 == 0)
+				ringOutput.publish();
+		}
+
+		ringOutput.getRingWriter().close();
+		assertEquals(expected, consumer.get(30, TimeUnit.SECONDS));
+	}
+}
@@ -0,0 +1,112 @@
+package org.diverproject.scarlet.stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.diverproject.scarlet.stream.ring.RingFactory;
+import org.diverproject.scarlet.stream.ring.RingRuntimeException;
+import org.diverproject.scarlet.stream.ring.SharedRingBuffer;
+import org.diverproject.scarlet.stream.ring.SharedRingInput;
+import org.diverproject.scarlet.stream.ring.SharedRingOutput;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+@DisplayName("Shared Ring Buffer")
+public class TestSharedRingBuffer {
+
+	@Test
+	@DisplayName("Claiming, committing and aborting records")
+	public void testClaim() {
+		SharedRingBuffer ringBuffer = new SharedRingBuffer(64);
+		SharedRingOutput ringOutput = RingFactory.outputOf(ringBuffer);
+		SharedRingInput ringInput = RingFactory.inputOf(ringBuffer);
+
+		assertThrows(RingRuntimeException.class, () -> ringOutput.put(1));
+
+		ringOutput.claim(12);
+		assertThrows(RingRuntimeException.class, () -> ringOutput.claim(4));
+		ringOutput.put(0x01020304);
+		ringOutput.put((short) 5);
+		assertThrows(RingRuntimeException.class, () -> ringOutput.put(6L));
+		assertFalse(ringInput.next());
+
+		ringOutput.commit();
+		ringOutput.claim(8);
+		ringOutput.put(7L);
+		ringOutput.abort();
+		ringOutput.claim(4);
+		ringOutput.put(8);
+		ringOutput.commit();
+
+		assertTrue(ringInput.next());
+		assertEquals(6, ringInput.capacity());
+		assertEquals(0x01020304, ringInput.getInt());
+		assertEquals(5, ringInput.getShort());
+		assertTrue(ringInput.next());
+		assertEquals(8, ringInput.getInt());
+		assertFalse(ringInput.next());
+
+		for (int i = 0; i < 100; i++) {
+			ringOutput.claim(i % 20);
+			ringOutput.put(new byte[i % 20]);
+			ringOutput.commit();
+			assertTrue(ringInput.next());
+			assertEquals(i % 20, ringInput.capacity());
+			assertFalse(ringInput.next());
+		}
+
+		assertThrows(RingRuntimeException.class, () -> ringOutput.claim(ringBuffer.maxRecordLength() + 1));
+	}
+
+	@Test
+	@DisplayName("Draining records from eight producers")
+	public void testProducers() throws Exception {
+		int producers = 8;
+		int records = 20_000;
+		SharedRingBuffer ringBuffer = new SharedRingBuffer(4096);
+		SharedRingInput ringInput = RingFactory.inputOf(ringBuffer);
+		ExecutorService executor = Executors.newFixedThreadPool(producers);
+		List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+		for (int p = 0; p < producers; p++) {
+			int producer = p;
+
+			futures.add(CompletableFuture.runAsync(() -> {
+				SharedRingOutput ringOutput = RingFactory.outputOf(ringBuffer);
+
+				for (int i = 0; i < records; i++) {
+					ringOutput.claim(Byte.BYTES + Integer.BYTES + producer);
+					ringOutput.put((byte) producer);
+					ringOutput.put(i);
+					ringOutput.put(new byte[producer]);
+					ringOutput.commit();
+				}
+			}, executor));
+		}
+
+		CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).whenComplete((result, e) -> ringBuffer.close());
+
+		int[] next = new int[producers];
+
+		while (ringInput.await()) {
+			int producer = ringInput.getByte();
+			assertEquals(next[producer]++, ringInput.getInt());
+			assertEquals(producer, ringInput.getBytes(producer).length);
+		}
+
+		for (int p = 0; p < producers; p++)
+			assertEquals(records, next[p]);
+
+		CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(30, TimeUnit.SECONDS);
+		executor.shutdown();
+	}
+}
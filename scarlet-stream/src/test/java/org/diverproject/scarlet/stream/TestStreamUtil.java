@@ -3,9 +3,13 @@ package org.diverproject.scarlet.stream;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import org.diverproject.scarlet.util.ArrayUtils;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
 @DisplayName("Stream Util")
 public class TestStreamUtil {
 
@@ -56,6 +60,39 @@ public class TestStreamUtil {
 		assertEquals(0x0100000000000000L, StreamUtil.longOf(ONE, ONE, ZERO, ZERO, ZERO, ZERO, ZERO, ZERO, ZERO));
 	}
 
+	@Test
+	@DisplayName("Primitives at offset")
+	public void testPrimitivesAtOffset() {
+		byte[] bytes = new byte[]{ONE, ZERO, ZERO, ZERO, ZERO, ZERO, ZERO, ZERO, ONE};
+		assertEquals(0x0100, StreamUtil.shortOf(bytes, 0, false));
+		assertEquals(0x0001, StreamUtil.shortOf(bytes, 0, true));
+		assertEquals(0x00000001, StreamUtil.intOf(bytes, 5, false));
+		assertEquals(0x01000000, StreamUtil.intOf(bytes, 5, true));
+		assertEquals(0x0000000000000001L, StreamUtil.longOf(bytes, 1, false));
+		assertEquals(0x0100000000000000L, StreamUtil.longOf(bytes, 1, true));
+	}
+
+	@Test
+	@DisplayName("Put primitives at offset")
+	public void testPutAtOffset() {
+		byte[] bytes = new byte[9];
+		StreamUtil.put(bytes, 1, (short) 0x0102, false);
+		assertArrayEquals(new byte[]{ZERO, 1, 2, ZERO, ZERO, ZERO, ZERO, ZERO, ZERO}, bytes);
+		StreamUtil.put(bytes, 3, (short) 0x0102, true);
+		assertArrayEquals(new byte[]{ZERO, 1, 2, 2, 1, ZERO, ZERO, ZERO, ZERO}, bytes);
+
+		bytes = new byte[9];
+		StreamUtil.put(bytes, 0, 0x01020304, false);
+		StreamUtil.put(bytes, 4, 0x01020304, true);
+		assertArrayEquals(new byte[]{1, 2, 3, 4, 4, 3, 2, 1, ZERO}, bytes);
+
+		bytes = new byte[9];
+		StreamUtil.put(bytes, 1, 0x0102030405060708L, false);
+		assertArrayEquals(new byte[]{ZERO, 1, 2, 3, 4, 5, 6, 7, 8}, bytes);
+		StreamUtil.put(bytes, 1, 0x0102030405060708L, true);
+		assertArrayEquals(new byte[]{ZERO, 8, 7, 6, 5, 4, 3, 2, 1}, bytes);
+	}
+
 	@Test
 	@DisplayName("Float Of")
 	public void testFloatOf() {
@@ -112,6 +149,45 @@ public class TestStreamUtil {
 		assertArrayEquals(bytes(ONE, ZERO, ZERO, ZERO, ZERO, ZERO, ZERO, ONE), StreamUtil.bytesOf(Double.longBitsToDouble(0x0100000000000001L)));
 	}
 
+	@Test
+	@DisplayName("Varint and zigzag")
+	public void testVarInt() {
+		assertEquals(1, StreamUtil.varIntSize(0));
+		assertEquals(1, StreamUtil.varIntSize(127));
+		assertEquals(2, StreamUtil.varIntSize(128));
+		assertEquals(5, StreamUtil.varIntSize(-1));
+		assertEquals(1, StreamUtil.varLongSize(0L));
+		assertEquals(10, StreamUtil.varLongSize(-1L));
+
+		byte[] bytes = new byte[10];
+		assertEquals(2, StreamUtil.putVarInt(bytes, 0, 300));
+		assertArrayEquals(bytes((byte) 0xAC, (byte) 0x02), ArrayUtils.subArray(bytes, 0, 2));
+		assertEquals(10, StreamUtil.putVarLong(bytes, 0, Long.MIN_VALUE));
+		assertEquals(1, bytes[9]);
+
+		assertEquals(0, StreamUtil.zigZag(0));
+		assertEquals(1, StreamUtil.zigZag(-1));
+		assertEquals(2, StreamUtil.zigZag(1));
+		assertEquals(-1, StreamUtil.zigZag(Integer.MIN_VALUE));
+		assertEquals(Integer.MIN_VALUE, StreamUtil.unZigZag(StreamUtil.zigZag(Integer.MIN_VALUE)));
+		assertEquals(Long.MAX_VALUE, StreamUtil.unZigZag(StreamUtil.zigZag(Long.MAX_VALUE)));
+		assertEquals(-3L, StreamUtil.unZigZag(StreamUtil.zigZag(-3L)));
+	}
+
+	@Test
+	@DisplayName("Utf8 encoding")
+	public void testUtf8() {
+		for (String value : new String[] {"", "ascii", "ação", "\u20AC", "\uD83D\uDE00 emoji", "lone \uD800 surrogate"}) {
+			byte[] expected = value.getBytes(StandardCharsets.UTF_8);
+			byte[] bytes = new byte[expected.length + 2];
+
+			assertEquals(expected.length, StreamUtil.utf8Length(value));
+			assertEquals(expected.length + 1, StreamUtil.putUtf8(bytes, 1, value));
+			assertArrayEquals(expected, Arrays.copyOfRange(bytes, 1, expected.length + 1));
+			assertEquals(new String(expected, StandardCharsets.UTF_8), StreamUtil.utf8Of(bytes, 1, expected.length));
+		}
+	}
+
 	private byte[] bytes(byte... bytes) {
 		return bytes;
 	}